@@ -3,6 +3,7 @@
 package org.opentcs.commadapter.vehicle.vda5050;
 
 import jakarta.inject.Singleton;
+import org.opentcs.commadapter.vehicle.vda5050.common.KernelObjectCache;
 import org.opentcs.commadapter.vehicle.vda5050.common.mqtt.MqttClientManager;
 import org.opentcs.commadapter.vehicle.vda5050.common.mqtt.MqttConfiguration;
 import org.opentcs.customizations.kernel.KernelInjectionModule;
@@ -29,6 +30,8 @@ public class KernelInjectionModuleImpl
             )
         );
 
+    bind(KernelObjectCache.class).in(Singleton.class);
+
     install(new org.opentcs.commadapter.vehicle.vda5050.v1_1.KernelInjectionModuleImpl());
     install(new org.opentcs.commadapter.vehicle.vda5050.v2_0.KernelInjectionModuleImpl());
 
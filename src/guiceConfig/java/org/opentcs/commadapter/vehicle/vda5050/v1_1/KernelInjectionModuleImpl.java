@@ -6,6 +6,7 @@ import com.google.inject.assistedinject.FactoryModuleBuilder;
 import jakarta.inject.Singleton;
 import org.opentcs.commadapter.vehicle.vda5050.Vda5050CommAdapterFactory;
 import org.opentcs.commadapter.vehicle.vda5050.v1_1.CommAdapterFactory.V1dot1;
+import org.opentcs.commadapter.vehicle.vda5050.v1_1.ordermapping.PropertyActionsCache;
 import org.opentcs.customizations.kernel.KernelInjectionModule;
 
 public class KernelInjectionModuleImpl
@@ -21,6 +22,7 @@ public class KernelInjectionModuleImpl
   @Override
   protected void configure() {
     bind(MessageValidator.class).in(Singleton.class);
+    bind(PropertyActionsCache.class).in(Singleton.class);
 
     bind(Vda5050CommAdapterFactory.class)
         .annotatedWith(V1dot1.class)
@@ -5,6 +5,7 @@ package org.opentcs.commadapter.vehicle.vda5050.v2_0;
 import com.google.inject.assistedinject.FactoryModuleBuilder;
 import jakarta.inject.Singleton;
 import org.opentcs.commadapter.vehicle.vda5050.Vda5050CommAdapterFactory;
+import org.opentcs.commadapter.vehicle.vda5050.v2_0.ordermapping.PropertyActionsCache;
 import org.opentcs.customizations.kernel.KernelInjectionModule;
 
 public class KernelInjectionModuleImpl
@@ -20,6 +21,7 @@ public class KernelInjectionModuleImpl
   @Override
   protected void configure() {
     bind(MessageValidator.class).in(Singleton.class);
+    bind(PropertyActionsCache.class).in(Singleton.class);
 
     bind(Vda5050CommAdapterFactory.class)
         .annotatedWith(CommAdapterFactory.V2dot0.class)
@@ -0,0 +1,107 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.commadapter.vehicle.vda5050.v2_0;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.util.concurrent.TimeUnit;
+import org.everit.json.schema.Schema;
+import org.everit.json.schema.loader.SchemaLoader;
+import org.json.JSONObject;
+import org.json.JSONTokener;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opentcs.commadapter.vehicle.vda5050.common.JsonBinder;
+import org.opentcs.commadapter.vehicle.vda5050.v2_0.message.state.State;
+import org.opentcs.commadapter.vehicle.vda5050.v2_0.message.visualization.Visualization;
+
+/**
+ * Compares ways of validating and decoding incoming messages.
+ * <p>
+ * The {@code everitThenJackson} benchmark reproduces the previous approach, in which a payload was
+ * decoded to a string, parsed into an org.json object for validation with the everit library and
+ * then parsed again by Jackson for binding. The {@code singleParse} benchmark parses a payload into
+ * a Jackson tree once, validates the tree and binds the message from it. {@code bindOnly} serves
+ * as a baseline with validation disabled.
+ * </p>
+ * <p>
+ * Run with {@code ./gradlew jmh}.
+ * </p>
+ */
+@org.openjdk.jmh.annotations.State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IncomingMessageDecodingBenchmark {
+
+  @Param({"state", "visualization"})
+  public String messageType;
+
+  private Class<?> messageClass;
+  private byte[] payload;
+  private Schema everitSchema;
+  private MessageValidator messageValidator;
+  private JsonBinder jsonBinder;
+
+  @Setup(Level.Trial)
+  public void setUp()
+      throws IOException {
+    String schemaPath;
+    switch (messageType) {
+      case "state" -> {
+        messageClass = State.class;
+        schemaPath = State.JSON_SCHEMA_PATH;
+      }
+      case "visualization" -> {
+        messageClass = Visualization.class;
+        schemaPath = Visualization.JSON_SCHEMA_PATH;
+      }
+      default -> throw new IllegalArgumentException("Unknown message type: " + messageType);
+    }
+
+    try (InputStream in
+        = IncomingMessageDecodingBenchmark.class.getResourceAsStream(messageType + ".json")) {
+      payload = in.readAllBytes();
+    }
+    try (Reader reader = new InputStreamReader(messageClass.getResourceAsStream(schemaPath))) {
+      everitSchema = SchemaLoader.load(new JSONObject(new JSONTokener(reader)));
+    }
+    messageValidator = new MessageValidator();
+    jsonBinder = new JsonBinder();
+  }
+
+  @Benchmark
+  public Object everitThenJackson() {
+    String json = new String(payload, UTF_8);
+    everitSchema.validate(new JSONObject(json));
+    return jsonBinder.fromJson(json, messageClass);
+  }
+
+  @Benchmark
+  public Object singleParse() {
+    JsonNode tree = jsonBinder.readTree(payload);
+    messageValidator.validate(tree, messageClass);
+    return jsonBinder.fromJson(tree, messageClass);
+  }
+
+  @Benchmark
+  public Object bindOnly() {
+    return jsonBinder.fromJson(payload, messageClass);
+  }
+}
@@ -0,0 +1,93 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.commadapter.vehicle.vda5050.v2_0;
+
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opentcs.commadapter.vehicle.vda5050.common.JsonValidator;
+import org.opentcs.commadapter.vehicle.vda5050.v2_0.message.connection.Connection;
+import org.opentcs.commadapter.vehicle.vda5050.v2_0.message.instantactions.InstantActions;
+import org.opentcs.commadapter.vehicle.vda5050.v2_0.message.order.Order;
+import org.opentcs.commadapter.vehicle.vda5050.v2_0.message.state.State;
+import org.opentcs.commadapter.vehicle.vda5050.v2_0.message.visualization.Visualization;
+
+/**
+ * Measures the cost of creating the message validators when attaching drivers to a fleet of
+ * vehicles.
+ * <p>
+ * The {@code compilePerVehicle} benchmark reproduces the previous approach, in which all schemas
+ * were read and compiled for every vehicle. The {@code shareCompiledSchemas} benchmark creates
+ * validators sharing the schemas compiled only once.
+ * </p>
+ * <p>
+ * Run with {@code ./gradlew jmh}. To also compare the heap allocated per fleet (see
+ * {@code gc.alloc.rate.norm}), which is retained for as long as the drivers exist, run the
+ * benchmarks with JMH's GC profiler ({@code -prof gc}).
+ * </p>
+ */
+@org.openjdk.jmh.annotations.State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MessageValidatorCreationBenchmark {
+
+  @Param({"500"})
+  public int vehicleCount;
+
+  @Benchmark
+  public List<JsonValidator> compilePerVehicle() {
+    List<JsonValidator> validators = new ArrayList<>(vehicleCount);
+    for (int i = 0; i < vehicleCount; i++) {
+      validators.add(
+          new JsonValidator(
+              Map.of(
+                  Connection.class,
+                  new InputStreamReader(
+                      Connection.class.getResourceAsStream(Connection.JSON_SCHEMA_PATH)
+                  ),
+                  InstantActions.class,
+                  new InputStreamReader(
+                      InstantActions.class.getResourceAsStream(InstantActions.JSON_SCHEMA_PATH)
+                  ),
+                  Order.class,
+                  new InputStreamReader(
+                      Order.class.getResourceAsStream(Order.JSON_SCHEMA_PATH)
+                  ),
+                  State.class,
+                  new InputStreamReader(
+                      State.class.getResourceAsStream(State.JSON_SCHEMA_PATH)
+                  ),
+                  Visualization.class,
+                  new InputStreamReader(
+                      Visualization.class.getResourceAsStream(Visualization.JSON_SCHEMA_PATH)
+                  )
+              )
+          )
+      );
+    }
+    return validators;
+  }
+
+  @Benchmark
+  public List<JsonValidator> shareCompiledSchemas() {
+    List<JsonValidator> validators = new ArrayList<>(vehicleCount);
+    for (int i = 0; i < vehicleCount; i++) {
+      validators.add(new MessageValidator());
+    }
+    return validators;
+  }
+}
@@ -0,0 +1,180 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.commadapter.vehicle.vda5050.v2_0;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opentcs.commadapter.vehicle.vda5050.common.KernelObjectCache;
+import org.opentcs.commadapter.vehicle.vda5050.v2_0.message.order.Order;
+import org.opentcs.commadapter.vehicle.vda5050.v2_0.ordermapping.NodeMapping;
+import org.opentcs.commadapter.vehicle.vda5050.v2_0.ordermapping.OrderMapper;
+import org.opentcs.commadapter.vehicle.vda5050.v2_0.ordermapping.PropertyActionsCache;
+import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Pose;
+import org.opentcs.data.model.Triple;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.DriveOrder;
+import org.opentcs.data.order.Route;
+import org.opentcs.data.order.Route.Step;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.drivers.vehicle.MovementCommand;
+import org.opentcs.util.event.EventSource;
+
+/**
+ * Measures the cost of mapping all movement commands of a route to orders.
+ * <p>
+ * The {@code mapperPerCommand} benchmark maps every command with a new mapper, so the rest of the
+ * route is mapped again for every command's horizon, as it was done previously. The
+ * {@code sharedMapper} benchmark maps all commands with the same mapper, which maps the route only
+ * once and takes every command's horizon from it.
+ * </p>
+ * <p>
+ * Run with {@code ./gradlew jmh}.
+ * </p>
+ */
+@org.openjdk.jmh.annotations.State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderMappingBenchmark {
+
+  @Param({"200"})
+  public int stepCount;
+
+  private Vehicle vehicle;
+  private KernelObjectCache objectCache;
+  private List<MovementCommand> commands;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    TransportOrder transportOrder = new TransportOrder("transport-order", List.of())
+        .withCurrentDriveOrderIndex(0);
+    vehicle = new Vehicle("vehicle")
+        .withPose(new Pose(new Triple(0, 0, 0), Double.NaN))
+        .withTransportOrder(transportOrder.getReference())
+        .withProperty(ObjectProperties.PROPKEY_VEHICLE_DEVIATION_XY, "0.5");
+    Map<TCSObjectReference<?>, Object> objects = Map.of(
+        vehicle.getReference(), vehicle,
+        transportOrder.getReference(), transportOrder
+    );
+    TCSObjectService objectService = (TCSObjectService) Proxy.newProxyInstance(
+        TCSObjectService.class.getClassLoader(),
+        new Class<?>[]{TCSObjectService.class},
+        (proxy, method, args) -> Optional.ofNullable(objects.get(args[1]))
+    );
+    EventSource eventSource = (EventSource) Proxy.newProxyInstance(
+        EventSource.class.getClassLoader(),
+        new Class<?>[]{EventSource.class},
+        (proxy, method, args) -> null
+    );
+    objectCache = new KernelObjectCache(objectService, eventSource);
+    objectCache.initialize();
+
+    List<Point> points = new ArrayList<>();
+    for (int i = 0; i <= stepCount; i++) {
+      Point point = new Point("point-" + i)
+          .withPose(new Pose(new Triple(i * 1000L, 0, 0), 90.0));
+      if (i % 5 == 0) {
+        point = point
+            .withProperty(ObjectProperties.PROPKEY_CUSTOM_ACTION_PREFIX + ".01", "beep")
+            .withProperty(ObjectProperties.PROPKEY_CUSTOM_ACTION_PREFIX + ".01.when", "PASSING");
+      }
+      points.add(point);
+    }
+
+    List<Step> steps = new ArrayList<>();
+    for (int i = 0; i < stepCount; i++) {
+      Path path = new Path(
+          "path-" + i,
+          points.get(i).getReference(),
+          points.get(i + 1).getReference()
+      )
+          .withMaxVelocity(1000)
+          .withMaxReverseVelocity(500)
+          .withProperty(ObjectProperties.PROPKEY_CUSTOM_ACTION_PREFIX + ".01", "honk");
+      steps.add(
+          new Step(path, points.get(i), points.get(i + 1), Vehicle.Orientation.FORWARD, i, 1)
+      );
+    }
+
+    DriveOrder driveOrder = new DriveOrder(
+        "drive-order",
+        new DriveOrder.Destination(points.get(stepCount).getReference())
+    )
+        .withRoute(new Route(steps));
+
+    commands = new ArrayList<>(stepCount);
+    for (Step step : steps) {
+      commands.add(
+          new MovementCommand(
+              transportOrder,
+              driveOrder,
+              step,
+              MovementCommand.NO_OPERATION,
+              null,
+              step.getRouteIndex() == stepCount - 1,
+              null,
+              points.get(stepCount),
+              MovementCommand.NO_OPERATION,
+              Map.of()
+          )
+      );
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    objectCache.terminate();
+  }
+
+  @Benchmark
+  public List<Order> mapperPerCommand() {
+    List<Order> orders = new ArrayList<>(commands.size());
+    for (MovementCommand command : commands) {
+      orders.add(createMapper().toOrder(command));
+    }
+    return orders;
+  }
+
+  @Benchmark
+  public List<Order> sharedMapper() {
+    OrderMapper mapper = createMapper();
+    List<Order> orders = new ArrayList<>(commands.size());
+    for (MovementCommand command : commands) {
+      orders.add(mapper.toOrder(command));
+    }
+    return orders;
+  }
+
+  private OrderMapper createMapper() {
+    return new OrderMapper(
+        vehicle.getReference(),
+        actionTag -> true,
+        new DeviationExtensionTrigger(vehicle),
+        objectCache,
+        new NodeMapping(),
+        new PropertyActionsCache()
+    );
+  }
+}
@@ -0,0 +1,78 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.commadapter.vehicle.vda5050.v2_0;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+
+/**
+ * Measures the cost of looking up the map ID and allowed deviations for points via a
+ * {@link VehicleProfile}, as done for every node mapped and for every position deviation check.
+ * <p>
+ * Every point has a few unrelated properties, and only some of them override the vehicle's
+ * values, as is typical for plant models.
+ * </p>
+ * <p>
+ * Run with {@code ./gradlew jmh}.
+ * </p>
+ */
+@org.openjdk.jmh.annotations.State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PointLookupBenchmark {
+
+  @Param({"1000"})
+  public int pointCount;
+
+  private VehicleProfile profile;
+  private List<Point> points;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    profile = VehicleProfile.of(
+        new Vehicle("vehicle")
+            .withProperty(ObjectProperties.PROPKEY_VEHICLE_MAP_ID, "map")
+            .withProperty(ObjectProperties.PROPKEY_VEHICLE_DEVIATION_XY, "0.5")
+            .withProperty(ObjectProperties.PROPKEY_VEHICLE_DEVIATION_THETA, "10")
+    );
+
+    points = new ArrayList<>(pointCount);
+    for (int i = 0; i < pointCount; i++) {
+      Point point = new Point("point-" + i)
+          .withProperty(ObjectProperties.PROPKEY_CUSTOM_ACTION_PREFIX + ".01", "beep")
+          .withProperty(ObjectProperties.PROPKEY_CUSTOM_ACTION_PREFIX + ".01.when", "PASSING")
+          .withProperty("description", "point number " + i);
+      if (i % 10 == 0) {
+        point = point.withProperty(ObjectProperties.PROPKEY_POINT_DEVIATION_XY, "0.9");
+      }
+      points.add(point);
+    }
+  }
+
+  @Benchmark
+  public void lookUpPointValues(Blackhole blackhole) {
+    for (Point point : points) {
+      blackhole.consume(profile.getMapId(point));
+      blackhole.consume(profile.getDeviationXY(point));
+      blackhole.consume(profile.getDeviationTheta(point));
+    }
+  }
+}
@@ -5,10 +5,13 @@ package org.opentcs.commadapter.vehicle.vda5050;
 import static java.util.Objects.requireNonNull;
 
 import jakarta.inject.Inject;
+import jakarta.inject.Provider;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import org.opentcs.commadapter.vehicle.vda5050.common.KernelObjectCache;
+import org.opentcs.commadapter.vehicle.vda5050.common.mqtt.MqttClientManager;
 import org.opentcs.commadapter.vehicle.vda5050.v1_1.CommAdapterFactory.V1dot1;
 import org.opentcs.commadapter.vehicle.vda5050.v2_0.CommAdapterFactory.V2dot0;
 import org.opentcs.data.model.Vehicle;
@@ -41,6 +44,18 @@ public class CommAdapterFactoryImpl
    * The version-specific factories.
    */
   private final Map<String, Vda5050CommAdapterFactory> factories = new HashMap<>();
+  /**
+   * Provides the objects fetched from the kernel to the comm adapters.
+   */
+  private final KernelObjectCache objectCache;
+  /**
+   * Provides the MQTT client manager shared by the comm adapters.
+   */
+  private final Provider<MqttClientManager> clientManagerProvider;
+  /**
+   * Whether any comm adapter (and thus the MQTT client manager) has been created.
+   */
+  private volatile boolean adapterCreated;
   /**
    * This component's initialized flag.
    */
@@ -52,6 +67,8 @@ public class CommAdapterFactoryImpl
    * @param configuration The configuration of the comm adapter.
    * @param commAdapterFactory1dot1 The factory to create a comm adapter version 1.1.
    * @param commAdapterFactory2dot0 The factory to create a comm adapter version 2.0.
+   * @param objectCache Provides the objects fetched from the kernel to the comm adapters.
+   * @param clientManagerProvider Provides the MQTT client manager shared by the comm adapters.
    */
   @Inject
   public CommAdapterFactoryImpl(
@@ -59,11 +76,15 @@ public class CommAdapterFactoryImpl
       @V1dot1
       Vda5050CommAdapterFactory commAdapterFactory1dot1,
       @V2dot0
-      Vda5050CommAdapterFactory commAdapterFactory2dot0
+      Vda5050CommAdapterFactory commAdapterFactory2dot0,
+      KernelObjectCache objectCache,
+      Provider<MqttClientManager> clientManagerProvider
   ) {
     requireNonNull(configuration, "configuration");
     requireNonNull(commAdapterFactory1dot1, "commAdapterFactory1dot1");
     requireNonNull(commAdapterFactory2dot0, "commAdapterFactory2dot0");
+    this.objectCache = requireNonNull(objectCache, "objectCache");
+    this.clientManagerProvider = requireNonNull(clientManagerProvider, "clientManagerProvider");
 
     List<String> enabledVersions = configuration.enabledVersions().stream()
         .map(entry -> entry.trim())
@@ -94,6 +115,7 @@ public class CommAdapterFactoryImpl
       LOG.debug("Already initialized.");
       return;
     }
+    objectCache.initialize();
     initialized = true;
   }
 
@@ -108,6 +130,12 @@ public class CommAdapterFactoryImpl
       LOG.debug("Not initialized.");
       return;
     }
+    objectCache.terminate();
+    // Only terminate the client manager if it has been created, i.e. avoid creating it (and
+    // connecting to the broker) just for terminating it.
+    if (adapterCreated) {
+      clientManagerProvider.get().terminate();
+    }
     initialized = false;
   }
 
@@ -127,11 +155,15 @@ public class CommAdapterFactoryImpl
   public VehicleCommAdapter getAdapterFor(Vehicle vehicle) {
     requireNonNull(vehicle, "vehicle");
 
-    return List.of(VER_STRING_2_0, VER_STRING_1_1).stream()
+    VehicleCommAdapter adapter = List.of(VER_STRING_2_0, VER_STRING_1_1).stream()
         .map(version -> factories.get(version))
         .filter(factory -> factory.providesAdapterFor(vehicle))
         .map(factory -> factory.getAdapterFor(vehicle))
         .findFirst()
         .orElse(null);
+    if (adapter != null) {
+      adapterCreated = true;
+    }
+    return adapter;
   }
 }
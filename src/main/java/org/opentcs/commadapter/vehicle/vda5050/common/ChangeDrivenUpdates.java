@@ -0,0 +1,120 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.commadapter.vehicle.vda5050.common;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Applies updates (e.g. to a vehicle's process model) only if the updated value actually changed.
+ * <p>
+ * Every update in the kernel fires change events and may be propagated to remote clients, while
+ * most of the values reported by a vehicle change only rarely. Updates are therefore suppressed if
+ * the value to be set equals the current one. For values that are expensive to compute, changes
+ * are detected based on a cheap digest of the value's sources instead, so the value itself is only
+ * computed if the digest changed since the last update with the same key.
+ * </p>
+ * <p>
+ * Instances are not thread-safe, except for {@link #getSuppressedUpdatesCount()}.
+ * </p>
+ */
+public class ChangeDrivenUpdates {
+
+  /**
+   * The digests of the values last applied, mapped by update key.
+   */
+  private final Map<String, Object> digests = new HashMap<>();
+  /**
+   * The number of updates suppressed so far.
+   */
+  private final AtomicLong suppressedUpdatesCount = new AtomicLong();
+
+  /**
+   * Creates a new instance.
+   */
+  public ChangeDrivenUpdates() {
+  }
+
+  /**
+   * Applies the given value unless it equals the current value.
+   *
+   * @param <T> The type of the value.
+   * @param currentValue The current value.
+   * @param newValue The value to be applied.
+   * @param updater Applies the value.
+   */
+  public <T> void update(
+      @Nullable
+      T currentValue,
+      @Nullable
+      T newValue,
+      @Nonnull
+      Consumer<T> updater
+  ) {
+    requireNonNull(updater, "updater");
+
+    if (Objects.equals(currentValue, newValue)) {
+      suppressedUpdatesCount.incrementAndGet();
+      return;
+    }
+    updater.accept(newValue);
+  }
+
+  /**
+   * Computes and applies a value unless the digest of its sources equals the one of the value
+   * last applied with the given key.
+   *
+   * @param <T> The type of the value.
+   * @param key The update key.
+   * @param digest The digest of the value's sources. Digests are compared using
+   * {@link Object#equals(Object)}.
+   * @param value Computes the value to be applied.
+   * @param updater Applies the value.
+   */
+  public <T> void update(
+      @Nonnull
+      String key,
+      @Nullable
+      Object digest,
+      @Nonnull
+      Supplier<T> value,
+      @Nonnull
+      Consumer<T> updater
+  ) {
+    requireNonNull(key, "key");
+    requireNonNull(value, "value");
+    requireNonNull(updater, "updater");
+
+    if (digests.containsKey(key) && Objects.equals(digests.get(key), digest)) {
+      suppressedUpdatesCount.incrementAndGet();
+      return;
+    }
+    updater.accept(value.get());
+    digests.put(key, digest);
+  }
+
+  /**
+   * Forgets the digests of all values applied so far, so the next update for every key is applied
+   * regardless of its digest.
+   */
+  public void reset() {
+    digests.clear();
+  }
+
+  /**
+   * Returns the number of updates suppressed so far.
+   *
+   * @return The number of suppressed updates.
+   */
+  public long getSuppressedUpdatesCount() {
+    return suppressedUpdatesCount.get();
+  }
+}
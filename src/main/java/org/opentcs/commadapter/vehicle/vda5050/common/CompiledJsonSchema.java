@@ -0,0 +1,412 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.commadapter.vehicle.vda5050.common;
+
+import static java.util.Objects.requireNonNull;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * A JSON schema compiled for validating Jackson trees.
+ * <p>
+ * Only the subset of JSON Schema (draft 07) used by the VDA5050 schemas is supported, i.e. the
+ * keywords {@code type}, {@code properties}, {@code required}, {@code additionalProperties},
+ * {@code items}, {@code enum}, {@code minimum} and {@code maximum}. Schemas using any other
+ * assertion or applicator keyword (e.g. {@code $ref}, {@code pattern} or {@code oneOf}) are
+ * rejected when compiling them, as silently ignoring such a keyword would make the validation more
+ * lenient than required. As with any JSON schema validator, annotations (e.g. {@code title}) and
+ * unknown keywords are ignored.
+ * </p>
+ */
+final class CompiledJsonSchema {
+
+  private static final int TYPE_NULL = 1;
+  private static final int TYPE_BOOLEAN = 1 << 1;
+  private static final int TYPE_OBJECT = 1 << 2;
+  private static final int TYPE_ARRAY = 1 << 3;
+  private static final int TYPE_NUMBER = 1 << 4;
+  private static final int TYPE_INTEGER = 1 << 5;
+  private static final int TYPE_STRING = 1 << 6;
+  /**
+   * The assertion and applicator keywords (up to JSON Schema 2020-12) that are not supported.
+   */
+  private static final Set<String> UNSUPPORTED_KEYWORDS = Set.of(
+      "$ref",
+      "$dynamicRef",
+      "$recursiveRef",
+      "multipleOf",
+      "exclusiveMinimum",
+      "exclusiveMaximum",
+      "minLength",
+      "maxLength",
+      "pattern",
+      "format",
+      "prefixItems",
+      "additionalItems",
+      "unevaluatedItems",
+      "minItems",
+      "maxItems",
+      "uniqueItems",
+      "contains",
+      "minContains",
+      "maxContains",
+      "minProperties",
+      "maxProperties",
+      "patternProperties",
+      "unevaluatedProperties",
+      "propertyNames",
+      "dependencies",
+      "dependentRequired",
+      "dependentSchemas",
+      "const",
+      "allOf",
+      "anyOf",
+      "oneOf",
+      "not",
+      "if",
+      "then",
+      "else"
+  );
+  /**
+   * A schema accepting any input.
+   */
+  private static final CompiledJsonSchema ACCEPTING_ALL
+      = new CompiledJsonSchema();
+  /**
+   * A bit mask of the accepted types, or zero, if all types are accepted.
+   */
+  private final int types;
+  /**
+   * The schemas of the known properties of an object, mapped by property name.
+   */
+  private final Map<String, CompiledJsonSchema> properties;
+  /**
+   * The names of the properties required to be present in an object.
+   */
+  private final List<String> required;
+  /**
+   * The schema of properties not listed in {@link #properties}, or {@code null}, if such
+   * properties are not allowed.
+   */
+  private final CompiledJsonSchema additionalProperties;
+  /**
+   * The schema of the elements of an array.
+   */
+  private final CompiledJsonSchema items;
+  /**
+   * The accepted values, or {@code null}, if any value is accepted.
+   */
+  private final Set<JsonNode> enumValues;
+  /**
+   * The inclusive lower limit for numbers, or {@code null}, if there is none.
+   */
+  private final Double minimum;
+  /**
+   * The inclusive upper limit for numbers, or {@code null}, if there is none.
+   */
+  private final Double maximum;
+
+  private CompiledJsonSchema() {
+    this.types = 0;
+    this.properties = Map.of();
+    this.required = List.of();
+    this.additionalProperties = this;
+    this.items = null;
+    this.enumValues = null;
+    this.minimum = null;
+    this.maximum = null;
+  }
+
+  private CompiledJsonSchema(
+      int types,
+      Map<String, CompiledJsonSchema> properties,
+      List<String> required,
+      @Nullable
+      CompiledJsonSchema additionalProperties,
+      @Nullable
+      CompiledJsonSchema items,
+      @Nullable
+      Set<JsonNode> enumValues,
+      @Nullable
+      Double minimum,
+      @Nullable
+      Double maximum
+  ) {
+    this.types = types;
+    this.properties = properties;
+    this.required = required;
+    this.additionalProperties = additionalProperties;
+    this.items = items;
+    this.enumValues = enumValues;
+    this.minimum = minimum;
+    this.maximum = maximum;
+  }
+
+  /**
+   * Compiles the given JSON schema.
+   *
+   * @param schema The JSON schema.
+   * @return The compiled schema.
+   * @throws IllegalArgumentException If the given schema is malformed, uses an unsupported keyword
+   * or rejects all inputs.
+   */
+  @Nonnull
+  static CompiledJsonSchema compile(
+      @Nonnull
+      JsonNode schema
+  )
+      throws IllegalArgumentException {
+    requireNonNull(schema, "schema");
+
+    CompiledJsonSchema result = compileOrReject(schema);
+    if (result == null) {
+      throw new IllegalArgumentException("Unsupported schema rejecting all inputs: " + schema);
+    }
+    return result;
+  }
+
+  /**
+   * Compiles the given JSON schema.
+   *
+   * @param schema The JSON schema.
+   * @return The compiled schema, or {@code null}, if the schema rejects all inputs.
+   * @throws IllegalArgumentException If the given schema is malformed or uses an unsupported
+   * keyword.
+   */
+  @Nullable
+  private static CompiledJsonSchema compileOrReject(JsonNode schema)
+      throws IllegalArgumentException {
+    if (schema.isBoolean()) {
+      return schema.booleanValue() ? ACCEPTING_ALL : null;
+    }
+    if (!schema.isObject()) {
+      throw new IllegalArgumentException("Schema is neither an object nor a boolean: " + schema);
+    }
+    for (Map.Entry<String, JsonNode> entry : schema.properties()) {
+      if (UNSUPPORTED_KEYWORDS.contains(entry.getKey())) {
+        throw new IllegalArgumentException(
+            "Unsupported keyword '" + entry.getKey() + "': " + schema
+        );
+      }
+    }
+    if (schema.path("items").isArray()) {
+      throw new IllegalArgumentException("Unsupported tuple validation: " + schema);
+    }
+
+    Map<String, CompiledJsonSchema> properties = new HashMap<>();
+    for (Map.Entry<String, JsonNode> entry : schema.path("properties").properties()) {
+      properties.put(entry.getKey(), compile(entry.getValue()));
+    }
+
+    List<String> required = new ArrayList<>();
+    schema.path("required").forEach(name -> required.add(name.asText()));
+
+    Set<JsonNode> enumValues = null;
+    if (schema.has("enum")) {
+      enumValues = new HashSet<>();
+      schema.get("enum").forEach(enumValues::add);
+    }
+
+    return new CompiledJsonSchema(
+        toTypeMask(schema.get("type")),
+        Map.copyOf(properties),
+        List.copyOf(required),
+        schema.has("additionalProperties")
+            ? compileOrReject(schema.get("additionalProperties"))
+            : ACCEPTING_ALL,
+        schema.has("items") ? compile(schema.get("items")) : null,
+        enumValues,
+        schema.has("minimum") ? schema.get("minimum").doubleValue() : null,
+        schema.has("maximum") ? schema.get("maximum").doubleValue() : null
+    );
+  }
+
+  /**
+   * Checks whether the given input is valid according to this schema.
+   *
+   * @param node The input.
+   * @return {@code true} if, and only if, the input is valid.
+   */
+  boolean isValid(
+      @Nonnull
+      JsonNode node
+  ) {
+    return collectViolations(node, null, null);
+  }
+
+  /**
+   * Collects descriptions of the violations of this schema by the given input.
+   *
+   * @param node The input.
+   * @return Descriptions of all violations, each starting with a JSON pointer to the offending
+   * element. Empty if the input is valid.
+   */
+  @Nonnull
+  List<String> getViolations(
+      @Nonnull
+      JsonNode node
+  ) {
+    List<String> violations = new ArrayList<>();
+    collectViolations(node, "#", violations);
+    return violations;
+  }
+
+  /**
+   * Validates the given input.
+   * <p>
+   * For valid inputs - i.e. in the common case - this does not allocate anything. Pointers to the
+   * offending elements are only built when violations are to be collected.
+   * </p>
+   *
+   * @param node The input.
+   * @param pointer A JSON pointer to the input, or {@code null}, if violations are not collected.
+   * @param violations The list to add violations to, or {@code null}, to return on the first
+   * violation.
+   * @return {@code true} if, and only if, the input is valid.
+   */
+  private boolean collectViolations(
+      JsonNode node,
+      String pointer,
+      List<String> violations
+  ) {
+    if (types != 0 && (typeOf(node) & types) == 0) {
+      return violation(violations, pointer, "expected type " + typeNames() + ", found " + node);
+    }
+    if (enumValues != null && !enumValues.contains(node)) {
+      return violation(violations, pointer, node + " is not a valid enum value");
+    }
+
+    boolean valid = true;
+    if (node.isNumber()) {
+      double value = node.doubleValue();
+      if (minimum != null && value < minimum) {
+        valid = violation(violations, pointer, node + " is not greater or equal to " + minimum);
+      }
+      if (maximum != null && value > maximum) {
+        valid = violation(violations, pointer, node + " is not less or equal to " + maximum);
+      }
+    }
+    else if (node.isObject()) {
+      valid = collectObjectViolations(node, pointer, violations);
+    }
+    else if (node.isArray() && items != null) {
+      for (int i = 0; i < node.size() && (valid || violations != null); i++) {
+        valid &= items.collectViolations(
+            node.get(i),
+            violations == null ? null : pointer + "/" + i,
+            violations
+        );
+      }
+    }
+    return valid;
+  }
+
+  private boolean collectObjectViolations(
+      JsonNode node,
+      String pointer,
+      List<String> violations
+  ) {
+    boolean valid = true;
+    for (int i = 0; i < required.size(); i++) {
+      if (!node.has(required.get(i))) {
+        valid = violation(violations, pointer, "required key [" + required.get(i) + "] not found");
+        if (violations == null) {
+          return false;
+        }
+      }
+    }
+
+    for (Map.Entry<String, JsonNode> field : node.properties()) {
+      CompiledJsonSchema propertySchema = properties.get(field.getKey());
+      if (propertySchema == null) {
+        propertySchema = additionalProperties;
+      }
+      if (propertySchema == null) {
+        valid = violation(
+            violations, pointer, "extraneous key [" + field.getKey() + "] is not permitted"
+        );
+      }
+      else {
+        valid &= propertySchema.collectViolations(
+            field.getValue(),
+            violations == null ? null : pointer + "/" + field.getKey(),
+            violations
+        );
+      }
+      if (!valid && violations == null) {
+        return false;
+      }
+    }
+    return valid;
+  }
+
+  private static boolean violation(List<String> violations, String pointer, String description) {
+    if (violations != null) {
+      violations.add(pointer + ": " + description);
+    }
+    return false;
+  }
+
+  private static int typeOf(JsonNode node) {
+    return switch (node.getNodeType()) {
+      case NULL -> TYPE_NULL;
+      case BOOLEAN -> TYPE_BOOLEAN;
+      case OBJECT -> TYPE_OBJECT;
+      case ARRAY -> TYPE_ARRAY;
+      case NUMBER -> isIntegral(node) ? TYPE_NUMBER | TYPE_INTEGER : TYPE_NUMBER;
+      case STRING -> TYPE_STRING;
+      default -> 0;
+    };
+  }
+
+  private static boolean isIntegral(JsonNode node) {
+    // According to the specification, numbers with a zero fractional part are integers, too.
+    return node.isIntegralNumber() || node.canConvertToExactIntegral();
+  }
+
+  private static int toTypeMask(JsonNode typeNode) {
+    if (typeNode == null) {
+      return 0;
+    }
+    if (typeNode.isArray()) {
+      int mask = 0;
+      for (JsonNode element : typeNode) {
+        mask |= toTypeMask(element.asText());
+      }
+      return mask;
+    }
+    return toTypeMask(typeNode.asText());
+  }
+
+  private static int toTypeMask(String typeName) {
+    return switch (typeName) {
+      case "null" -> TYPE_NULL;
+      case "boolean" -> TYPE_BOOLEAN;
+      case "object" -> TYPE_OBJECT;
+      case "array" -> TYPE_ARRAY;
+      case "number" -> TYPE_NUMBER;
+      case "integer" -> TYPE_INTEGER;
+      case "string" -> TYPE_STRING;
+      default -> throw new IllegalArgumentException("Unknown type: " + typeName);
+    };
+  }
+
+  private String typeNames() {
+    List<String> names = new ArrayList<>();
+    String[] allNames = {"null", "boolean", "object", "array", "number", "integer", "string"};
+    for (int i = 0; i < allNames.length; i++) {
+      if ((types & (1 << i)) != 0) {
+        names.add(allNames[i]);
+      }
+    }
+    return String.join("|", names);
+  }
+}
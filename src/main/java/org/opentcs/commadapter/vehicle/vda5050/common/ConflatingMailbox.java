@@ -0,0 +1,168 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.commadapter.vehicle.vda5050.common;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import javax.annotation.Nonnull;
+
+/**
+ * Passes messages on to a consumer via an executor, conflating messages that do not indicate any
+ * progress while the consumer lags behind.
+ * <p>
+ * For every message, a progress key is extracted (e.g. the states of the nodes, edges and actions
+ * of the current order). A message waiting to be passed on is replaced by a newer one if both have
+ * equal progress keys, as the newer one then carries all the information relevant for tracking
+ * progress, too. Messages with differing progress keys are always passed on, in the order they
+ * were offered in. Hence, the number of messages waiting is bounded by the number of progress
+ * steps instead of the number of messages received.
+ * </p>
+ * <p>
+ * At most one task per mailbox is submitted to the executor at any time, and messages are never
+ * passed on concurrently.
+ * </p>
+ *
+ * @param <T> The type of messages.
+ */
+public class ConflatingMailbox<T> {
+
+  /**
+   * Extracts the progress key from a message.
+   */
+  private final Function<T, ?> progressExtractor;
+  /**
+   * Executes the tasks passing on messages.
+   */
+  private final Executor executor;
+  /**
+   * Receives the messages passed on.
+   */
+  private final Consumer<T> consumer;
+  /**
+   * The messages waiting to be passed on, oldest first.
+   */
+  private final Deque<Entry<T>> entries = new ArrayDeque<>();
+  /**
+   * Whether a task passing on messages is currently submitted or running.
+   */
+  private boolean drainScheduled;
+  /**
+   * The number of messages discarded by being replaced with a newer one.
+   */
+  private final AtomicLong conflatedCount = new AtomicLong();
+
+  /**
+   * Creates a new instance.
+   *
+   * @param progressExtractor Extracts the progress key from a message. Keys are compared using
+   * {@link Object#equals(Object)}.
+   * @param executor Executes the tasks passing on messages.
+   * @param consumer Receives the messages passed on.
+   */
+  public ConflatingMailbox(
+      @Nonnull
+      Function<T, ?> progressExtractor,
+      @Nonnull
+      Executor executor,
+      @Nonnull
+      Consumer<T> consumer
+  ) {
+    this.progressExtractor = requireNonNull(progressExtractor, "progressExtractor");
+    this.executor = requireNonNull(executor, "executor");
+    this.consumer = requireNonNull(consumer, "consumer");
+  }
+
+  /**
+   * Offers the given message for being passed on.
+   *
+   * @param message The message.
+   */
+  public void offer(
+      @Nonnull
+      T message
+  ) {
+    requireNonNull(message, "message");
+
+    Object progress = progressExtractor.apply(message);
+    boolean submitDrain;
+    synchronized (this) {
+      Entry<T> newest = entries.peekLast();
+      if (newest != null && Objects.equals(newest.progress(), progress)) {
+        entries.pollLast();
+        conflatedCount.incrementAndGet();
+      }
+      entries.addLast(new Entry<>(message, progress));
+      submitDrain = !drainScheduled;
+      drainScheduled = true;
+    }
+
+    if (submitDrain) {
+      executor.execute(this::drain);
+    }
+  }
+
+  /**
+   * Discards all messages not yet passed on.
+   */
+  public synchronized void clear() {
+    entries.clear();
+  }
+
+  /**
+   * Returns the number of messages discarded so far by being replaced with a newer one.
+   *
+   * @return The number of conflated messages.
+   */
+  public long getConflatedCount() {
+    return conflatedCount.get();
+  }
+
+  private void drain() {
+    // Only pass on the messages already waiting, so a continuous stream of messages for one
+    // mailbox does not block the executor for others.
+    int budget;
+    synchronized (this) {
+      budget = entries.size();
+    }
+
+    try {
+      for (int i = 0; i < budget; i++) {
+        Entry<T> entry;
+        synchronized (this) {
+          entry = entries.pollFirst();
+        }
+        if (entry == null) {
+          break;
+        }
+        consumer.accept(entry.message());
+      }
+    }
+    finally {
+      boolean resubmit;
+      synchronized (this) {
+        resubmit = !entries.isEmpty();
+        drainScheduled = resubmit;
+      }
+      if (resubmit) {
+        executor.execute(this::drain);
+      }
+    }
+  }
+
+  /**
+   * A message waiting to be passed on, along with its progress key.
+   *
+   * @param message The message.
+   * @param progress The message's progress key.
+   * @param <T> The type of the message.
+   */
+  private record Entry<T>(T message, Object progress) {
+  }
+}
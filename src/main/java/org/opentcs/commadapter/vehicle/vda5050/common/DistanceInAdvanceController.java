@@ -7,39 +7,166 @@ import static org.opentcs.util.Assertions.checkInRange;
 
 import com.google.inject.Inject;
 import com.google.inject.assistedinject.Assisted;
-import java.util.List;
+import java.util.Collection;
 import javax.annotation.Nonnull;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.Route;
 import org.opentcs.drivers.vehicle.MovementCommand;
 
 /**
- * Checks if the comm adapter can accept the next command based on the distance.
+ * Checks if the comm adapter can accept the next command based on the distance and the travel time
+ * covered by the commands queued.
+ * <p>
+ * The distance and travel time covered are kept as running totals that are updated whenever a
+ * command is enqueued or executed, so checking them does not require iterating over the queued
+ * commands.
+ * </p>
+ * <p>
+ * The travel time of a command is {@link TravelTimes#estimate(Route.Step, int, int) estimated}
+ * from its path's length and the maximum velocities of the path and the vehicle. This way, fast
+ * segments allow more commands to be accepted than slow ones. Paths for which neither a path nor a
+ * vehicle velocity is set do not add to the travel time covered.
+ * </p>
  */
 public class DistanceInAdvanceController {
+
   /**
    * The maximum distance (in mm) that may be covered by the movement commands the comm adapter
    * receives in advance.
    */
   private final long maxDistanceInAdvance;
+  /**
+   * The maximum travel time (in ms) that may be covered by the movement commands the comm adapter
+   * receives in advance.
+   */
+  private final long maxTravelTimeInAdvance;
+  /**
+   * The vehicle's maximum velocity (in mm/s), or 0, if not set.
+   */
+  private final int vehicleMaxVelocity;
+  /**
+   * The vehicle's maximum reverse velocity (in mm/s), or 0, if not set.
+   */
+  private final int vehicleMaxReverseVelocity;
+  /**
+   * The number of commands queued.
+   */
+  private int commandCount;
+  /**
+   * The distance (in mm) covered by the commands queued.
+   */
+  private long distanceCovered;
+  /**
+   * The travel time (in ms) covered by the commands queued.
+   */
+  private long travelTimeCovered;
 
+  /**
+   * Creates a new instance.
+   *
+   * @param maxDistanceInAdvance The maximum distance (in mm) that may be covered in advance.
+   * @param maxTravelTimeInAdvance The maximum travel time (in ms) that may be covered in advance.
+   * @param vehicle The vehicle.
+   */
   @Inject
   public DistanceInAdvanceController(
+      @Assisted("maxDistanceInAdvance")
+      long maxDistanceInAdvance,
+      @Assisted("maxTravelTimeInAdvance")
+      long maxTravelTimeInAdvance,
       @Assisted
-      long maxDistanceInAdvance
+      @Nonnull
+      Vehicle vehicle
   ) {
     this.maxDistanceInAdvance = checkInRange(maxDistanceInAdvance, 1, Long.MAX_VALUE);
+    this.maxTravelTimeInAdvance = checkInRange(maxTravelTimeInAdvance, 1, Long.MAX_VALUE);
+    requireNonNull(vehicle, "vehicle");
+    this.vehicleMaxVelocity = vehicle.getMaxVelocity();
+    this.vehicleMaxReverseVelocity = vehicle.getMaxReverseVelocity();
+  }
+
+  /**
+   * Adds the given command to the totals covered.
+   *
+   * @param command The command that was enqueued.
+   */
+  public synchronized void onCommandEnqueued(
+      @Nonnull
+      MovementCommand command
+  ) {
+    requireNonNull(command, "command");
+
+    commandCount++;
+    distanceCovered += distance(command);
+    travelTimeCovered += travelTime(command);
+  }
+
+  /**
+   * Removes the given command from the totals covered.
+   *
+   * @param command The command that was executed.
+   */
+  public synchronized void onCommandExecuted(
+      @Nonnull
+      MovementCommand command
+  ) {
+    requireNonNull(command, "command");
+
+    commandCount--;
+    distanceCovered -= distance(command);
+    travelTimeCovered -= travelTime(command);
+  }
+
+  /**
+   * Resets the totals covered, e.g. after the command queue was cleared.
+   */
+  public synchronized void clear() {
+    commandCount = 0;
+    distanceCovered = 0;
+    travelTimeCovered = 0;
   }
 
-  public boolean canAcceptNextCommand(
+  /**
+   * Checks if the next command can be accepted.
+   * <p>
+   * The given queues are only used to verify that the totals covered are up to date. If the number
+   * of commands queued differs from the number of commands this controller was notified about, the
+   * totals are computed from the queues again.
+   * </p>
+   *
+   * @param unsentCommands The commands queued, but not yet sent to the vehicle.
+   * @param sentCommands The commands sent to the vehicle, but not yet executed.
+   * @return Whether the next command can be accepted.
+   */
+  public synchronized boolean canAcceptNextCommand(
+      @Nonnull
+      Collection<MovementCommand> unsentCommands,
       @Nonnull
-      List<MovementCommand> queuedCommands
+      Collection<MovementCommand> sentCommands
   ) {
-    requireNonNull(queuedCommands, "queuedCommands");
-    long distanceCovered = queuedCommands.stream()
-        .map(MovementCommand::getStep)
-        .filter(step -> step.getPath() != null)
-        .mapToLong(step -> step.getPath().getLength())
-        .sum();
-
-    return distanceCovered < maxDistanceInAdvance;
+    requireNonNull(unsentCommands, "unsentCommands");
+    requireNonNull(sentCommands, "sentCommands");
+
+    if (commandCount != unsentCommands.size() + sentCommands.size()) {
+      clear();
+      unsentCommands.forEach(this::onCommandEnqueued);
+      sentCommands.forEach(this::onCommandEnqueued);
+    }
+
+    return distanceCovered < maxDistanceInAdvance && travelTimeCovered < maxTravelTimeInAdvance;
+  }
+
+  private long distance(MovementCommand command) {
+    Path path = command.getStep().getPath();
+    return path == null ? 0 : path.getLength();
+  }
+
+  private long travelTime(MovementCommand command) {
+    return TravelTimes.estimate(
+        command.getStep(),
+        vehicleMaxVelocity,
+        vehicleMaxReverseVelocity
+    );
   }
 }
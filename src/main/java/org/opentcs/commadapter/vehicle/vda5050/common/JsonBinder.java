@@ -4,32 +4,49 @@ package org.opentcs.commadapter.vehicle.vda5050.common;
 
 import static java.util.Objects.requireNonNull;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.filter.FilteringGeneratorDelegate;
+import com.fasterxml.jackson.core.filter.TokenFilter;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import java.io.IOException;
-import java.util.function.Function;
+import java.io.StringWriter;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 /**
  * Binds JSON strings to objects and vice versa.
- * Optionally, a filter can be applied before serializing to JSON.
+ * Optionally, a filter can be applied while serializing to JSON.
  */
 public class JsonBinder {
 
   /**
    * Maps between objects and their JSON representations.
+   * Its configuration never changes, so it is shared by all instances (along with the serializers
+   * and deserializers it caches).
    */
-  private final ObjectMapper objectMapper
+  private static final ObjectMapper OBJECT_MAPPER
       = new ObjectMapper()
           .registerModule(new JavaTimeModule())
           .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
           .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-
-  private Function<JsonNode, JsonNode> filter = Function.identity();
+  /**
+   * Writes compact JSON output.
+   */
+  private static final ObjectWriter COMPACT_WRITER = OBJECT_MAPPER.writer();
+  /**
+   * Writes pretty-printed JSON output.
+   */
+  private static final ObjectWriter PRETTY_WRITER = OBJECT_MAPPER.writerWithDefaultPrettyPrinter();
+  /**
+   * The filter applied while serializing to JSON.
+   */
+  private TokenFilter filter = TokenFilter.INCLUDE_ALL;
 
   /**
    * Creates a new instance.
@@ -38,13 +55,13 @@ public class JsonBinder {
   }
 
   /**
-   * Sets the filter that will be applied before serializing to JSON.
+   * Sets the filter that will be applied while serializing to JSON.
    *
    * @param filter The filter to be applied.
    */
   public void setFilter(
       @Nonnull
-      Function<JsonNode, JsonNode> filter
+      TokenFilter filter
   ) {
     this.filter = requireNonNull(filter, "filter");
   }
@@ -62,7 +79,48 @@ public class JsonBinder {
   public <T> T fromJson(String jsonString, Class<T> clazz)
       throws IllegalArgumentException {
     try {
-      return objectMapper.readValue(jsonString, clazz);
+      return OBJECT_MAPPER.readValue(jsonString, clazz);
+    }
+    catch (IOException exc) {
+      throw new IllegalArgumentException("Could not parse JSON input", exc);
+    }
+  }
+
+  /**
+   * Maps the given UTF-8 encoded JSON input to an object.
+   *
+   * @param <T> The type of object to map to.
+   * @param json The UTF-8 encoded JSON input.
+   * @param clazz The type of object to map to.
+   * @return The object created from the JSON input.
+   * @throws IllegalArgumentException In case there was a problem mapping the given object from
+   * JSON.
+   */
+  public <T> T fromJson(byte[] json, Class<T> clazz)
+      throws IllegalArgumentException {
+    try {
+      return OBJECT_MAPPER.readValue(json, clazz);
+    }
+    catch (IOException exc) {
+      throw new IllegalArgumentException("Could not parse JSON input", exc);
+    }
+  }
+
+  /**
+   * Parses the given UTF-8 encoded JSON input to a tree.
+   * <p>
+   * The tree can be validated and then mapped to an object via {@link #fromJson(JsonNode, Class)},
+   * so the input only needs to be parsed once.
+   * </p>
+   *
+   * @param json The UTF-8 encoded JSON input.
+   * @return The tree.
+   * @throws IllegalArgumentException In case the given input could not be parsed.
+   */
+  public JsonNode readTree(byte[] json)
+      throws IllegalArgumentException {
+    try {
+      return OBJECT_MAPPER.readTree(json);
     }
     catch (IOException exc) {
       throw new IllegalArgumentException("Could not parse JSON input", exc);
@@ -70,8 +128,28 @@ public class JsonBinder {
   }
 
   /**
-   * Applies the filter set via {@link #setFilter(Function)} and maps the given
-   * object to a JSON string.
+   * Maps the given JSON tree to an object.
+   *
+   * @param <T> The type of object to map to.
+   * @param json The JSON tree.
+   * @param clazz The type of object to map to.
+   * @return The object created from the JSON tree.
+   * @throws IllegalArgumentException In case there was a problem mapping the given object from
+   * JSON.
+   */
+  public <T> T fromJson(JsonNode json, Class<T> clazz)
+      throws IllegalArgumentException {
+    try {
+      return OBJECT_MAPPER.treeToValue(json, clazz);
+    }
+    catch (JsonProcessingException exc) {
+      throw new IllegalArgumentException("Could not parse JSON input", exc);
+    }
+  }
+
+  /**
+   * Maps the given object to a compact JSON string, applying the filter set via
+   * {@link #setFilter(TokenFilter)}.
    *
    * @param object The object to be mapped.
    * @return The JSON string representation of the object.
@@ -79,13 +157,122 @@ public class JsonBinder {
    */
   public String toJson(Object object)
       throws IllegalArgumentException {
+    return toJson(object, COMPACT_WRITER);
+  }
+
+  /**
+   * Maps the given object to a pretty-printed JSON string, applying the filter set via
+   * {@link #setFilter(TokenFilter)}.
+   * This is meant for presenting messages to humans, e.g. in user interfaces.
+   *
+   * @param object The object to be mapped.
+   * @return The JSON string representation of the object.
+   * @throws IllegalArgumentException In case there was a problem mapping the given object to JSON.
+   */
+  public String toPrettyJson(Object object)
+      throws IllegalArgumentException {
+    return toJson(object, PRETTY_WRITER);
+  }
+
+  /**
+   * Maps the given object to a compact JSON string, as it would be written as the value (or an
+   * array element of the value) of the given property of a message, applying the part of the filter
+   * set via {@link #setFilter(TokenFilter)} that applies to that property.
+   * This allows messages to be assembled from fragments serialized separately.
+   *
+   * @param object The object to be mapped.
+   * @param propertyName The name of the message property the object belongs to.
+   * @return The JSON string representation of the object, or {@code null}, if the filter excludes
+   * the property completely.
+   * @throws IllegalArgumentException In case there was a problem mapping the given object to JSON.
+   */
+  @Nullable
+  public String toJsonFragment(
+      @Nonnull
+      Object object,
+      @Nonnull
+      String propertyName
+  )
+      throws IllegalArgumentException {
+    requireNonNull(object, "object");
+    requireNonNull(propertyName, "propertyName");
+
+    TokenFilter propertyFilter = filter == TokenFilter.INCLUDE_ALL
+        ? TokenFilter.INCLUDE_ALL
+        : filter.includeProperty(propertyName);
+    if (propertyFilter == null) {
+      return null;
+    }
+    return toJson(object, COMPACT_WRITER, propertyFilter);
+  }
+
+  /**
+   * Maps the given object to a compact JSON string, applying the filter set via
+   * {@link #setFilter(TokenFilter)}, and records the shape of the output.
+   *
+   * @param object The object to be mapped.
+   * @return The JSON string representation of the object, along with the fingerprint of its shape
+   * (see {@link MessageShapeGenerator}).
+   * @throws IllegalArgumentException In case there was a problem mapping the given object to JSON.
+   */
+  ShapedJson toShapedJson(Object object)
+      throws IllegalArgumentException {
     try {
-      return objectMapper
-          .writerWithDefaultPrettyPrinter()
-          .writeValueAsString(filter.apply(objectMapper.valueToTree(object)));
+      StringWriter output = new StringWriter();
+      MessageShapeGenerator shapeGenerator
+          = new MessageShapeGenerator(COMPACT_WRITER.createGenerator(output));
+      try (JsonGenerator generator = applyFilter(shapeGenerator, filter)) {
+        COMPACT_WRITER.writeValue(generator, object);
+      }
+      return new ShapedJson(output.toString(), shapeGenerator.getShapeFingerprint());
     }
-    catch (JsonProcessingException exc) {
+    catch (IOException exc) {
+      throw new IllegalArgumentException("Could not produce JSON output", exc);
+    }
+  }
+
+  private String toJson(Object object, ObjectWriter writer)
+      throws IllegalArgumentException {
+    return toJson(object, writer, filter);
+  }
+
+  private String toJson(Object object, ObjectWriter writer, TokenFilter filter)
+      throws IllegalArgumentException {
+    try {
+      if (filter == TokenFilter.INCLUDE_ALL) {
+        return writer.writeValueAsString(object);
+      }
+
+      StringWriter output = new StringWriter();
+      try (JsonGenerator generator = applyFilter(writer.createGenerator(output), filter)) {
+        writer.writeValue(generator, object);
+      }
+      return output.toString();
+    }
+    catch (IOException exc) {
       throw new IllegalArgumentException("Could not produce JSON output", exc);
     }
   }
+
+  private static JsonGenerator applyFilter(JsonGenerator generator, TokenFilter filter) {
+    if (filter == TokenFilter.INCLUDE_ALL) {
+      return generator;
+    }
+    // Filter while streaming the output, without building an intermediate tree.
+    return new FilteringGeneratorDelegate(
+        generator,
+        filter,
+        TokenFilter.Inclusion.INCLUDE_ALL_AND_PATH,
+        true
+    );
+  }
+
+  /**
+   * A JSON string along with the fingerprint of its shape.
+   *
+   * @param json The JSON string.
+   * @param shapeFingerprint The fingerprint of the JSON string's shape.
+   */
+  record ShapedJson(String json, long shapeFingerprint) {
+  }
 }
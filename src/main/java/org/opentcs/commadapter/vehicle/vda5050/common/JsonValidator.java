@@ -3,26 +3,51 @@
 package org.opentcs.commadapter.vehicle.vda5050.common;
 
 import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkArgument;
 import static org.opentcs.util.Assertions.checkState;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.IOException;
 import java.io.Reader;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
-import org.everit.json.schema.Schema;
-import org.everit.json.schema.ValidationException;
-import org.everit.json.schema.loader.SchemaLoader;
-import org.json.JSONException;
-import org.json.JSONObject;
-import org.json.JSONTokener;
 
 /**
  * Validates JSON inputs against registered schemas.
+ * <p>
+ * Schemas are compiled once when creating an instance. Inputs are validated on Jackson trees, so a
+ * tree parsed for validation can also be used for binding the input to an object afterwards, e.g.
+ * via {@link JsonBinder#fromJson(JsonNode, Class)}.
+ * </p>
+ * <p>
+ * The compiled schemas are immutable. They can be shared by any number of validators (see
+ * {@link #JsonValidator(JsonValidator, int)}), which may additionally restrict validation to a
+ * sample of the inputs.
+ * </p>
  */
 public class JsonValidator {
 
-  private final Map<Class<?>, Schema> schemasByClass;
+  /**
+   * Parses schemas and JSON inputs given as strings or bytes.
+   */
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+  /**
+   * The compiled schemas, mapped by the JSON binding classes they belong to.
+   */
+  private final Map<Class<?>, CompiledJsonSchema> schemasByClass;
+  /**
+   * Of the inputs for a JSON binding class, only every n-th input is to be validated.
+   */
+  private final int sampleInterval;
+  /**
+   * The number of inputs seen so far, mapped by JSON binding class.
+   * Only used with a sample interval greater than one.
+   */
+  private final Map<Class<?>, AtomicLong> inputCounters = new ConcurrentHashMap<>();
 
   /**
    * Creates a new instance.
@@ -40,8 +65,60 @@ public class JsonValidator {
 
     schemasByClass = schemaReadersByClass.entrySet().stream()
         .collect(
-            Collectors.toMap(entry -> entry.getKey(), entry -> createSchema(entry.getValue()))
+            Collectors.toUnmodifiableMap(
+                entry -> entry.getKey(),
+                entry -> createSchema(entry.getValue())
+            )
         );
+    sampleInterval = 1;
+  }
+
+  /**
+   * Creates a new instance sharing the compiled schemas of the given validator.
+   * <p>
+   * Creating an instance this way is cheap, as no schemas are read or compiled.
+   * </p>
+   *
+   * @param schemaSource The validator whose compiled schemas are to be used.
+   * @param sampleInterval Of the inputs for a JSON binding class, only every n-th input is to be
+   * validated (see {@link #shouldValidate(Class)}). A value of 1 means every input is validated.
+   * @throws IllegalArgumentException If the sample interval is less than 1.
+   */
+  protected JsonValidator(
+      @Nonnull
+      JsonValidator schemaSource,
+      int sampleInterval
+  )
+      throws IllegalArgumentException {
+    requireNonNull(schemaSource, "schemaSource");
+    checkArgument(sampleInterval >= 1, "sampleInterval < 1: %s", sampleInterval);
+
+    this.schemasByClass = schemaSource.schemasByClass;
+    this.sampleInterval = sampleInterval;
+  }
+
+  /**
+   * Indicates whether the next input for the given JSON binding class is to be validated.
+   * <p>
+   * Callers may use this to skip validating - and, if possible, even parsing the input into a tree
+   * - for inputs that are not to be validated. Note that each call counts as one input for the
+   * given class when sampling inputs.
+   * </p>
+   *
+   * @param clazz The JSON binding class.
+   * @return {@code true} if, and only if, the next input is to be validated.
+   */
+  public boolean shouldValidate(
+      @Nonnull
+      Class<?> clazz
+  ) {
+    requireNonNull(clazz, "clazz");
+
+    if (sampleInterval == 1) {
+      return true;
+    }
+    return inputCounters.computeIfAbsent(clazz, c -> new AtomicLong())
+        .getAndIncrement() % sampleInterval == 0;
   }
 
   /**
@@ -64,30 +141,87 @@ public class JsonValidator {
     requireNonNull(json, "json");
     requireNonNull(clazz, "clazz");
 
-    Schema schema = schemasByClass.get(clazz);
-    checkState(schema != null, "Schema not registered for class %s", clazz.getName());
+    try {
+      validate(OBJECT_MAPPER.readTree(json), clazz);
+    }
+    catch (IOException e) {
+      throw new IllegalArgumentException("Invalid JSON input", e);
+    }
+  }
+
+  /**
+   * Validates the given UTF-8 encoded JSON input against a schema registered for the given JSON
+   * binding class.
+   *
+   * @param json The UTF-8 encoded JSON input.
+   * @param clazz The JSON binding class.
+   * @throws IllegalStateException If a schema is not registered for the given class.
+   * @throws IllegalArgumentException If the given JSON input is not valid for the schema registered
+   * for the given class.
+   */
+  public void validate(
+      @Nonnull
+      byte[] json,
+      @Nonnull
+      Class<?> clazz
+  )
+      throws IllegalStateException,
+        IllegalArgumentException {
+    requireNonNull(json, "json");
+    requireNonNull(clazz, "clazz");
 
     try {
-      schema.validate(new JSONObject(json));
+      validate(OBJECT_MAPPER.readTree(json), clazz);
+    }
+    catch (IOException e) {
+      throw new IllegalArgumentException("Invalid JSON input", e);
+    }
+  }
+
+  /**
+   * Validates the given (already parsed) JSON input against a schema registered for the given JSON
+   * binding class.
+   *
+   * @param json The JSON input.
+   * @param clazz The JSON binding class.
+   * @throws IllegalStateException If a schema is not registered for the given class.
+   * @throws IllegalArgumentException If the given JSON input is not valid for the schema registered
+   * for the given class.
+   */
+  public void validate(
+      @Nonnull
+      JsonNode json,
+      @Nonnull
+      Class<?> clazz
+  )
+      throws IllegalStateException,
+        IllegalArgumentException {
+    requireNonNull(json, "json");
+    requireNonNull(clazz, "clazz");
+
+    CompiledJsonSchema schema = schemasByClass.get(clazz);
+    checkState(schema != null, "Schema not registered for class %s", clazz.getName());
+
+    if (json.isMissingNode()) {
+      throw new IllegalArgumentException("Empty JSON input");
     }
-    catch (ValidationException e) {
+
+    // Checking validity first is cheap, and descriptive messages are only needed for invalid input.
+    if (!schema.isValid(json)) {
       throw new IllegalArgumentException(
-          e.getMessage() + '\n' + String.join("\n", e.getAllMessages()),
-          e
+          "Input is not valid for schema of " + clazz.getSimpleName() + '\n'
+              + String.join("\n", schema.getViolations(json))
       );
     }
-    catch (JSONException e) {
-      throw new IllegalArgumentException("Invalid JSON input", e);
-    }
   }
 
-  private static Schema createSchema(
+  private static CompiledJsonSchema createSchema(
       @Nonnull
       Reader schemaReader
   )
       throws IllegalArgumentException {
     try (schemaReader) {
-      return SchemaLoader.load(new JSONObject(new JSONTokener(schemaReader)));
+      return CompiledJsonSchema.compile(OBJECT_MAPPER.readTree(schemaReader));
     }
     catch (IOException e) {
       throw new IllegalArgumentException("Exception reading JSON schema", e);
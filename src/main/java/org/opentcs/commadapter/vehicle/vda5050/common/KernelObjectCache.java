@@ -0,0 +1,227 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.commadapter.vehicle.vda5050.common;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.inject.Inject;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import javax.annotation.Nonnull;
+import org.opentcs.components.Lifecycle;
+import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.customizations.ApplicationEventBus;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.util.event.EventHandler;
+import org.opentcs.util.event.EventSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A read-through cache for objects fetched from the kernel.
+ * <p>
+ * Fetching an object from the kernel's object service requires acquiring the kernel's lock. As
+ * objects are immutable, the ones fetched via this cache are kept and returned for subsequent
+ * requests, instead. Cached objects are replaced or removed with the kernel's object events, so
+ * the cache always provides the objects' current states.
+ * </p>
+ * <p>
+ * As long as this cache is not initialized, it does not receive any object events. In that case,
+ * all requests are passed through to the object service.
+ * </p>
+ */
+public class KernelObjectCache
+    implements
+      Lifecycle,
+      EventHandler {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(KernelObjectCache.class);
+  /**
+   * The object service to fetch objects from.
+   */
+  private final TCSObjectService objectService;
+  /**
+   * The event source providing the kernel's object events.
+   */
+  private final EventSource eventSource;
+  /**
+   * The cached objects, mapped by their classes and names.
+   */
+  private final Map<Key, TCSObject<?>> objects = new ConcurrentHashMap<>();
+  /**
+   * The number of object events received so far.
+   * Used to detect objects modified while they were fetched from the object service.
+   */
+  private long eventCount;
+  /**
+   * This component's initialized flag.
+   */
+  private volatile boolean initialized;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param objectService The object service to fetch objects from.
+   * @param eventSource The event source providing the kernel's object events.
+   */
+  @Inject
+  public KernelObjectCache(
+      TCSObjectService objectService,
+      @ApplicationEventBus
+      EventSource eventSource
+  ) {
+    this.objectService = requireNonNull(objectService, "objectService");
+    this.eventSource = requireNonNull(eventSource, "eventSource");
+  }
+
+  @Override
+  public void initialize() {
+    if (isInitialized()) {
+      LOG.debug("Already initialized.");
+      return;
+    }
+
+    eventSource.subscribe(this);
+    initialized = true;
+  }
+
+  @Override
+  public boolean isInitialized() {
+    return initialized;
+  }
+
+  @Override
+  public void terminate() {
+    if (!isInitialized()) {
+      LOG.debug("Not initialized.");
+      return;
+    }
+
+    eventSource.unsubscribe(this);
+    initialized = false;
+    objects.clear();
+  }
+
+  /**
+   * Returns the referenced object.
+   *
+   * @param <T> The object's type.
+   * @param clazz The object's class.
+   * @param ref A reference to the object.
+   * @return The referenced object, or an empty {@link Optional}, if no such object exists.
+   */
+  @Nonnull
+  public <T extends TCSObject<T>> Optional<T> fetch(
+      @Nonnull
+      Class<T> clazz,
+      @Nonnull
+      TCSObjectReference<T> ref
+  ) {
+    requireNonNull(clazz, "clazz");
+    requireNonNull(ref, "ref");
+
+    return fetch(clazz, ref.getName(), () -> objectService.fetch(clazz, ref));
+  }
+
+  /**
+   * Returns the object with the given name.
+   *
+   * @param <T> The object's type.
+   * @param clazz The object's class.
+   * @param name The object's name.
+   * @return The named object, or an empty {@link Optional}, if no such object exists.
+   */
+  @Nonnull
+  public <T extends TCSObject<T>> Optional<T> fetch(
+      @Nonnull
+      Class<T> clazz,
+      @Nonnull
+      String name
+  ) {
+    requireNonNull(clazz, "clazz");
+    requireNonNull(name, "name");
+
+    return fetch(clazz, name, () -> objectService.fetch(clazz, name));
+  }
+
+  @Override
+  public synchronized void onEvent(Object event) {
+    if (!(event instanceof TCSObjectEvent objectEvent)) {
+      return;
+    }
+
+    eventCount++;
+
+    TCSObject<?> object = objectEvent.getCurrentOrPreviousObjectState();
+    Key key = new Key(object.getClass(), object.getName());
+    if (objectEvent.getType() == TCSObjectEvent.Type.OBJECT_REMOVED) {
+      objects.remove(key);
+    }
+    else {
+      objects.computeIfPresent(key, (k, cached) -> objectEvent.getCurrentObjectState());
+    }
+  }
+
+  /**
+   * Returns the number of objects in this cache.
+   *
+   * @return The number of objects in this cache.
+   */
+  public int size() {
+    return objects.size();
+  }
+
+  private <T extends TCSObject<T>> Optional<T> fetch(
+      Class<T> clazz,
+      String name,
+      Supplier<Optional<T>> fetcher
+  ) {
+    if (!isInitialized()) {
+      return fetcher.get();
+    }
+
+    Key key = new Key(clazz, name);
+    TCSObject<?> cachedObject = objects.get(key);
+    if (cachedObject != null) {
+      return Optional.of(clazz.cast(cachedObject));
+    }
+
+    long eventCountBeforeFetch = getEventCount();
+    Optional<T> fetchedObject = fetcher.get();
+    fetchedObject.ifPresent(object -> cacheIfUnmodified(key, object, eventCountBeforeFetch));
+    return fetchedObject;
+  }
+
+  private synchronized long getEventCount() {
+    return eventCount;
+  }
+
+  private synchronized void cacheIfUnmodified(
+      Key key,
+      TCSObject<?> object,
+      long eventCountBeforeFetch
+  ) {
+    // If any object was modified in the meantime, the fetched object may already be outdated, and
+    // the event for its modification would not have been applied to it. Rather than figuring out
+    // which object the events were for, simply fetch it again the next time.
+    if (isInitialized() && eventCount == eventCountBeforeFetch) {
+      objects.putIfAbsent(key, object);
+    }
+  }
+
+  /**
+   * Identifies a cached object.
+   *
+   * @param clazz The object's class.
+   * @param name The object's name.
+   */
+  private record Key(Class<?> clazz, String name) {
+  }
+}
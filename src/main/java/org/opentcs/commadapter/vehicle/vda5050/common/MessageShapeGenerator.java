@@ -0,0 +1,161 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.commadapter.vehicle.vda5050.common;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.util.JsonGeneratorDelegate;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * A generator recording the shape of the JSON output written through it.
+ * <p>
+ * The shape of an output is the set of paths of all properties present in it, with array indices
+ * ignored. E.g. an order with three nodes, each of which has a {@code nodePosition}, has the same
+ * shape as an order with only one such node. The shape is condensed into a 64-bit fingerprint.
+ * </p>
+ */
+class MessageShapeGenerator
+    extends
+      JsonGeneratorDelegate {
+
+  /**
+   * The hashes of the distinct property paths written so far.
+   */
+  private final Set<Long> pathHashes = new HashSet<>();
+  /**
+   * The path hashes of the enclosing objects and arrays.
+   */
+  private long[] containerPathHashes = new long[16];
+  /**
+   * The number of enclosing objects and arrays.
+   */
+  private int depth;
+  /**
+   * The path hash of the value to be written next, if written as an object property.
+   */
+  private long nextValuePathHash;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param delegate The generator to write the actual output with.
+   */
+  MessageShapeGenerator(JsonGenerator delegate) {
+    super(delegate, false);
+  }
+
+  /**
+   * Returns the fingerprint of the shape of the output written so far.
+   *
+   * @return The fingerprint.
+   */
+  long getShapeFingerprint() {
+    long fingerprint = 0;
+    // Summing up makes the fingerprint independent of the order the properties were written in.
+    for (long pathHash : pathHashes) {
+      fingerprint += pathHash;
+    }
+    return fingerprint;
+  }
+
+  @Override
+  public void writeStartObject()
+      throws IOException {
+    enterContainer();
+    super.writeStartObject();
+  }
+
+  @Override
+  public void writeStartObject(Object forValue)
+      throws IOException {
+    enterContainer();
+    super.writeStartObject(forValue);
+  }
+
+  @Override
+  public void writeStartObject(Object forValue, int size)
+      throws IOException {
+    enterContainer();
+    super.writeStartObject(forValue, size);
+  }
+
+  @Override
+  public void writeEndObject()
+      throws IOException {
+    depth--;
+    super.writeEndObject();
+  }
+
+  @Override
+  public void writeStartArray()
+      throws IOException {
+    enterContainer();
+    super.writeStartArray();
+  }
+
+  @Override
+  public void writeStartArray(Object forValue)
+      throws IOException {
+    enterContainer();
+    super.writeStartArray(forValue);
+  }
+
+  @Override
+  public void writeStartArray(Object forValue, int size)
+      throws IOException {
+    enterContainer();
+    super.writeStartArray(forValue, size);
+  }
+
+  @Override
+  public void writeEndArray()
+      throws IOException {
+    depth--;
+    super.writeEndArray();
+  }
+
+  @Override
+  public void writeFieldName(String name)
+      throws IOException {
+    recordProperty(name);
+    super.writeFieldName(name);
+  }
+
+  @Override
+  public void writeFieldName(SerializableString name)
+      throws IOException {
+    recordProperty(name.getValue());
+    super.writeFieldName(name);
+  }
+
+  private void enterContainer() {
+    // Elements of an array share the array's path.
+    long pathHash = getOutputContext().inArray()
+        ? containerPathHashes[depth - 1]
+        : nextValuePathHash;
+    if (depth == containerPathHashes.length) {
+      containerPathHashes = Arrays.copyOf(containerPathHashes, depth * 2);
+    }
+    containerPathHashes[depth++] = pathHash;
+  }
+
+  private void recordProperty(String name) {
+    long parentPathHash = depth == 0 ? 0 : containerPathHashes[depth - 1];
+    nextValuePathHash = mix(parentPathHash * 31 + name.hashCode());
+    pathHashes.add(nextValuePathHash);
+  }
+
+  private static long mix(long value) {
+    // The finalization step of MurmurHash3, spreading the bits of the hash.
+    value ^= value >>> 33;
+    value *= 0xff51afd7ed558ccdL;
+    value ^= value >>> 33;
+    value *= 0xc4ceb93fe53ef049L;
+    value ^= value >>> 33;
+    return value;
+  }
+}
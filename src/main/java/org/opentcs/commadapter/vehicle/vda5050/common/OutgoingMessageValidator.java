@@ -0,0 +1,179 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.commadapter.vehicle.vda5050.common;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkArgument;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import javax.annotation.Nonnull;
+
+/**
+ * Serializes outgoing messages to JSON and validates the output according to a policy.
+ * <p>
+ * As outgoing messages are produced by the driver itself, validating every one of them is mostly
+ * a safety net against regressions in the message classes and their mapping. Depending on the
+ * policy, only a sample of the messages or only messages of a shape not seen before are validated.
+ * </p>
+ */
+public class OutgoingMessageValidator {
+
+  /**
+   * The maximum number of shapes remembered per message type.
+   * Exceeding it means shapes are hardly repeated, so the remembered shapes are discarded.
+   */
+  private static final int MAX_VALIDATED_SHAPES = 1024;
+  /**
+   * Serializes messages to JSON.
+   */
+  private final JsonBinder jsonBinder;
+  /**
+   * Validates the JSON output.
+   */
+  private final JsonValidator jsonValidator;
+  /**
+   * The policy for validating messages.
+   */
+  private final Policy policy;
+  /**
+   * With the sampled policy, only every n-th message is validated.
+   */
+  private final int sampleInterval;
+  /**
+   * The number of messages serialized so far.
+   */
+  private final AtomicLong messageCounter = new AtomicLong();
+  /**
+   * The fingerprints of the shapes already validated, mapped by message type.
+   */
+  private final Map<Class<?>, Set<Long>> validatedShapes = new ConcurrentHashMap<>();
+
+  /**
+   * Creates a new instance.
+   *
+   * @param jsonBinder Serializes messages to JSON.
+   * @param jsonValidator Validates the JSON output.
+   * @param policy The policy for validating messages.
+   * @param sampleInterval With the {@link Policy#SAMPLED} policy, only every n-th message is
+   * validated.
+   * @throws IllegalArgumentException If the sample interval is less than 1.
+   */
+  public OutgoingMessageValidator(
+      @Nonnull
+      JsonBinder jsonBinder,
+      @Nonnull
+      JsonValidator jsonValidator,
+      @Nonnull
+      Policy policy,
+      int sampleInterval
+  )
+      throws IllegalArgumentException {
+    this.jsonBinder = requireNonNull(jsonBinder, "jsonBinder");
+    this.jsonValidator = requireNonNull(jsonValidator, "jsonValidator");
+    this.policy = requireNonNull(policy, "policy");
+    checkArgument(sampleInterval >= 1, "sampleInterval < 1: %s", sampleInterval);
+    this.sampleInterval = sampleInterval;
+  }
+
+  /**
+   * Serializes the given message to JSON and validates the output according to the policy.
+   *
+   * @param message The message.
+   * @return The JSON representation of the message.
+   * @throws IllegalArgumentException If the message could not be serialized or the output is not
+   * valid.
+   */
+  @Nonnull
+  public String toJson(
+      @Nonnull
+      Object message
+  )
+      throws IllegalArgumentException {
+    return toJson(message, jsonBinder::toJson);
+  }
+
+  /**
+   * Serializes the given message to JSON using the given serializer and validates the output
+   * according to the policy.
+   * <p>
+   * With the {@link Policy#STRUCTURAL} policy, the message's shape is recorded while serializing
+   * it, so the message is always serialized via the JSON binder, instead.
+   * </p>
+   *
+   * @param <T> The message's type.
+   * @param message The message.
+   * @param serializer Serializes the message to JSON, applying the JSON binder's filter.
+   * @return The JSON representation of the message.
+   * @throws IllegalArgumentException If the message could not be serialized or the output is not
+   * valid.
+   */
+  @Nonnull
+  public <T> String toJson(
+      @Nonnull
+      T message,
+      @Nonnull
+      Function<? super T, String> serializer
+  )
+      throws IllegalArgumentException {
+    requireNonNull(message, "message");
+    requireNonNull(serializer, "serializer");
+
+    return switch (policy) {
+      case ALWAYS -> toValidatedJson(message, serializer);
+      case SAMPLED -> messageCounter.getAndIncrement() % sampleInterval == 0
+          ? toValidatedJson(message, serializer)
+          : serializer.apply(message);
+      case STRUCTURAL -> toStructurallyValidatedJson(message);
+    };
+  }
+
+  private <T> String toValidatedJson(T message, Function<? super T, String> serializer)
+      throws IllegalArgumentException {
+    String json = serializer.apply(message);
+    jsonValidator.validate(json, message.getClass());
+    return json;
+  }
+
+  private String toStructurallyValidatedJson(Object message)
+      throws IllegalArgumentException {
+    JsonBinder.ShapedJson shapedJson = jsonBinder.toShapedJson(message);
+    Set<Long> shapes = validatedShapes.computeIfAbsent(
+        message.getClass(),
+        clazz -> ConcurrentHashMap.newKeySet()
+    );
+    if (shapes.contains(shapedJson.shapeFingerprint())) {
+      return shapedJson.json();
+    }
+
+    jsonValidator.validate(shapedJson.json(), message.getClass());
+    // Only remember shapes of valid messages, so invalid messages keep being reported.
+    if (shapes.size() >= MAX_VALIDATED_SHAPES) {
+      shapes.clear();
+    }
+    shapes.add(shapedJson.shapeFingerprint());
+    return shapedJson.json();
+  }
+
+  /**
+   * The policies for validating outgoing messages.
+   */
+  public enum Policy {
+    /**
+     * Every message is validated.
+     */
+    ALWAYS,
+    /**
+     * Only every n-th message is validated.
+     */
+    SAMPLED,
+    /**
+     * Only the first message of each shape, i.e. of each combination of properties present, is
+     * validated.
+     */
+    STRUCTURAL;
+  }
+}
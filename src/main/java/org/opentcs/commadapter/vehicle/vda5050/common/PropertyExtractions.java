@@ -215,4 +215,31 @@ public class PropertyExtractions {
           }
         });
   }
+
+  /**
+   * Tries to extract the property with the given key and map it to a
+   * {@link OutgoingMessageValidator.Policy}.
+   *
+   * @param key The key of the property to extract.
+   * @param vehicle The vehicle to extract the property from.
+   * @return An optional containing the the extracted and mapped value or {@link Optional#EMPTY}, if
+   * the property value is not valid or if the property is not set.
+   */
+  public static Optional<OutgoingMessageValidator.Policy>
+      getOutgoingMessageValidationPolicy(String key, Vehicle vehicle) {
+    return getProperty(key, vehicle)
+        .map(propertyValue -> {
+          try {
+            return OutgoingMessageValidator.Policy.valueOf(propertyValue.strip().toUpperCase());
+          }
+          catch (IllegalArgumentException e) {
+            LOG.warn(
+                "Property '{}' for vehicle '{}' has no valid value.",
+                key,
+                vehicle.getName()
+            );
+            return null;
+          }
+        });
+  }
 }
@@ -0,0 +1,226 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.commadapter.vehicle.vda5050.common;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkArgument;
+
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleSupplier;
+import javax.annotation.Nonnull;
+
+/**
+ * Schedules resends of messages not acknowledged within a timeout, with exponential backoff and
+ * jitter.
+ * <p>
+ * When scheduled, the resend action is run after the initial timeout. As long as the timer is not
+ * rescheduled or cancelled, the resend action is run again and again, each time after twice the
+ * previous timeout, up to the maximum timeout. Every timeout is varied randomly by the configured
+ * jitter, so resends for many vehicles do not happen in lockstep.
+ * </p>
+ * <p>
+ * Instances are not thread-safe. The resend action is run via the given executor, which is
+ * expected to be the same single thread the timer is used in.
+ * </p>
+ */
+public class ResendTimer {
+
+  /**
+   * Schedules the resend action.
+   */
+  private final DelayedExecution delayedExecution;
+  /**
+   * Provides random values between 0 (inclusive) and 1 (exclusive) for the jitter.
+   */
+  private final DoubleSupplier random;
+  /**
+   * The timeout before the first resend (in ms).
+   */
+  private final long initialTimeout;
+  /**
+   * The maximum timeout between two resends (in ms).
+   */
+  private final long maxTimeout;
+  /**
+   * The maximum relative deviation of a timeout from its nominal value.
+   */
+  private final double jitter;
+  /**
+   * The currently scheduled resend, or {@code null}.
+   */
+  private Future<?> scheduledResend;
+  /**
+   * The action resending the message, or {@code null}.
+   */
+  private Runnable resendAction;
+  /**
+   * The nominal timeout before the next resend (in ms).
+   */
+  private long timeout;
+  /**
+   * Incremented with every (re)scheduling and cancellation, so a resend that was already due when
+   * the timer was rescheduled or cancelled does not run.
+   */
+  private long generation;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param executor Runs the resend action.
+   * @param initialTimeout The timeout before the first resend (in ms).
+   * @param maxTimeout The maximum timeout between two resends (in ms).
+   * @param jitter The maximum relative deviation of a timeout from its nominal value, e.g. 0.2 for
+   * timeouts varying by up to 20 percent in either direction.
+   * @throws IllegalArgumentException If any of the timeouts is less than 1, if the maximum timeout
+   * is less than the initial timeout or if the jitter is not between 0 and 1.
+   */
+  public ResendTimer(
+      @Nonnull
+      ScheduledExecutorService executor,
+      long initialTimeout,
+      long maxTimeout,
+      double jitter
+  )
+      throws IllegalArgumentException {
+    this(
+        delayedExecution(executor),
+        () -> ThreadLocalRandom.current().nextDouble(),
+        initialTimeout,
+        maxTimeout,
+        jitter
+    );
+  }
+
+  /**
+   * Creates a new instance.
+   *
+   * @param delayedExecution Schedules the resend action.
+   * @param random Provides random values between 0 (inclusive) and 1 (exclusive) for the jitter.
+   * @param initialTimeout The timeout before the first resend (in ms).
+   * @param maxTimeout The maximum timeout between two resends (in ms).
+   * @param jitter The maximum relative deviation of a timeout from its nominal value.
+   * @throws IllegalArgumentException If any of the timeouts is less than 1, if the maximum timeout
+   * is less than the initial timeout or if the jitter is not between 0 and 1.
+   */
+  ResendTimer(
+      @Nonnull
+      DelayedExecution delayedExecution,
+      @Nonnull
+      DoubleSupplier random,
+      long initialTimeout,
+      long maxTimeout,
+      double jitter
+  )
+      throws IllegalArgumentException {
+    this.delayedExecution = requireNonNull(delayedExecution, "delayedExecution");
+    this.random = requireNonNull(random, "random");
+    checkArgument(initialTimeout >= 1, "initialTimeout < 1: %s", initialTimeout);
+    checkArgument(
+        maxTimeout >= initialTimeout,
+        "maxTimeout < initialTimeout: %s < %s",
+        maxTimeout,
+        initialTimeout
+    );
+    checkArgument(jitter >= 0 && jitter <= 1, "jitter not in [0, 1]: %s", jitter);
+    this.initialTimeout = initialTimeout;
+    this.maxTimeout = maxTimeout;
+    this.jitter = jitter;
+  }
+
+  /**
+   * Schedules the given resend action after the initial timeout, replacing any resend action
+   * scheduled before.
+   *
+   * @param resendAction The action resending the message.
+   */
+  public void schedule(
+      @Nonnull
+      Runnable resendAction
+  ) {
+    requireNonNull(resendAction, "resendAction");
+
+    cancel();
+    this.resendAction = resendAction;
+    this.timeout = initialTimeout;
+    scheduleNext();
+  }
+
+  /**
+   * Schedules the given resend action after the initial timeout, unless a resend action is
+   * already scheduled.
+   *
+   * @param resendAction The action resending the message.
+   */
+  public void scheduleIfIdle(
+      @Nonnull
+      Runnable resendAction
+  ) {
+    if (!isScheduled()) {
+      schedule(resendAction);
+    }
+  }
+
+  /**
+   * Cancels the scheduled resend action, if any.
+   */
+  public void cancel() {
+    generation++;
+    resendAction = null;
+    if (scheduledResend != null) {
+      scheduledResend.cancel(false);
+      scheduledResend = null;
+    }
+  }
+
+  /**
+   * Checks whether a resend action is currently scheduled.
+   *
+   * @return Whether a resend action is currently scheduled.
+   */
+  public boolean isScheduled() {
+    return resendAction != null;
+  }
+
+  private void scheduleNext() {
+    long scheduledGeneration = generation;
+    long delay = Math.max(
+        Math.round(timeout * (1 + jitter * (2 * random.getAsDouble() - 1))),
+        1
+    );
+    scheduledResend = delayedExecution.execute(() -> onTimeout(scheduledGeneration), delay);
+  }
+
+  private void onTimeout(long scheduledGeneration) {
+    if (scheduledGeneration != generation || resendAction == null) {
+      return;
+    }
+
+    timeout = Math.min(timeout * 2, maxTimeout);
+    scheduleNext();
+    resendAction.run();
+  }
+
+  private static DelayedExecution delayedExecution(ScheduledExecutorService executor) {
+    requireNonNull(executor, "executor");
+    return (task, delay) -> executor.schedule(task, delay, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Runs tasks after a delay.
+   */
+  @FunctionalInterface
+  interface DelayedExecution {
+
+    /**
+     * Runs the given task after the given delay.
+     *
+     * @param task The task.
+     * @param delay The delay (in ms).
+     * @return A future for cancelling the task.
+     */
+    Future<?> execute(Runnable task, long delay);
+  }
+}
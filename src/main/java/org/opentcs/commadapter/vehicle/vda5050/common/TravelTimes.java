@@ -0,0 +1,87 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.commadapter.vehicle.vda5050.common;
+
+import static java.util.Objects.requireNonNull;
+
+import javax.annotation.Nonnull;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.Route.Step;
+
+/**
+ * Utility methods for estimating the time it takes a vehicle to travel along route steps.
+ */
+public class TravelTimes {
+
+  /**
+   * Prevents instantiation.
+   */
+  private TravelTimes() {
+  }
+
+  /**
+   * Estimates the time it takes the given vehicle to travel along the given step.
+   * <p>
+   * The estimate is the step path's length divided by the maximum velocity for the direction the
+   * vehicle travels in, as set for both the path and the vehicle, whichever is lower. Acceleration
+   * and deceleration are not taken into account.
+   * </p>
+   *
+   * @param step The step.
+   * @param vehicle The vehicle.
+   * @return The estimated travel time (in ms), or 0, if the step has no path or if neither the path
+   * nor the vehicle have a maximum velocity set.
+   */
+  public static long estimate(
+      @Nonnull
+      Step step,
+      @Nonnull
+      Vehicle vehicle
+  ) {
+    requireNonNull(vehicle, "vehicle");
+
+    return estimate(step, vehicle.getMaxVelocity(), vehicle.getMaxReverseVelocity());
+  }
+
+  /**
+   * Estimates the time it takes a vehicle with the given maximum velocities to travel along the
+   * given step.
+   *
+   * @param step The step.
+   * @param vehicleMaxVelocity The vehicle's maximum velocity (in mm/s), or 0, if not set.
+   * @param vehicleMaxReverseVelocity The vehicle's maximum reverse velocity (in mm/s), or 0, if
+   * not set.
+   * @return The estimated travel time (in ms), or 0, if the step has no path or if neither the path
+   * nor the vehicle have a maximum velocity set.
+   * @see #estimate(Step, Vehicle)
+   */
+  public static long estimate(
+      @Nonnull
+      Step step,
+      int vehicleMaxVelocity,
+      int vehicleMaxReverseVelocity
+  ) {
+    requireNonNull(step, "step");
+
+    Path path = step.getPath();
+    if (path == null) {
+      return 0;
+    }
+
+    long velocity = step.getVehicleOrientation() == Vehicle.Orientation.BACKWARD
+        ? minPositive(path.getMaxReverseVelocity(), vehicleMaxReverseVelocity)
+        : minPositive(path.getMaxVelocity(), vehicleMaxVelocity);
+    return velocity == 0 ? 0 : path.getLength() * 1000 / velocity;
+  }
+
+  private static int minPositive(int velocity1, int velocity2) {
+    if (velocity1 <= 0) {
+      return Math.max(velocity2, 0);
+    }
+    if (velocity2 <= 0) {
+      return velocity1;
+    }
+    return Math.min(velocity1, velocity2);
+  }
+}
@@ -4,10 +4,10 @@ package org.opentcs.commadapter.vehicle.vda5050.common;
 
 import static java.util.Objects.requireNonNull;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.core.filter.TokenFilter;
 import com.google.inject.Inject;
 import com.google.inject.assistedinject.Assisted;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Function;
 import javax.annotation.Nonnull;
@@ -15,16 +15,27 @@ import org.opentcs.data.model.Vehicle;
 
 /**
  * Filters optional order message fields based on whether the vehicle supports them.
+ * <p>
+ * The dotted paths of the unsupported fields (e.g. {@code nodes.nodePosition.allowedDeviationXY})
+ * are compiled into a tree of token filters once, when creating an instance. The filter is applied
+ * while streaming a message to JSON (see {@link JsonBinder#setFilter(TokenFilter)}), so messages do
+ * not have to be converted to an intermediate tree for removing the fields. As with a JSON tree,
+ * a path applies to all elements of any array along it.
+ * </p>
  */
 public class UnsupportedPropertiesFilter
-    implements
-      Function<JsonNode, JsonNode> {
+    extends
+      TokenFilter {
 
   /**
-   * The vehicle's support status for optional parameters.
+   * Marks a property that is to be excluded.
    */
-  private final Map<String, OptionalParameterSupport> unsupportedOptionalParameters;
-
+  private static final TokenFilter EXCLUDED = new UnsupportedPropertiesFilter(Map.of());
+  /**
+   * The filters to be applied to the values of properties, mapped by property name.
+   * Properties not contained are included completely.
+   */
+  private final Map<String, TokenFilter> propertyFilters;
 
   @Inject
   public UnsupportedPropertiesFilter(
@@ -37,50 +48,83 @@ public class UnsupportedPropertiesFilter
   ) {
     requireNonNull(vehicle, "vehicle");
     requireNonNull(propertiesExtractor, "propertiesExtractor");
-    this.unsupportedOptionalParameters = propertiesExtractor.apply(vehicle);
+
+    PathNode root = new PathNode();
+    for (String path : propertiesExtractor.apply(vehicle).keySet()) {
+      root.add(path.split("\\."), 0);
+    }
+    this.propertyFilters = root.compileChildren();
+  }
+
+  private UnsupportedPropertiesFilter(Map<String, TokenFilter> propertyFilters) {
+    this.propertyFilters = propertyFilters;
+  }
+
+  /**
+   * Indicates whether this filter excludes any properties at all.
+   *
+   * @return {@code true} if, and only if, no properties are excluded.
+   */
+  public boolean isEmpty() {
+    return propertyFilters.isEmpty();
   }
 
   @Override
-  public JsonNode apply(
-      @Nonnull
-      JsonNode treeModel
-  ) {
-    requireNonNull(treeModel, "treeModel");
-    for (String path : unsupportedOptionalParameters.keySet()) {
-      deletePath(treeModel, path.split("\\."));
+  public TokenFilter includeProperty(String name) {
+    TokenFilter filter = propertyFilters.get(name);
+    if (filter == null) {
+      return TokenFilter.INCLUDE_ALL;
+    }
+    if (filter == EXCLUDED) {
+      return null;
     }
-    return treeModel;
+    return filter;
   }
 
-  private static void deletePath(JsonNode currentNode, String[] path) {
-    deletePath(currentNode, path, 0);
+  @Override
+  public boolean includeEmptyObject(boolean contentsFiltered) {
+    // Keep objects even if all of their properties have been removed.
+    return true;
   }
 
-  private static void deletePath(JsonNode currentNode, String[] path, int index) {
-    if (index >= path.length) {
-      return;
-    }
+  @Override
+  public boolean includeEmptyArray(boolean contentsFiltered) {
+    return true;
+  }
 
-    String currentPath = path[index];
-    if (currentNode.has(currentPath)) {
-      JsonNode childNode = currentNode.get(currentPath);
+  /**
+   * A node in the tree of paths of unsupported properties, used while compiling the filters.
+   */
+  private static class PathNode {
 
-      if (index == path.length - 1) {
-        // Last element in the path, remove it
-        ((ObjectNode) currentNode).remove(currentPath);
-      }
-      else {
-        if (childNode.isArray()) {
-          // If it's an array, iterate over all elements
-          for (JsonNode arrayElement : childNode) {
-            deletePath(arrayElement, path, index + 1);
-          }
-        }
-        else {
-          // Recursively process the next element in the path
-          deletePath(childNode, path, index + 1);
-        }
+    /**
+     * The child nodes, mapped by property name.
+     */
+    private final Map<String, PathNode> children = new HashMap<>();
+    /**
+     * Whether the property represented by this node is to be excluded completely.
+     */
+    private boolean excluded;
+
+    PathNode() {
+    }
+
+    void add(String[] path, int index) {
+      if (index == path.length) {
+        excluded = true;
+        return;
       }
+      children.computeIfAbsent(path[index], name -> new PathNode()).add(path, index + 1);
+    }
+
+    Map<String, TokenFilter> compileChildren() {
+      Map<String, TokenFilter> result = new HashMap<>();
+      children.forEach((name, child) -> result.put(name, child.compile()));
+      return Map.copyOf(result);
+    }
+
+    private TokenFilter compile() {
+      return excluded ? EXCLUDED : new UnsupportedPropertiesFilter(compileChildren());
     }
   }
 }
@@ -11,6 +11,11 @@ public interface ConnectionEventListener {
 
   /**
    * Called when a message from the remote peer has been received and decoded.
+   * <p>
+   * This method is called on a dispatch thread, not on the MQTT client's callback thread. For a
+   * given listener, it is never called concurrently, and messages are passed in the order they were
+   * received.
+   * </p>
    *
    * @param message The incoming message.
    */
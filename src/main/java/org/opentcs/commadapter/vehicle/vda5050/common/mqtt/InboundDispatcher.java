@@ -0,0 +1,236 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.commadapter.vehicle.vda5050.common.mqtt;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.annotation.Nonnull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Dispatches incoming messages to their listeners off the MQTT client's callback thread.
+ * <p>
+ * Every listener gets its own lane. Messages for the same listener are delivered strictly in the
+ * order they arrived and never concurrently, while messages for different listeners are processed
+ * in parallel by the given executor.
+ * </p>
+ * <p>
+ * A listener's lane exists from the time it is added until it is removed. Messages for listeners
+ * without a lane are discarded, so a message arriving after a listener has been removed does not
+ * re-create its lane (and keep the listener referenced).
+ * </p>
+ */
+class InboundDispatcher {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(InboundDispatcher.class);
+  /**
+   * The executor that drains the lanes.
+   */
+  private final Executor executor;
+  /**
+   * The lanes, mapped by the listeners they deliver to.
+   */
+  private final Map<ConnectionEventListener, Lane> lanes = new ConcurrentHashMap<>();
+
+  /**
+   * Creates a new instance.
+   *
+   * @param executor The executor that drains the lanes.
+   */
+  InboundDispatcher(
+      @Nonnull
+      Executor executor
+  ) {
+    this.executor = requireNonNull(executor, "executor");
+  }
+
+  /**
+   * Adds a lane for the given listener, if it does not have one, yet.
+   *
+   * @param listener The listener.
+   */
+  public void addLane(
+      @Nonnull
+      ConnectionEventListener listener
+  ) {
+    requireNonNull(listener, "listener");
+
+    lanes.computeIfAbsent(listener, Lane::new);
+  }
+
+  /**
+   * Enqueues the given message in the given listener's lane.
+   * If the listener does not have a lane, the message is discarded.
+   *
+   * @param listener The listener to deliver the message to.
+   * @param message The message.
+   */
+  public void dispatch(
+      @Nonnull
+      ConnectionEventListener listener,
+      @Nonnull
+      IncomingMessage message
+  ) {
+    requireNonNull(listener, "listener");
+    requireNonNull(message, "message");
+
+    Lane lane = lanes.get(listener);
+    if (lane == null) {
+      LOG.debug("No lane for listener, discarding message on topic '{}'", message.getTopic());
+      return;
+    }
+    lane.enqueue(message);
+  }
+
+  /**
+   * Discards the given listener's lane, including any messages not yet delivered.
+   *
+   * @param listener The listener.
+   */
+  public void removeLane(
+      @Nonnull
+      ConnectionEventListener listener
+  ) {
+    requireNonNull(listener, "listener");
+
+    Lane lane = lanes.remove(listener);
+    if (lane != null) {
+      lane.clear();
+    }
+  }
+
+  /**
+   * Discards all lanes, including any messages not yet delivered.
+   */
+  public void removeAllLanes() {
+    lanes.keySet().forEach(this::removeLane);
+  }
+
+  /**
+   * Returns statistics for the given listener's lane.
+   *
+   * @param listener The listener.
+   * @return Statistics for the listener's lane, or an empty optional, if there is no such lane.
+   */
+  @Nonnull
+  public Optional<InboundLaneStatistics> getStatistics(
+      @Nonnull
+      ConnectionEventListener listener
+  ) {
+    requireNonNull(listener, "listener");
+
+    return Optional.ofNullable(lanes.get(listener)).map(Lane::getStatistics);
+  }
+
+  /**
+   * An ordered queue of messages for a single listener.
+   */
+  private class Lane {
+
+    /**
+     * The listener to deliver messages to.
+     */
+    private final ConnectionEventListener listener;
+    /**
+     * The messages not yet delivered.
+     */
+    private final Queue<QueuedMessage> queue = new ConcurrentLinkedQueue<>();
+    /**
+     * Whether this lane has been removed.
+     */
+    private volatile boolean removed;
+    /**
+     * Whether a task draining this lane is currently scheduled or running.
+     */
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    Lane(ConnectionEventListener listener) {
+      this.listener = listener;
+    }
+
+    void enqueue(IncomingMessage message) {
+      if (removed) {
+        return;
+      }
+      queue.add(new QueuedMessage(message, System.nanoTime()));
+      scheduleDrain();
+    }
+
+    void clear() {
+      removed = true;
+      queue.clear();
+    }
+
+    InboundLaneStatistics getStatistics() {
+      QueuedMessage oldest = queue.peek();
+      // Lanes are expected to be short, so counting their messages is cheap.
+      return new InboundLaneStatistics(
+          queue.size(),
+          oldest == null
+              ? Duration.ZERO
+              : Duration.ofNanos(System.nanoTime() - oldest.enqueuedAt())
+      );
+    }
+
+    private void scheduleDrain() {
+      if (draining.compareAndSet(false, true)) {
+        try {
+          executor.execute(this::drain);
+        }
+        catch (RejectedExecutionException e) {
+          // The executor has been shut down, so the messages cannot be delivered.
+          LOG.debug("Executor shut down, discarding {} messages", queue.size());
+          queue.clear();
+          draining.set(false);
+        }
+      }
+    }
+
+    private void drain() {
+      try {
+        QueuedMessage queuedMessage;
+        while (!removed && (queuedMessage = queue.poll()) != null) {
+          deliver(queuedMessage.message());
+        }
+      }
+      finally {
+        draining.set(false);
+        // A message may have been enqueued after the last poll but before the flag was reset.
+        if (!removed && !queue.isEmpty()) {
+          scheduleDrain();
+        }
+      }
+    }
+
+    private void deliver(IncomingMessage message) {
+      try {
+        listener.onIncomingMessage(message);
+      }
+      catch (RuntimeException e) {
+        LOG.warn("Exception handling message on topic '{}'", message.getTopic(), e);
+      }
+    }
+  }
+
+  /**
+   * A message waiting for delivery.
+   *
+   * @param message The message.
+   * @param enqueuedAt The value of {@link System#nanoTime()} at the time the message was enqueued.
+   */
+  private record QueuedMessage(IncomingMessage message, long enqueuedAt) {
+  }
+}
@@ -0,0 +1,31 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.commadapter.vehicle.vda5050.common.mqtt;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import javax.annotation.Nonnull;
+
+/**
+ * Statistics for the inbound dispatch lane of a single listener.
+ *
+ * @param queueDepth The number of messages that have been received but not yet delivered.
+ * @param lag The time the oldest message not yet delivered has been waiting for delivery.
+ */
+public record InboundLaneStatistics(
+    int queueDepth,
+    @Nonnull
+    Duration lag
+) {
+
+  /**
+   * Creates a new instance.
+   *
+   * @param queueDepth The number of messages that have been received but not yet delivered.
+   * @param lag The time the oldest message not yet delivered has been waiting for delivery.
+   */
+  public InboundLaneStatistics {
+    requireNonNull(lag, "lag");
+  }
+}
@@ -2,6 +2,7 @@
 // SPDX-License-Identifier: MIT
 package org.opentcs.commadapter.vehicle.vda5050.common.mqtt;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Objects.requireNonNull;
 
 import javax.annotation.Nonnull;
@@ -16,24 +17,27 @@ public class IncomingMessage {
    */
   private final String topic;
   /**
-   * The message content.
+   * The raw (UTF-8 encoded) message content.
    */
-  private final String message;
+  private final byte[] payload;
 
   /**
    * Creates a new instance.
+   * <p>
+   * Note that the given payload is not copied, i.e. it must not be modified afterwards.
+   * </p>
    *
    * @param topic The topic the message was received on.
-   * @param message The message.
+   * @param payload The raw (UTF-8 encoded) message content.
    */
   public IncomingMessage(
       @Nonnull
       String topic,
       @Nonnull
-      String message
+      byte[] payload
   ) {
     this.topic = requireNonNull(topic, "topic");
-    this.message = requireNonNull(message, "message");
+    this.payload = requireNonNull(payload, "payload");
   }
 
   /**
@@ -46,11 +50,26 @@ public class IncomingMessage {
   }
 
   /**
-   * Returns the message.
+   * Returns the raw (UTF-8 encoded) message content.
+   * <p>
+   * The returned array is not a copy, i.e. it must not be modified. JSON parsers should read it
+   * directly instead of decoding it via {@link #getMessage()} first.
+   * </p>
+   *
+   * @return the raw message content
+   */
+  @Nonnull
+  public byte[] getPayload() {
+    return payload;
+  }
+
+  /**
+   * Returns the message, decoded from its raw content.
    *
    * @return the message
    */
+  @Nonnull
   public String getMessage() {
-    return message;
+    return new String(payload, UTF_8);
   }
 }
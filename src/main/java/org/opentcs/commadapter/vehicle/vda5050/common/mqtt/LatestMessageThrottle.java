@@ -0,0 +1,199 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.commadapter.vehicle.vda5050.common.mqtt;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkArgument;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import javax.annotation.Nonnull;
+
+/**
+ * Limits the rate at which incoming messages are passed on, conflating messages in between.
+ * <p>
+ * Messages are kept in a single "latest wins" slot. Whenever the minimum interval has passed since
+ * a message was last passed on, the newest message in the slot is passed on, while all messages it
+ * replaced in the slot are discarded without ever being decoded. If no further messages arrive,
+ * the newest message is still passed on once the interval has passed, so the last sample sent by
+ * the vehicle (e.g. its final position) is never lost.
+ * </p>
+ * <p>
+ * Messages are never passed on concurrently.
+ * </p>
+ */
+public class LatestMessageThrottle {
+
+  /**
+   * The minimum interval between two messages passed on (in ms).
+   */
+  private final long minInterval;
+  /**
+   * Receives the messages passed on.
+   */
+  private final Consumer<IncomingMessage> consumer;
+  /**
+   * Provides the current time (in ms).
+   */
+  private final LongSupplier clock;
+  /**
+   * Runs a task after a delay (in ms).
+   */
+  private final DelayedExecution delayedExecution;
+  /**
+   * The newest message not yet passed on.
+   */
+  private final AtomicReference<IncomingMessage> slot = new AtomicReference<>();
+  /**
+   * Whether passing on the message in the slot is currently scheduled or running.
+   */
+  private final AtomicBoolean flushPending = new AtomicBoolean();
+  /**
+   * The point of time at which a message was last passed on (in ms).
+   */
+  private volatile long lastFlush = Long.MIN_VALUE;
+  /**
+   * The number of messages discarded by being replaced in the slot.
+   */
+  private final AtomicLong discardedCount = new AtomicLong();
+
+  /**
+   * Creates a new instance.
+   *
+   * @param minInterval The minimum interval between two messages passed on (in ms).
+   * @param consumer Receives the messages passed on.
+   */
+  public LatestMessageThrottle(
+      long minInterval,
+      @Nonnull
+      Consumer<IncomingMessage> consumer
+  ) {
+    this(
+        minInterval,
+        consumer,
+        System::currentTimeMillis,
+        (task, delay) -> CompletableFuture
+            .delayedExecutor(delay, TimeUnit.MILLISECONDS, virtualThreadExecutor())
+            .execute(task)
+    );
+  }
+
+  /**
+   * Creates a new instance.
+   *
+   * @param minInterval The minimum interval between two messages passed on (in ms).
+   * @param consumer Receives the messages passed on.
+   * @param clock Provides the current time (in ms).
+   * @param delayedExecution Runs a task after a delay (in ms).
+   */
+  LatestMessageThrottle(
+      long minInterval,
+      @Nonnull
+      Consumer<IncomingMessage> consumer,
+      @Nonnull
+      LongSupplier clock,
+      @Nonnull
+      DelayedExecution delayedExecution
+  ) {
+    checkArgument(minInterval >= 0, "minInterval < 0: %s", minInterval);
+    this.minInterval = minInterval;
+    this.consumer = requireNonNull(consumer, "consumer");
+    this.clock = requireNonNull(clock, "clock");
+    this.delayedExecution = requireNonNull(delayedExecution, "delayedExecution");
+  }
+
+  /**
+   * Offers the given message for being passed on.
+   * <p>
+   * If the minimum interval has already passed, the message is passed on immediately, in the
+   * calling thread. Otherwise, it is passed on later, unless it is replaced by a newer message in
+   * the meantime.
+   * </p>
+   *
+   * @param message The message.
+   */
+  public void offer(
+      @Nonnull
+      IncomingMessage message
+  ) {
+    requireNonNull(message, "message");
+
+    if (slot.getAndSet(message) != null) {
+      discardedCount.incrementAndGet();
+    }
+    scheduleFlush();
+  }
+
+  /**
+   * Discards the message not yet passed on, if any.
+   */
+  public void clear() {
+    slot.set(null);
+  }
+
+  /**
+   * Returns the number of messages discarded so far by being replaced by a newer message.
+   *
+   * @return The number of discarded messages.
+   */
+  public long getDiscardedCount() {
+    return discardedCount.get();
+  }
+
+  private void scheduleFlush() {
+    if (!flushPending.compareAndSet(false, true)) {
+      // The pending flush will pass on the newest message.
+      return;
+    }
+
+    long delay = lastFlush == Long.MIN_VALUE ? 0 : lastFlush + minInterval - clock.getAsLong();
+    if (delay <= 0) {
+      flush();
+    }
+    else {
+      delayedExecution.execute(this::flush, delay);
+    }
+  }
+
+  private void flush() {
+    try {
+      IncomingMessage message = slot.getAndSet(null);
+      if (message != null) {
+        lastFlush = clock.getAsLong();
+        consumer.accept(message);
+      }
+    }
+    finally {
+      flushPending.set(false);
+      // A message may have been offered while the flush was pending.
+      if (slot.get() != null) {
+        scheduleFlush();
+      }
+    }
+  }
+
+  private static Executor virtualThreadExecutor() {
+    return task -> Thread.ofVirtual().start(task);
+  }
+
+  /**
+   * Runs tasks after a delay.
+   */
+  @FunctionalInterface
+  interface DelayedExecution {
+
+    /**
+     * Runs the given task after the given delay.
+     *
+     * @param task The task.
+     * @param delay The delay (in ms).
+     */
+    void execute(Runnable task, long delay);
+  }
+}
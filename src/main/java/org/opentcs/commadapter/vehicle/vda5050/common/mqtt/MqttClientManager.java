@@ -8,8 +8,11 @@ import static org.opentcs.commadapter.vehicle.vda5050.common.mqtt.ConnectionCall
 import jakarta.inject.Inject;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import javax.annotation.Nonnull;
@@ -64,6 +67,20 @@ public class MqttClientManager {
    * The executor to run tasks on.
    */
   private final ScheduledExecutorService kernelExecutor;
+  /**
+   * The executor delivering incoming messages to the subscribed listeners.
+   * Created when it is first needed and shut down when this client manager is terminated.
+   */
+  private ExecutorService inboundExecutor;
+  /**
+   * Dispatches incoming messages to the subscribed listeners, with one ordered lane per listener.
+   */
+  private final InboundDispatcher inboundDispatcher
+      = new InboundDispatcher(task -> getInboundExecutor().execute(task));
+  /**
+   * Routes messages received via shared (wildcard) topic filters to the listeners.
+   */
+  private final TopicRouter topicRouter = new TopicRouter();
 
   /**
    * Creates a new instance.
@@ -85,6 +102,19 @@ public class MqttClientManager {
     initialize();
   }
 
+  /**
+   * Terminates this client manager.
+   * Messages not yet delivered to the subscribed listeners are discarded, and messages arriving
+   * afterwards are only delivered to listeners registered again.
+   */
+  public synchronized void terminate() {
+    inboundDispatcher.removeAllLanes();
+    if (inboundExecutor != null) {
+      inboundExecutor.shutdown();
+      inboundExecutor = null;
+    }
+  }
+
   /**
    * Register a connection event listener.
    *
@@ -96,6 +126,7 @@ public class MqttClientManager {
   ) {
     requireNonNull(listener, "listener");
 
+    inboundDispatcher.addLane(listener);
     communicationCallback.registerConnectionEventListener(listener);
     connectionCallback.registerConnectionEventListener(listener);
   }
@@ -113,6 +144,24 @@ public class MqttClientManager {
 
     communicationCallback.unregisterConnectionEventListener(listener);
     connectionCallback.unregisterConnectionEventListener(listener);
+    inboundDispatcher.removeLane(listener);
+  }
+
+  /**
+   * Returns statistics for the inbound dispatch lane of the given listener.
+   *
+   * @param listener The listener.
+   * @return Statistics for the listener's inbound dispatch lane, or an empty optional, if the
+   * listener is not registered.
+   */
+  @Nonnull
+  public Optional<InboundLaneStatistics> getInboundLaneStatistics(
+      @Nonnull
+      ConnectionEventListener listener
+  ) {
+    requireNonNull(listener, "listener");
+
+    return inboundDispatcher.getStatistics(listener);
   }
 
   public void setConnected(boolean connected) {
@@ -224,11 +273,83 @@ public class MqttClientManager {
 
       if (subscriptions.get(topic).getSubscribers().isEmpty()) {
         subscriptions.remove(topic);
-        unsubscribe(topic);
+        if (!topicRouter.isFilterInUse(topic)) {
+          unsubscribe(topic);
+        }
       }
     }
   }
 
+  /**
+   * Subscribes to the given (shared) topic filter, unless already subscribed to, and routes
+   * messages received on the given concrete topic to the given {@link ConnectionEventListener}.
+   * <p>
+   * This allows many listeners to share a single wildcard subscription (e.g.
+   * {@code uagv/v2/+/+/state}), with incoming messages being routed to the listener interested in
+   * their concrete topic (e.g. {@code uagv/v2/some-manufacturer/1234/state}) via a hash index.
+   * Messages received via the topic filter for which no route exists are discarded.
+   * </p>
+   *
+   * @param topicFilter The topic filter to subscribe to.
+   * @param qos The {@link QualityOfService} to subscribe with.
+   * @param topic The concrete topic, which needs to be matched by the topic filter.
+   * @param listener The {@link ConnectionEventListener} that is interested in messages received on
+   * the given concrete topic.
+   */
+  public void subscribeRouted(
+      @Nonnull
+      String topicFilter,
+      @Nonnull
+      QualityOfService qos,
+      @Nonnull
+      String topic,
+      @Nonnull
+      ConnectionEventListener listener
+  ) {
+    requireNonNull(topicFilter, "topicFilter");
+    requireNonNull(qos, "qos");
+    requireNonNull(topic, "topic");
+    requireNonNull(listener, "listener");
+
+    LOG.debug("Routing topic '{}' via topic filter '{}'...", topic, topicFilter);
+    if (topicRouter.addRoute(topicFilter, qos, topic, listener)
+        && !subscriptions.containsKey(topicFilter)) {
+      subscribe(topicFilter, qos);
+    }
+  }
+
+  /**
+   * Stops routing messages received on the given concrete topic to the given
+   * {@link ConnectionEventListener}.
+   * <p>
+   * In case no more topics are routed via the given topic filter, the underlying MQTT client
+   * unsubscribes from it.
+   * </p>
+   *
+   * @param topicFilter The topic filter the concrete topic was subscribed to with.
+   * @param topic The concrete topic.
+   * @param listener The {@link ConnectionEventListener} that is no longer interested in messages
+   * received on the given concrete topic.
+   */
+  public void unsubscribeRouted(
+      @Nonnull
+      String topicFilter,
+      @Nonnull
+      String topic,
+      @Nonnull
+      ConnectionEventListener listener
+  ) {
+    requireNonNull(topicFilter, "topicFilter");
+    requireNonNull(topic, "topic");
+    requireNonNull(listener, "listener");
+
+    LOG.debug("Removing route for topic '{}'...", topic);
+    if (topicRouter.removeRoute(topicFilter, topic, listener)
+        && !subscriptions.containsKey(topicFilter)) {
+      unsubscribe(topicFilter);
+    }
+  }
+
   /**
    * Sets the last will for underlying MQTT client.
    *
@@ -259,6 +380,11 @@ public class MqttClientManager {
 
   /**
    * This method is invoked when a message arrives from the server.
+   * <p>
+   * The message is merely enqueued in the inbound dispatch lane of every listener subscribed to the
+   * topic or the listener the topic is routed to. Listeners are notified asynchronously, with
+   * messages for the same listener being delivered in the order they arrived.
+   * </p>
    *
    * @param topic The topic the message arrived on.
    * @param message The message.
@@ -272,10 +398,20 @@ public class MqttClientManager {
     requireNonNull(topic, "topic");
     requireNonNull(message, "message");
 
-    if (subscriptions.containsKey(topic)) {
-      IncomingMessage msg = new IncomingMessage(topic, message.toString());
-      subscriptions.get(topic).getSubscribers().forEach(
-          listener -> listener.onIncomingMessage(msg)
+    ConnectionEventListener routedListener = topicRouter.getListener(topic);
+    Subscription subscription = subscriptions.get(topic);
+    if (routedListener == null && subscription == null) {
+      return;
+    }
+
+    // Keep the raw payload to allow parsers to read it without decoding it to a string first.
+    IncomingMessage msg = new IncomingMessage(topic, message.getPayload());
+    if (routedListener != null) {
+      inboundDispatcher.dispatch(routedListener, msg);
+    }
+    if (subscription != null) {
+      subscription.getSubscribers().forEach(
+          listener -> inboundDispatcher.dispatch(listener, msg)
       );
     }
   }
@@ -302,9 +438,19 @@ public class MqttClientManager {
    */
   public void onConnect() {
     LOG.info("Connected.");
+    // Re-subscribe to all topics and topic filters at once, using a single SUBSCRIBE packet.
+    Map<String, QualityOfService> topicFilters = topicRouter.getTopicFilters();
     subscriptions.values().forEach(
-        subscription -> subscribe(subscription.getTopic(), subscription.getQos())
+        subscription -> topicFilters.put(subscription.getTopic(), subscription.getQos())
     );
+    subscribe(topicFilters);
+  }
+
+  private synchronized ExecutorService getInboundExecutor() {
+    if (inboundExecutor == null) {
+      inboundExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    }
+    return inboundExecutor;
   }
 
   private void initialize()
@@ -378,6 +524,26 @@ public class MqttClientManager {
     }
   }
 
+  private void subscribe(Map<String, QualityOfService> topicFilters) {
+    if (topicFilters.isEmpty()) {
+      return;
+    }
+
+    String[] topics = topicFilters.keySet().toArray(String[]::new);
+    int[] qosValues = new int[topics.length];
+    for (int i = 0; i < topics.length; i++) {
+      qosValues[i] = topicFilters.get(topics[i]).getQosValue();
+    }
+
+    try {
+      LOG.info("Subscribing to {} topics...", topics.length);
+      client.subscribe(topics, qosValues);
+    }
+    catch (MqttException ex) {
+      LOG.error("Failed to subscribe to topics {}.", topicFilters.keySet(), ex);
+    }
+  }
+
   private void unsubscribe(String topic) {
     try {
       client.unsubscribe(topic);
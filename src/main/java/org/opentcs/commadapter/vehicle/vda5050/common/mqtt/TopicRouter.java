@@ -0,0 +1,193 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.commadapter.vehicle.vda5050.common.mqtt;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Routes messages received via shared (wildcard) topic filters to the listeners interested in them.
+ * <p>
+ * Many listeners may share a single topic filter (e.g. {@code uagv/v2/+/+/state}), while every
+ * concrete topic matching it (e.g. {@code uagv/v2/some-manufacturer/1234/state}) is routed to
+ * exactly one listener via a hash index. The topic filters are reference-counted, so a filter is
+ * only subscribed to once, no matter how many listeners use it.
+ * </p>
+ */
+class TopicRouter {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(TopicRouter.class);
+  /**
+   * The shared topic filters, mapped by their filter strings.
+   */
+  private final Map<String, SharedFilter> filters = new HashMap<>();
+  /**
+   * The listeners, mapped by the concrete topics routed to them.
+   */
+  private final Map<String, ConnectionEventListener> routes = new ConcurrentHashMap<>();
+
+  /**
+   * Creates a new instance.
+   */
+  TopicRouter() {
+  }
+
+  /**
+   * Routes messages received on the given topic to the given listener.
+   *
+   * @param topicFilter The (shared) topic filter the topic is matched by.
+   * @param qos The quality of service to subscribe to the topic filter with.
+   * @param topic The concrete topic.
+   * @param listener The listener interested in messages received on the topic.
+   * @return {@code true} if, and only if, the topic filter was not in use before and thus needs to
+   * be subscribed to.
+   */
+  public synchronized boolean addRoute(
+      @Nonnull
+      String topicFilter,
+      @Nonnull
+      QualityOfService qos,
+      @Nonnull
+      String topic,
+      @Nonnull
+      ConnectionEventListener listener
+  ) {
+    requireNonNull(topicFilter, "topicFilter");
+    requireNonNull(qos, "qos");
+    requireNonNull(topic, "topic");
+    requireNonNull(listener, "listener");
+
+    ConnectionEventListener previousListener = routes.put(topic, listener);
+    if (previousListener != null && previousListener != listener) {
+      LOG.warn("Topic '{}' was already routed to another listener, replacing it.", topic);
+    }
+
+    SharedFilter filter = filters.get(topicFilter);
+    if (filter == null) {
+      filter = new SharedFilter(qos);
+      filter.topics.add(topic);
+      filters.put(topicFilter, filter);
+      return true;
+    }
+
+    if (filter.qos != qos) {
+      LOG.warn(
+          "Topic filter '{}' is already subscribed to with QoS {}, ignoring QoS {} for topic '{}'.",
+          topicFilter,
+          filter.qos.getQosValue(),
+          qos.getQosValue(),
+          topic
+      );
+    }
+    filter.topics.add(topic);
+    return false;
+  }
+
+  /**
+   * Stops routing messages received on the given topic to the given listener.
+   *
+   * @param topicFilter The (shared) topic filter the topic is matched by.
+   * @param topic The concrete topic.
+   * @param listener The listener no longer interested in messages received on the topic.
+   * @return {@code true} if, and only if, the topic filter is no longer in use and thus may be
+   * unsubscribed from.
+   */
+  public synchronized boolean removeRoute(
+      @Nonnull
+      String topicFilter,
+      @Nonnull
+      String topic,
+      @Nonnull
+      ConnectionEventListener listener
+  ) {
+    requireNonNull(topicFilter, "topicFilter");
+    requireNonNull(topic, "topic");
+    requireNonNull(listener, "listener");
+
+    if (!routes.remove(topic, listener)) {
+      return false;
+    }
+
+    SharedFilter filter = filters.get(topicFilter);
+    if (filter == null) {
+      return false;
+    }
+
+    filter.topics.remove(topic);
+    if (filter.topics.isEmpty()) {
+      filters.remove(topicFilter);
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Returns the listener messages received on the given topic are routed to.
+   *
+   * @param topic The concrete topic.
+   * @return The listener, or {@code null}, if messages on the topic are not routed to any listener.
+   */
+  @Nullable
+  public ConnectionEventListener getListener(
+      @Nonnull
+      String topic
+  ) {
+    return routes.get(topic);
+  }
+
+  /**
+   * Indicates whether the given topic filter is in use.
+   *
+   * @param topicFilter The topic filter.
+   * @return {@code true} if, and only if, at least one topic is routed via the topic filter.
+   */
+  public synchronized boolean isFilterInUse(
+      @Nonnull
+      String topicFilter
+  ) {
+    return filters.containsKey(topicFilter);
+  }
+
+  /**
+   * Returns the topic filters in use, mapped to the quality of service to subscribe with.
+   *
+   * @return The topic filters in use.
+   */
+  @Nonnull
+  public synchronized Map<String, QualityOfService> getTopicFilters() {
+    Map<String, QualityOfService> result = new HashMap<>();
+    filters.forEach((topicFilter, filter) -> result.put(topicFilter, filter.qos));
+    return result;
+  }
+
+  /**
+   * A topic filter shared by a number of concrete topics.
+   */
+  private static class SharedFilter {
+
+    /**
+     * The quality of service to subscribe to the topic filter with.
+     */
+    private final QualityOfService qos;
+    /**
+     * The concrete topics routed via this filter.
+     */
+    private final Set<String> topics = new HashSet<>();
+
+    SharedFilter(QualityOfService qos) {
+      this.qos = qos;
+    }
+  }
+}
@@ -2,6 +2,7 @@
 // SPDX-License-Identifier: MIT
 package org.opentcs.commadapter.vehicle.vda5050.v1_1;
 
+import com.google.inject.assistedinject.Assisted;
 import java.util.Map;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -69,9 +70,17 @@ public interface CommAdapterComponentsFactory {
    * Creates a new {@link DistanceInAdvanceController} for the given vehicle.
    *
    * @param maxDistanceInAdvance The maximum distance that may be covered in advance.
+   * @param maxTravelTimeInAdvance The maximum travel time that may be covered in advance.
+   * @param vehicle The vehicle.
    * @return A new instance.
    */
-  DistanceInAdvanceController createDistanceInAdvanceController(long maxDistanceInAdvance);
+  DistanceInAdvanceController createDistanceInAdvanceController(
+      @Assisted("maxDistanceInAdvance")
+      long maxDistanceInAdvance,
+      @Assisted("maxTravelTimeInAdvance")
+      long maxTravelTimeInAdvance,
+      Vehicle vehicle
+  );
 
   /**
    * Creates a new {@link DeviationExtensionTrigger} for the given vehicle.
@@ -6,7 +6,9 @@ import static java.lang.annotation.ElementType.PARAMETER;
 import static java.lang.annotation.RetentionPolicy.RUNTIME;
 import static java.util.Objects.requireNonNull;
 import static org.opentcs.commadapter.vehicle.vda5050.common.PropertyExtractions.getPropertyBoolean;
+import static org.opentcs.commadapter.vehicle.vda5050.common.PropertyExtractions.getPropertyInteger;
 import static org.opentcs.commadapter.vehicle.vda5050.v1_1.ObjectProperties.PROPKEY_VEHICLE_VALIDATE_INCOMING_MESSAGES;
+import static org.opentcs.commadapter.vehicle.vda5050.v1_1.ObjectProperties.PROPKEY_VEHICLE_VALIDATE_INCOMING_MESSAGES_SAMPLE_INTERVAL;
 
 import jakarta.inject.Inject;
 import jakarta.inject.Qualifier;
@@ -15,6 +17,8 @@ import java.lang.annotation.Target;
 import org.opentcs.commadapter.vehicle.vda5050.Vda5050CommAdapterFactory;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.drivers.vehicle.VehicleCommAdapter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  */
@@ -31,6 +35,10 @@ public class CommAdapterFactory
   public @interface V1dot1 {
   }
 
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(CommAdapterFactory.class);
   /**
    * Indicates whether a vehicle has all required properties to be handled by this comm adapter.
    */
@@ -76,11 +84,22 @@ public class CommAdapterFactory
   }
 
   private MessageValidator createMessageValidator(Vehicle vehicle) {
-    if (getPropertyBoolean(PROPKEY_VEHICLE_VALIDATE_INCOMING_MESSAGES, vehicle).orElse(true)) {
-      return new MessageValidator();
-    }
-    else {
+    if (!getPropertyBoolean(PROPKEY_VEHICLE_VALIDATE_INCOMING_MESSAGES, vehicle).orElse(true)) {
       return MessageValidator.ACCEPTING_ALL;
     }
+
+    int sampleInterval
+        = getPropertyInteger(PROPKEY_VEHICLE_VALIDATE_INCOMING_MESSAGES_SAMPLE_INTERVAL, vehicle)
+            .orElse(1);
+    if (sampleInterval < 1) {
+      LOG.warn(
+          "{}: Ignoring invalid sample interval {} for validating incoming messages.",
+          vehicle.getName(),
+          sampleInterval
+      );
+      sampleInterval = 1;
+    }
+    // Validators are lightweight views sharing the schemas compiled only once for all vehicles.
+    return MessageValidator.sampling(sampleInterval);
   }
 }
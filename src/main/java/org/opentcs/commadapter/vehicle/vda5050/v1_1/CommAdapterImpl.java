@@ -3,50 +3,84 @@
 package org.opentcs.commadapter.vehicle.vda5050.v1_1;
 
 import static java.util.Objects.requireNonNull;
+import static org.opentcs.commadapter.vehicle.vda5050.common.PropertyExtractions.getOutgoingMessageValidationPolicy;
 import static org.opentcs.commadapter.vehicle.vda5050.common.PropertyExtractions.getProperty;
+import static org.opentcs.commadapter.vehicle.vda5050.common.PropertyExtractions.getPropertyBoolean;
 import static org.opentcs.commadapter.vehicle.vda5050.common.PropertyExtractions.getPropertyInteger;
 import static org.opentcs.commadapter.vehicle.vda5050.common.PropertyExtractions.getPropertyLong;
 import static org.opentcs.commadapter.vehicle.vda5050.v1_1.MqttSetting.VERSION_MAJOR;
 import static org.opentcs.commadapter.vehicle.vda5050.v1_1.MqttSetting.VERSION_MINOR;
 import static org.opentcs.commadapter.vehicle.vda5050.v1_1.MqttSetting.VERSION_PATCH;
+import static org.opentcs.commadapter.vehicle.vda5050.v1_1.ObjectProperties.PROPKEY_VEHICLE_COALESCE_ORDER_UPDATES;
 import static org.opentcs.commadapter.vehicle.vda5050.v1_1.ObjectProperties.PROPKEY_VEHICLE_ERRORS_FATAL;
 import static org.opentcs.commadapter.vehicle.vda5050.v1_1.ObjectProperties.PROPKEY_VEHICLE_ERRORS_WARNING;
 import static org.opentcs.commadapter.vehicle.vda5050.v1_1.ObjectProperties.PROPKEY_VEHICLE_INFORMATIONS_DEBUG;
 import static org.opentcs.commadapter.vehicle.vda5050.v1_1.ObjectProperties.PROPKEY_VEHICLE_INFORMATIONS_INFO;
+import static org.opentcs.commadapter.vehicle.vda5050.v1_1.ObjectProperties.PROPKEY_VEHICLE_INSTANT_ACTIONS_LINGER_TIME;
 import static org.opentcs.commadapter.vehicle.vda5050.v1_1.ObjectProperties.PROPKEY_VEHICLE_LENGTH_LOADED;
 import static org.opentcs.commadapter.vehicle.vda5050.v1_1.ObjectProperties.PROPKEY_VEHICLE_LENGTH_UNLOADED;
 import static org.opentcs.commadapter.vehicle.vda5050.v1_1.ObjectProperties.PROPKEY_VEHICLE_MAX_DISTANCE_IN_ADVANCE;
 import static org.opentcs.commadapter.vehicle.vda5050.v1_1.ObjectProperties.PROPKEY_VEHICLE_MAX_IGNORED_REJECTIONS;
+import static org.opentcs.commadapter.vehicle.vda5050.v1_1.ObjectProperties.PROPKEY_VEHICLE_MAX_ORDER_UPDATES_IN_FLIGHT;
+import static org.opentcs.commadapter.vehicle.vda5050.v1_1.ObjectProperties.PROPKEY_VEHICLE_MAX_RESEND_TIMEOUT;
 import static org.opentcs.commadapter.vehicle.vda5050.v1_1.ObjectProperties.PROPKEY_VEHICLE_MAX_STEPS_BASE;
+import static org.opentcs.commadapter.vehicle.vda5050.v1_1.ObjectProperties.PROPKEY_VEHICLE_MAX_TRAVEL_TIME_IN_ADVANCE;
+import static org.opentcs.commadapter.vehicle.vda5050.v1_1.ObjectProperties.PROPKEY_VEHICLE_MERGE_INSTANT_ACTIONS;
 import static org.opentcs.commadapter.vehicle.vda5050.v1_1.ObjectProperties.PROPKEY_VEHICLE_MIN_VISU_INTERVAL;
 import static org.opentcs.commadapter.vehicle.vda5050.v1_1.ObjectProperties.PROPKEY_VEHICLE_PAUSED;
+import static org.opentcs.commadapter.vehicle.vda5050.v1_1.ObjectProperties.PROPKEY_VEHICLE_PRIORITY_INSTANT_ACTIONS;
 import static org.opentcs.commadapter.vehicle.vda5050.v1_1.ObjectProperties.PROPKEY_VEHICLE_RECHARGE_OPERATION;
+import static org.opentcs.commadapter.vehicle.vda5050.v1_1.ObjectProperties.PROPKEY_VEHICLE_RESEND_JITTER;
+import static org.opentcs.commadapter.vehicle.vda5050.v1_1.ObjectProperties.PROPKEY_VEHICLE_RESEND_TIMEOUT;
+import static org.opentcs.commadapter.vehicle.vda5050.v1_1.ObjectProperties.PROPKEY_VEHICLE_VALIDATE_OUTGOING_MESSAGES;
+import static org.opentcs.commadapter.vehicle.vda5050.v1_1.ObjectProperties.PROPKEY_VEHICLE_VALIDATE_OUTGOING_MESSAGES_SAMPLE_INTERVAL;
 import static org.opentcs.commadapter.vehicle.vda5050.v1_1.StateMappings.toLoadHandlingDevices;
 import static org.opentcs.commadapter.vehicle.vda5050.v1_1.StateMappings.toVehicleLength;
 import static org.opentcs.commadapter.vehicle.vda5050.v1_1.StateMappings.toVehicleState;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.google.inject.assistedinject.Assisted;
 import jakarta.inject.Inject;
 import java.beans.PropertyChangeEvent;
 import java.time.Instant;
 import java.util.HashMap;
+import java.util.IntSummaryStatistics;
 import java.util.List;
+import java.util.LongSummaryStatistics;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import org.opentcs.commadapter.vehicle.vda5050.CommAdapterConfiguration;
 import org.opentcs.commadapter.vehicle.vda5050.CommAdapterConfiguration.ConfigIntegrationLevel;
 import org.opentcs.commadapter.vehicle.vda5050.CommAdapterConfiguration.ConfigOperatingMode;
+import org.opentcs.commadapter.vehicle.vda5050.common.ChangeDrivenUpdates;
+import org.opentcs.commadapter.vehicle.vda5050.common.ConflatingMailbox;
 import org.opentcs.commadapter.vehicle.vda5050.common.DistanceInAdvanceController;
 import org.opentcs.commadapter.vehicle.vda5050.common.JsonBinder;
+import org.opentcs.commadapter.vehicle.vda5050.common.OutgoingMessageValidator;
+import org.opentcs.commadapter.vehicle.vda5050.common.ResendTimer;
+import org.opentcs.commadapter.vehicle.vda5050.common.UnsupportedPropertiesFilter;
 import org.opentcs.commadapter.vehicle.vda5050.common.mqtt.ConnectionEventListener;
+import org.opentcs.commadapter.vehicle.vda5050.common.mqtt.InboundLaneStatistics;
 import org.opentcs.commadapter.vehicle.vda5050.common.mqtt.IncomingMessage;
+import org.opentcs.commadapter.vehicle.vda5050.common.mqtt.LatestMessageThrottle;
 import org.opentcs.commadapter.vehicle.vda5050.common.mqtt.MqttClientManager;
 import org.opentcs.commadapter.vehicle.vda5050.common.mqtt.QualityOfService;
+import org.opentcs.commadapter.vehicle.vda5050.v1_1.action.CancelOrder;
+import org.opentcs.commadapter.vehicle.vda5050.v1_1.action.StartPause;
+import org.opentcs.commadapter.vehicle.vda5050.v1_1.action.StopPause;
 import org.opentcs.commadapter.vehicle.vda5050.v1_1.controlcenter.ProcessModelImplTO;
 import org.opentcs.commadapter.vehicle.vda5050.v1_1.message.Header;
 import org.opentcs.commadapter.vehicle.vda5050.v1_1.message.common.Action;
@@ -92,10 +126,23 @@ public class CommAdapterImpl
    * This class's logger.
    */
   private static final Logger LOG = LoggerFactory.getLogger(CommAdapterImpl.class);
+  /**
+   * The key for change-driven updates of the vehicle's load handling devices.
+   */
+  private static final String LOAD_HANDLING_DEVICES_UPDATE_KEY = "loadHandlingDevices";
   /**
    * Maps movement commands from openTCS to the telegrams sent to the attached vehicle.
    */
   private OrderMapper orderMapper;
+  /**
+   * Maps the commands not sent yet in advance, while the vehicle is still executing the ones sent
+   * before.
+   */
+  private volatile ExecutorService premappingExecutor;
+  /**
+   * Whether mapping the commands not sent yet in advance is already scheduled.
+   */
+  private final AtomicBoolean premappingScheduled = new AtomicBoolean();
   /**
    * Manages the client's connection to an MQTT broker.
    */
@@ -113,9 +160,29 @@ public class CommAdapterImpl
    */
   private final CommAdapterComponentsFactory componentsFactory;
   /**
-   * The minimum visualizationInterval.
+   * Limits the rate of visualization messages decoded to the minimum visualization interval.
+   */
+  private final LatestMessageThrottle visualizationThrottle;
+  /**
+   * The timestamp of the message the vehicle's pose was last taken from.
+   * Only accessed via the kernel executor.
+   */
+  private Instant lastPoseTimestamp = Instant.MIN;
+  /**
+   * Passes decoded state messages on to the kernel executor, skipping those superseded by a newer
+   * state message without any progress in between.
+   */
+  private final ConflatingMailbox<State> stateMailbox;
+  /**
+   * Whether incoming messages are currently passed on, i.e. whether this adapter is enabled.
+   * Read without holding this adapter's monitor by the threads decoding incoming messages.
+   */
+  private volatile boolean acceptingMessages;
+  /**
+   * Suppresses updates of the process model with values reported by the vehicle that did not
+   * change.
    */
-  private final int minVisualizationInterval;
+  private final ChangeDrivenUpdates kernelUpdates = new ChangeDrivenUpdates();
   /**
    * The vehicle's length when loaded.
    */
@@ -136,6 +203,14 @@ public class CommAdapterImpl
    * Binds JSON strings to objects and vice versa.
    */
   private final JsonBinder jsonBinder;
+  /**
+   * Serializes outgoing messages and validates them according to the configured policy.
+   */
+  private final OutgoingMessageValidator outgoingMessageValidator;
+  /**
+   * Serializes order messages, reusing the JSON fragments of their nodes and edges.
+   */
+  private final OrderSerializer orderSerializer;
   /**
    * Header id counter for message topics.
    */
@@ -145,9 +220,9 @@ public class CommAdapterImpl
    */
   private final MqttSetting mqttSetting;
   /**
-   * Timestamp of the last visualization message.
+   * The handlers for incoming messages, mapped by the topics they handle.
    */
-  private long lastVisualizationMessageTimestamp;
+  private final Map<String, Consumer<IncomingMessage>> incomingMessageHandlers;
   /**
    * Predicate to test if an action is executable by the vehicle.
    */
@@ -168,6 +243,20 @@ public class CommAdapterImpl
    * Maps {@link VehicleCommAdapterMessage} to other types.
    */
   private final CommAdapterMessageMapper commAdapterMessageMapper;
+  /**
+   * Statistics about the sizes (in characters) of the order messages sent.
+   */
+  private final LongSummaryStatistics orderSizes = new LongSummaryStatistics();
+  /**
+   * Statistics about the depth of this adapter's inbound dispatch lane, sampled with every state
+   * message.
+   */
+  private final IntSummaryStatistics inboundLaneDepths = new IntSummaryStatistics();
+  /**
+   * Statistics about the lag (in ms) of this adapter's inbound dispatch lane, sampled with every
+   * state message.
+   */
+  private final LongSummaryStatistics inboundLaneLags = new LongSummaryStatistics();
 
   /**
    * Creates a new instance.
@@ -210,8 +299,15 @@ public class CommAdapterImpl
     this.mqttSetting = requireNonNull(mqttSetting, "mqttSetting");
     this.messageValidator = requireNonNull(messageValidator, "messageValidator");
     this.componentsFactory = requireNonNull(componentsFactory, "componentsFactory");
-    this.minVisualizationInterval
-        = getPropertyInteger(PROPKEY_VEHICLE_MIN_VISU_INTERVAL, vehicle).orElse(500);
+    this.visualizationThrottle = new LatestMessageThrottle(
+        getPropertyInteger(PROPKEY_VEHICLE_MIN_VISU_INTERVAL, vehicle).orElse(500),
+        this::decodeVisualizationMessage
+    );
+    this.stateMailbox = new ConflatingMailbox<>(
+        StateProgress::of,
+        kernelExecutor,
+        this::onStateMessage
+    );
     this.vehicleLengthLoaded = getPropertyLong(PROPKEY_VEHICLE_LENGTH_LOADED, vehicle)
         .orElse(vehicle.getBoundingBox().getLength());
     this.vehicleLengthUnloaded = getPropertyLong(PROPKEY_VEHICLE_LENGTH_UNLOADED, vehicle)
@@ -223,13 +319,28 @@ public class CommAdapterImpl
     requireNonNull(unsupportedPropertiesExtractor, "unsupportedPropertiesExtractor");
 
     movementCommandManager = componentsFactory.createMovementCommandManager(vehicle);
-    this.jsonBinder.setFilter(
-        componentsFactory.createUnsupportedPropertiesFilter(
+    UnsupportedPropertiesFilter unsupportedPropertiesFilter
+        = componentsFactory.createUnsupportedPropertiesFilter(
             vehicle, unsupportedPropertiesExtractor
-        )
+        );
+    if (!unsupportedPropertiesFilter.isEmpty()) {
+      this.jsonBinder.setFilter(unsupportedPropertiesFilter);
+    }
+    this.outgoingMessageValidator = new OutgoingMessageValidator(
+        jsonBinder,
+        messageValidator,
+        getOutgoingMessageValidationPolicy(PROPKEY_VEHICLE_VALIDATE_OUTGOING_MESSAGES, vehicle)
+            .orElse(OutgoingMessageValidator.Policy.ALWAYS),
+        getPropertyInteger(PROPKEY_VEHICLE_VALIDATE_OUTGOING_MESSAGES_SAMPLE_INTERVAL, vehicle)
+            .filter(interval -> interval >= 1)
+            .orElse(10)
     );
+    this.orderSerializer = new OrderSerializer(jsonBinder);
     distanceInAdvanceController = componentsFactory.createDistanceInAdvanceController(
-        getPropertyLong(PROPKEY_VEHICLE_MAX_DISTANCE_IN_ADVANCE, vehicle).orElse(Long.MAX_VALUE)
+        getPropertyLong(PROPKEY_VEHICLE_MAX_DISTANCE_IN_ADVANCE, vehicle).orElse(Long.MAX_VALUE),
+        getPropertyLong(PROPKEY_VEHICLE_MAX_TRAVEL_TIME_IN_ADVANCE, vehicle)
+            .orElse(Long.MAX_VALUE),
+        vehicle
     );
     commAdapterMessageMapper = componentsFactory.createCommAdapterMessageMapper(vehicle);
 
@@ -238,10 +349,30 @@ public class CommAdapterImpl
         this::sendOrder,
         this::sendInstantAction,
         this::orderAccepted,
-        getPropertyInteger(PROPKEY_VEHICLE_MAX_IGNORED_REJECTIONS, vehicle).orElse(0)
+        getPropertyInteger(PROPKEY_VEHICLE_MAX_IGNORED_REJECTIONS, vehicle).orElse(0),
+        getPropertyInteger(PROPKEY_VEHICLE_MAX_ORDER_UPDATES_IN_FLIGHT, vehicle)
+            .filter(maxOrderUpdatesInFlight -> maxOrderUpdatesInFlight >= 1)
+            .orElse(1),
+        getPropertyBoolean(PROPKEY_VEHICLE_COALESCE_ORDER_UPDATES, vehicle).orElse(true),
+        getProperty(PROPKEY_VEHICLE_PRIORITY_INSTANT_ACTIONS, vehicle)
+            .map(
+                value -> Stream.of(value.split("\\|"))
+                    .map(actionType -> actionType.strip())
+                    .filter(actionType -> !actionType.isEmpty())
+                    .collect(Collectors.toSet())
+            )
+            .orElse(Set.of(StartPause.ACTION_TYPE, StopPause.ACTION_TYPE, CancelOrder.ACTION_TYPE)),
+        createResendTimer(vehicle, kernelExecutor),
+        createResendTimer(vehicle, kernelExecutor),
+        getPropertyBoolean(PROPKEY_VEHICLE_MERGE_INSTANT_ACTIONS, vehicle).orElse(true),
+        getPropertyLong(PROPKEY_VEHICLE_INSTANT_ACTIONS_LINGER_TIME, vehicle)
+            .filter(lingerTime -> lingerTime >= 0)
+            .orElse(20L),
+        kernelExecutor
     );
 
     getProcessModel().setTopicPrefix(mqttSetting.topicNamePrefix());
+    this.incomingMessageHandlers = createIncomingMessageHandlers();
 
     this.isActionExecutable = new ExecutableActionsTagsPredicate(vehicle);
     this.deviationExtensionTrigger = componentsFactory.createDeviationExtensionTrigger(vehicle);
@@ -255,10 +386,16 @@ public class CommAdapterImpl
         isActionExecutable,
         deviationExtensionTrigger
     );
+    premappingExecutor = Executors.newVirtualThreadPerTaskExecutor();
   }
 
   @Override
   public void terminate() {
+    ExecutorService executor = premappingExecutor;
+    premappingExecutor = null;
+    if (executor != null) {
+      executor.shutdown();
+    }
     super.terminate();
   }
 
@@ -270,16 +407,11 @@ public class CommAdapterImpl
 
     super.enable();
 
+    acceptingMessages = true;
     clientManager.registerConnectionEventListener(this);
-    clientManager.subscribe(
-        mqttSetting.connectionTopicName(), mqttSetting.connectionTopicQos(), this
-    );
-    clientManager.subscribe(
-        mqttSetting.stateTopicName(), mqttSetting.stateTopicQos(), this
-    );
-    clientManager.subscribe(
-        mqttSetting.visualizationTopicName(), mqttSetting.visualizationTopicQos(), this
-    );
+    subscribe(mqttSetting.connectionTopicName(), mqttSetting.connectionTopicQos());
+    subscribe(mqttSetting.stateTopicName(), mqttSetting.stateTopicQos());
+    subscribe(mqttSetting.visualizationTopicName(), mqttSetting.visualizationTopicQos());
 
     // The client manager may have already been connected to the broker prior to this adapter
     // instance being enabled. Therefore, we have to actively check the broker connection state.
@@ -289,6 +421,7 @@ public class CommAdapterImpl
 
     messageResponseMatcher.clear();
     movementCommandManager.clear();
+    kernelUpdates.reset();
   }
 
   @Override
@@ -297,14 +430,51 @@ public class CommAdapterImpl
       return;
     }
 
-    clientManager.unsubscribe(mqttSetting.connectionTopicName(), this);
-    clientManager.unsubscribe(mqttSetting.stateTopicName(), this);
-    clientManager.unsubscribe(mqttSetting.visualizationTopicName(), this);
+    // Messages still being delivered to or decoded by this adapter must not be passed on once the
+    // mailbox and the throttle have been cleared below.
+    acceptingMessages = false;
+    unsubscribe(mqttSetting.connectionTopicName());
+    unsubscribe(mqttSetting.stateTopicName());
+    stateMailbox.clear();
+    unsubscribe(mqttSetting.visualizationTopicName());
+    visualizationThrottle.clear();
     clientManager.unregisterConnectionEventListener(this);
 
     // With unregistering from the client manager, we will no longer receive any update regarding
     // the broker connection. Therefore, treat a disabled adapter instance as disconnected.
     onDisconnect();
+    LOG.debug(
+        "{}: Discarded {} visualization messages without decoding them so far.",
+        getName(),
+        visualizationThrottle.getDiscardedCount()
+    );
+    LOG.debug(
+        "{}: Suppressed {} kernel updates with unchanged values so far.",
+        getName(),
+        kernelUpdates.getSuppressedUpdatesCount()
+    );
+    LOG.debug(
+        "{}: Resent {} messages so far, acknowledgement latencies (ms): {}",
+        getName(),
+        messageResponseMatcher.getResendCount(),
+        messageResponseMatcher.getAcknowledgementLatencies()
+    );
+    synchronized (orderSizes) {
+      LOG.debug(
+          "{}: Order sizes (characters): {}, horizon lengths (steps): {}",
+          getName(),
+          orderSizes,
+          orderMapper.getHorizonLengths()
+      );
+    }
+    synchronized (inboundLaneDepths) {
+      LOG.debug(
+          "{}: Inbound lane depths (messages): {}, lags (ms): {}",
+          getName(),
+          inboundLaneDepths,
+          inboundLaneLags
+      );
+    }
 
     super.disable();
   }
@@ -313,6 +483,7 @@ public class CommAdapterImpl
   public synchronized void clearCommandQueue() {
     super.clearCommandQueue();
     movementCommandManager.clear();
+    distanceInAdvanceController.clear();
     messageResponseMatcher.clear();
 
     enqueueCancelOrder();
@@ -376,15 +547,61 @@ public class CommAdapterImpl
 
     messageResponseMatcher.enqueueCommand(orderMapper.toOrder(cmd), cmd);
     deviationExtensionTrigger.reset();
+    premapUnsentCommands();
+  }
+
+  /**
+   * Schedules mapping the commands not sent yet in advance, so that their orders are usually
+   * already available when the commands are to be sent.
+   */
+  private void premapUnsentCommands() {
+    ExecutorService executor = premappingExecutor;
+    if (executor == null || !premappingScheduled.compareAndSet(false, true)) {
+      return;
+    }
+
+    try {
+      executor.execute(() -> {
+        premappingScheduled.set(false);
+
+        List<MovementCommand> unsentCommands;
+        synchronized (this) {
+          unsentCommands = List.copyOf(getUnsentCommands());
+        }
+        if (unsentCommands.isEmpty()) {
+          return;
+        }
+
+        try {
+          orderMapper.premap(unsentCommands);
+        }
+        catch (RuntimeException e) {
+          LOG.warn("{}: Failed to map commands in advance.", getName(), e);
+        }
+      });
+    }
+    catch (RejectedExecutionException e) {
+      // The adapter has been terminated concurrently.
+      premappingScheduled.set(false);
+    }
   }
 
   @Override
-  public boolean canAcceptNextCommand() {
-    return super.canAcceptNextCommand() && distanceInAdvanceController.canAcceptNextCommand(
-        Stream
-            .concat(getUnsentCommands().stream(), getSentCommands().stream())
-            .collect(Collectors.toList())
-    );
+  public synchronized boolean enqueueCommand(MovementCommand newCommand) {
+    boolean enqueued = super.enqueueCommand(newCommand);
+    if (enqueued) {
+      distanceInAdvanceController.onCommandEnqueued(newCommand);
+    }
+    return enqueued;
+  }
+
+  @Override
+  public synchronized boolean canAcceptNextCommand() {
+    return super.canAcceptNextCommand()
+        && distanceInAdvanceController.canAcceptNextCommand(
+            getUnsentCommands(),
+            getSentCommands()
+        );
   }
 
   @Override
@@ -487,47 +704,26 @@ public class CommAdapterImpl
     getExecutor().execute(() -> getProcessModel().setVehicleIdle(true));
   }
 
+  // Not synchronized: Decoding messages only touches state that is safe to share between threads,
+  // i.e. the message validator's sampling counters, the visualization throttle's slot and the
+  // state mailbox. (The client manager delivers messages for this adapter sequentially, but
+  // visualization messages held back by the throttle are decoded on the throttle's thread,
+  // concurrently with others.) Messages arriving after this adapter has been disabled are dropped.
   @Override
-  public synchronized void onIncomingMessage(IncomingMessage message) {
+  public void onIncomingMessage(IncomingMessage message) {
     requireNonNull(message, "message");
 
-    if (Objects.equals(message.getTopic(), mqttSetting.connectionTopicName())) {
-      try {
-        messageValidator.validate(message.getMessage(), Connection.class);
-        Connection connectionMessage = jsonBinder.fromJson(message.getMessage(), Connection.class);
-        getExecutor().execute(() -> onConnectionMessage(connectionMessage));
-      }
-      catch (IllegalArgumentException ex) {
-        LOG.warn("Cannot parse connection message: {}", message.getMessage(), ex);
-      }
-    }
-    else if (Objects.equals(message.getTopic(), mqttSetting.stateTopicName())) {
-      try {
-        messageValidator.validate(message.getMessage(), State.class);
-        State stateMessage = jsonBinder.fromJson(message.getMessage(), State.class);
-        getExecutor().execute(() -> onStateMessage(stateMessage));
-      }
-      catch (IllegalArgumentException ex) {
-        LOG.warn("Cannot parse state message: {}", message.getMessage(), ex);
-      }
-    }
-    else if (Objects.equals(message.getTopic(), mqttSetting.visualizationTopicName())) {
-      try {
-        messageValidator.validate(message.getMessage(), Visualization.class);
-        Visualization vis = jsonBinder.fromJson(message.getMessage(), Visualization.class);
-        getExecutor().execute(() -> onVisualizationMessage(vis));
-      }
-      catch (IllegalArgumentException ex) {
-        LOG.warn("Cannot parse visualization message: {}", message.getMessage(), ex);
-      }
-    }
-    else {
+    Consumer<IncomingMessage> handler = incomingMessageHandlers.get(message.getTopic());
+    if (handler == null) {
       LOG.warn(
           "Incoming message on unhandled topic '{}': {}",
           message.getTopic(),
           message.getMessage()
       );
+      return;
     }
+
+    handler.accept(message);
   }
 
   @Override
@@ -542,6 +738,98 @@ public class CommAdapterImpl
     messageResponseMatcher.enqueueAction(instantAction);
   }
 
+  private Map<String, Consumer<IncomingMessage>> createIncomingMessageHandlers() {
+    // If topic names happen to be equal, the first handler registered for a topic wins.
+    Map<String, Consumer<IncomingMessage>> handlers = new HashMap<>();
+    handlers.putIfAbsent(mqttSetting.connectionTopicName(), this::decodeConnectionMessage);
+    handlers.putIfAbsent(mqttSetting.stateTopicName(), this::decodeStateMessage);
+    // Throttle visualization messages before decoding them, as most of them would be discarded.
+    handlers.putIfAbsent(mqttSetting.visualizationTopicName(), visualizationThrottle::offer);
+    return Map.copyOf(handlers);
+  }
+
+  private void subscribe(String topicName, QualityOfService qos) {
+    if (mqttSetting.usesWildcardSubscriptions()) {
+      clientManager.subscribeRouted(mqttSetting.toTopicFilter(topicName), qos, topicName, this);
+    }
+    else {
+      clientManager.subscribe(topicName, qos, this);
+    }
+  }
+
+  private void unsubscribe(String topicName) {
+    if (mqttSetting.usesWildcardSubscriptions()) {
+      clientManager.unsubscribeRouted(mqttSetting.toTopicFilter(topicName), topicName, this);
+    }
+    else {
+      clientManager.unsubscribe(topicName, this);
+    }
+  }
+
+  private void decodeConnectionMessage(IncomingMessage message) {
+    try {
+      Connection connectionMessage = decode(message, Connection.class);
+      getExecutor().execute(() -> onConnectionMessage(connectionMessage));
+    }
+    catch (IllegalArgumentException ex) {
+      LOG.warn("Cannot parse connection message: {}", message.getMessage(), ex);
+    }
+  }
+
+  private void decodeStateMessage(IncomingMessage message) {
+    if (!acceptingMessages) {
+      return;
+    }
+
+    try {
+      stateMailbox.offer(decode(message, State.class));
+    }
+    catch (IllegalArgumentException ex) {
+      LOG.warn("Cannot parse state message: {}", message.getMessage(), ex);
+    }
+  }
+
+  private void decodeVisualizationMessage(IncomingMessage message) {
+    if (!acceptingMessages) {
+      return;
+    }
+
+    try {
+      Visualization vis = decode(message, Visualization.class);
+      getExecutor().execute(() -> onVisualizationMessage(vis));
+    }
+    catch (IllegalArgumentException ex) {
+      LOG.warn("Cannot parse visualization message: {}", message.getMessage(), ex);
+    }
+  }
+
+  private <T> T decode(IncomingMessage message, Class<T> clazz)
+      throws IllegalArgumentException {
+    if (!messageValidator.shouldValidate(clazz)) {
+      return jsonBinder.fromJson(message.getPayload(), clazz);
+    }
+
+    // Parse the payload only once, for both validating and binding it.
+    JsonNode tree = jsonBinder.readTree(message.getPayload());
+    messageValidator.validate(tree, clazz);
+    return jsonBinder.fromJson(tree, clazz);
+  }
+
+  private void recordInboundLaneStatistics(InboundLaneStatistics statistics) {
+    synchronized (inboundLaneDepths) {
+      inboundLaneDepths.accept(statistics.queueDepth());
+      inboundLaneLags.accept(statistics.lag().toMillis());
+    }
+    if (statistics.queueDepth() > 0) {
+      LOG.debug(
+          "{}: Inbound lane has {} messages queued, lagging by {} ms.",
+          getName(),
+          statistics.queueDepth(),
+          statistics.lag().toMillis()
+      );
+    }
+  }
+
   private void onVisualizationMessage(Visualization vis) {
     LOG.debug("{}: Received a new visualization message: {}", getName(), vis);
     getProcessModel().setVehicleIdle(false);
@@ -551,18 +839,12 @@ public class CommAdapterImpl
       return;
     }
 
-    long now = System.currentTimeMillis();
-    if (now - lastVisualizationMessageTimestamp < minVisualizationInterval) {
-      LOG.trace(
-          "Visualization message discarded - last one was {} ms ago.",
-          now - lastVisualizationMessageTimestamp
-      );
-      return;
-    }
-    lastVisualizationMessageTimestamp = now;
-
-    if (vis.getAgvPosition() != null) {
-      processVehiclePosition(vis.getAgvPosition());
+    // A visualization message passed on by the throttle with a delay may be older than a state
+    // message handled in the meantime, in which case its position is outdated. (Without a
+    // timestamp, which may happen with validation disabled, it is not considered outdated.)
+    if (vis.getAgvPosition() != null
+        && (vis.getTimestamp() == null || !vis.getTimestamp().isBefore(lastPoseTimestamp))) {
+      processVehiclePosition(vis.getAgvPosition(), vis.getTimestamp());
     }
     getProcessModel().setCurrentVisualization(vis);
   }
@@ -589,8 +871,13 @@ public class CommAdapterImpl
   }
 
   private void onStateMessage(State state) {
+    if (!acceptingMessages) {
+      return;
+    }
+
     LOG.debug("{}: Received a new state message: {}", getName(), state);
     getProcessModel().setVehicleIdle(false);
+    clientManager.getInboundLaneStatistics(this).ifPresent(this::recordInboundLaneStatistics);
 
     if (!incomingMessageFilter.accept(state)) {
       LOG.warn("Discarding unacceptable state message: {}", state);
@@ -632,7 +919,7 @@ public class CommAdapterImpl
     }
 
     if (state.getAgvPosition() != null) {
-      processVehiclePosition(state.getAgvPosition());
+      processVehiclePosition(state.getAgvPosition(), state.getTimestamp());
     }
 
     if (state.getLastNodeId() != null && !state.getLastNodeId().isBlank()) {
@@ -646,38 +933,73 @@ public class CommAdapterImpl
       getProcessModel().positionResolutionRequested(getProcessModel().getPose());
     }
 
-    getProcessModel().setLoadHandlingDevices(toLoadHandlingDevices(state));
-    getProcessModel().setEnergyLevel(state.getBatteryState().getBatteryCharge().intValue());
-    getProcessModel().setProperty(
+    // Most of these values change only rarely, so only pass on actual changes to the kernel.
+    kernelUpdates.update(
+        LOAD_HANDLING_DEVICES_UPDATE_KEY,
+        StateMappings.toLoadsDigest(state),
+        () -> toLoadHandlingDevices(state),
+        getProcessModel()::setLoadHandlingDevices
+    );
+    kernelUpdates.update(
+        getProcessModel().getEnergyLevel(),
+        state.getBatteryState().getBatteryCharge().intValue(),
+        getProcessModel()::setEnergyLevel
+    );
+    List<List<Object>> errorsDigest = StateMappings.toErrorsDigest(state);
+    updateProperty(
         PROPKEY_VEHICLE_ERRORS_FATAL,
-        StateMappings.toErrorPropertyValue(state, ErrorLevel.FATAL)
+        errorsDigest,
+        () -> StateMappings.toErrorPropertyValue(state, ErrorLevel.FATAL)
     );
-    getProcessModel().setProperty(
+    updateProperty(
         PROPKEY_VEHICLE_ERRORS_WARNING,
-        StateMappings.toErrorPropertyValue(state, ErrorLevel.WARNING)
+        errorsDigest,
+        () -> StateMappings.toErrorPropertyValue(state, ErrorLevel.WARNING)
     );
-    getProcessModel().setProperty(
+    List<List<Object>> informationDigest = StateMappings.toInformationDigest(state);
+    updateProperty(
         PROPKEY_VEHICLE_INFORMATIONS_INFO,
-        StateMappings.toInfoPropertyValue(state, InfoLevel.INFO)
+        informationDigest,
+        () -> StateMappings.toInfoPropertyValue(state, InfoLevel.INFO)
     );
-    getProcessModel().setProperty(
+    updateProperty(
         PROPKEY_VEHICLE_INFORMATIONS_DEBUG,
-        StateMappings.toInfoPropertyValue(state, InfoLevel.DEBUG)
+        informationDigest,
+        () -> StateMappings.toInfoPropertyValue(state, InfoLevel.DEBUG)
     );
-    getProcessModel().setProperty(
+    updateProperty(
         PROPKEY_VEHICLE_PAUSED,
-        StateMappings.toPausedPropertyValue(state)
+        state.isPaused(),
+        () -> StateMappings.toPausedPropertyValue(state)
     );
-    getProcessModel().setState(toVehicleState(state));
-    getProcessModel().setBoundingBox(
-        getProcessModel().getBoundingBox().withLength(
-            toVehicleLength(state, vehicleLengthUnloaded, vehicleLengthLoaded)
+    kernelUpdates.update(
+        getProcessModel().getState(),
+        toVehicleState(state),
+        getProcessModel()::setState
+    );
+    kernelUpdates.update(
+        getProcessModel().getBoundingBox().getLength(),
+        toVehicleLength(state, vehicleLengthUnloaded, vehicleLengthLoaded),
+        length -> getProcessModel().setBoundingBox(
+            getProcessModel().getBoundingBox().withLength(length)
         )
     );
 
     processVehicleOperatingMode(state);
 
     movementCommandManager.onStateMessage(state, this::onMovementCommandExecuted);
+
+    // While the vehicle is moving, map the commands held back so far in advance.
+    premapUnsentCommands();
+  }
+
+  private void updateProperty(String key, Object digest, Supplier<String> value) {
+    kernelUpdates.update(
+        key,
+        digest,
+        value,
+        newValue -> getProcessModel().setProperty(key, newValue)
+    );
   }
 
   private void onMovementCommandExecuted(
@@ -689,6 +1011,7 @@ public class CommAdapterImpl
     MovementCommand oldestCommand = getSentCommands().peek();
     if (Objects.equals(finishedCommand, oldestCommand)) {
       getSentCommands().poll();
+      distanceInAdvanceController.onCommandExecuted(oldestCommand);
       getProcessModel().commandExecuted(oldestCommand);
     }
     else {
@@ -746,7 +1069,10 @@ public class CommAdapterImpl
     }
   }
 
-  private void processVehiclePosition(AgvPosition position) {
+  private void processVehiclePosition(AgvPosition position, @Nullable Instant timestamp) {
+    if (timestamp != null) {
+      lastPoseTimestamp = timestamp;
+    }
     getProcessModel().setPose(
         new Pose(
             new Triple(
@@ -794,8 +1120,14 @@ public class CommAdapterImpl
     messageObject.setManufacturer(mqttSetting.vehicleManufacturer());
     messageObject.setSerialNumber(mqttSetting.vehicleSerialNumber());
     try {
-      String message = jsonBinder.toJson(messageObject);
-      messageValidator.validate(message, messageObject.getClass());
+      String message = messageObject instanceof Order order
+          ? outgoingMessageValidator.toJson(order, orderSerializer::toJson)
+          : outgoingMessageValidator.toJson(messageObject);
+      if (messageObject instanceof Order) {
+        synchronized (orderSizes) {
+          orderSizes.accept(message.length());
+        }
+      }
       LOG.debug("{}: Sending message to '{}': {}", getName(), topic, message);
       clientManager.publish(topic, qos, message, false);
     }
@@ -804,6 +1136,31 @@ public class CommAdapterImpl
     }
   }
 
+  @Nullable
+  private static ResendTimer createResendTimer(
+      Vehicle vehicle,
+      ScheduledExecutorService kernelExecutor
+  ) {
+    long resendTimeout = getPropertyLong(PROPKEY_VEHICLE_RESEND_TIMEOUT, vehicle)
+        .filter(timeout -> timeout >= 0)
+        .orElse(1000L);
+    if (resendTimeout == 0) {
+      // Resend messages with every state message not acknowledging them.
+      return null;
+    }
+
+    return new ResendTimer(
+        kernelExecutor,
+        resendTimeout,
+        getPropertyLong(PROPKEY_VEHICLE_MAX_RESEND_TIMEOUT, vehicle)
+            .filter(timeout -> timeout >= resendTimeout)
+            .orElse(Math.max(resendTimeout, 8000L)),
+        getPropertyInteger(PROPKEY_VEHICLE_RESEND_JITTER, vehicle)
+            .filter(jitter -> jitter >= 0 && jitter <= 100)
+            .orElse(20) / 100.0
+    );
+  }
+
   private void orderAccepted(OrderAssociation order) {
     movementCommandManager.enqueue(order);
   }
@@ -24,6 +24,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import org.opentcs.commadapter.vehicle.vda5050.common.KernelObjectCache;
 import org.opentcs.commadapter.vehicle.vda5050.v1_1.action.InitPosition;
 import org.opentcs.commadapter.vehicle.vda5050.v1_1.message.common.Action;
 import org.opentcs.commadapter.vehicle.vda5050.v1_1.message.common.ActionParameter;
@@ -32,7 +33,6 @@ import org.opentcs.commadapter.vehicle.vda5050.v1_1.message.order.Edge;
 import org.opentcs.commadapter.vehicle.vda5050.v1_1.message.order.Node;
 import org.opentcs.commadapter.vehicle.vda5050.v1_1.message.order.Order;
 import org.opentcs.commadapter.vehicle.vda5050.v1_1.ordermapping.NodeMapping;
-import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.data.model.Point;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.drivers.vehicle.VehicleCommAdapterMessage;
@@ -45,7 +45,7 @@ public class CommAdapterMessageMapper {
 
   private final Vehicle vehicle;
   private final MapValueExtractor mapValueExtractor;
-  private final TCSObjectService objectService;
+  private final KernelObjectCache objectCache;
   private final NodeMapping nodeMapping;
 
   /**
@@ -53,19 +53,19 @@ public class CommAdapterMessageMapper {
    *
    * @param vehicle The vehicle this mapper is used for.
    * @param mapValueExtractor Extracts values from maps.
-   * @param objectService The service used for fetching objects.
+   * @param objectCache Provides the objects fetched from the kernel.
    */
   @Inject
   public CommAdapterMessageMapper(
       @Assisted
       Vehicle vehicle,
       MapValueExtractor mapValueExtractor,
-      TCSObjectService objectService,
+      KernelObjectCache objectCache,
       NodeMapping nodeMapping
   ) {
     this.vehicle = requireNonNull(vehicle, "vehicle");
     this.mapValueExtractor = requireNonNull(mapValueExtractor, "mapValueExtractor");
-    this.objectService = requireNonNull(objectService, "objectService");
+    this.objectCache = requireNonNull(objectCache, "objectCache");
     this.nodeMapping = requireNonNull(nodeMapping, "nodeMapping");
   }
 
@@ -233,7 +233,7 @@ public class CommAdapterMessageMapper {
         List.of()
     ).setNodePosition(
         nodeMapping.toNodePosition(
-            objectService.fetch(Point.class, pointName).orElseThrow(),
+            objectCache.fetch(Point.class, pointName).orElseThrow(),
             vehicle,
             false
         )
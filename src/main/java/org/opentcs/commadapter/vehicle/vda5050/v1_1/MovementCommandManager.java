@@ -9,36 +9,47 @@ import static org.opentcs.commadapter.vehicle.vda5050.v1_1.ObjectProperties.PROP
 import com.google.inject.assistedinject.Assisted;
 import jakarta.inject.Inject;
 import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
-import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Queue;
+import java.util.Set;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.annotation.Nonnull;
 import org.opentcs.commadapter.vehicle.vda5050.common.MovementCommandCompletedCondition;
 import org.opentcs.commadapter.vehicle.vda5050.common.PropertyExtractions;
+import org.opentcs.commadapter.vehicle.vda5050.v1_1.StateProgress.Element;
 import org.opentcs.commadapter.vehicle.vda5050.v1_1.message.common.Action;
-import org.opentcs.commadapter.vehicle.vda5050.v1_1.message.order.Edge;
-import org.opentcs.commadapter.vehicle.vda5050.v1_1.message.order.Node;
 import org.opentcs.commadapter.vehicle.vda5050.v1_1.message.order.Order;
 import org.opentcs.commadapter.vehicle.vda5050.v1_1.message.state.ActionState;
 import org.opentcs.commadapter.vehicle.vda5050.v1_1.message.state.ActionStatus;
-import org.opentcs.commadapter.vehicle.vda5050.v1_1.message.state.EdgeState;
-import org.opentcs.commadapter.vehicle.vda5050.v1_1.message.state.NodeState;
 import org.opentcs.commadapter.vehicle.vda5050.v1_1.message.state.State;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.drivers.vehicle.MovementCommand;
 
 /**
  * Tracks the progress of movement commands and reports back finished ones.
+ * <p>
+ * For every tracked order, the released nodes and edges the vehicle has not yet traversed and the
+ * actions it has not yet finished are kept in hash sets. With every state message, these sets
+ * shrink by the elements the vehicle no longer reports as pending, using an index of the state
+ * message built only once. An order is complete as soon as the relevant sets are empty.
+ * </p>
  */
 public class MovementCommandManager {
 
   /**
    * A list of currently tracked orders.
    */
-  private final Queue<OrderAssociation> trackedOrders = new ArrayDeque<>();
+  private final Queue<TrackedOrder> trackedOrders = new ArrayDeque<>();
+  /**
+   * The number of tracked orders for each destination point name.
+   */
+  private final Map<String, Integer> destinationPointCounts = new HashMap<>();
   /**
    * The movement command completed condition.
    */
@@ -78,7 +89,8 @@ public class MovementCommandManager {
   ) {
     requireNonNull(orderAssociation, "orderAssociation");
 
-    trackedOrders.add(orderAssociation);
+    trackedOrders.add(new TrackedOrder(orderAssociation));
+    destinationPointCounts.merge(destinationPointName(orderAssociation), 1, Integer::sum);
   }
 
   /**
@@ -86,6 +98,7 @@ public class MovementCommandManager {
    */
   public void clear() {
     trackedOrders.clear();
+    destinationPointCounts.clear();
   }
 
   /**
@@ -108,19 +121,31 @@ public class MovementCommandManager {
       return;
     }
 
-    Iterator<OrderAssociation> iter = trackedOrders.iterator();
-    while (iter.hasNext() && checkForCompletionAndReport(iter.next(), currentState, callback)) {
+    StateIndex stateIndex = new StateIndex(currentState);
+    Iterator<TrackedOrder> iter = trackedOrders.iterator();
+    while (iter.hasNext()) {
+      TrackedOrder trackedOrder = iter.next();
+      if (!checkForCompletionAndReport(trackedOrder, currentState, stateIndex, callback)) {
+        return;
+      }
       iter.remove();
+      destinationPointCounts.computeIfPresent(
+          destinationPointName(trackedOrder.association),
+          (name, count) -> count == 1 ? null : count - 1
+      );
     }
   }
 
   private boolean checkForCompletionAndReport(
-      OrderAssociation association,
+      TrackedOrder trackedOrder,
       State state,
+      StateIndex stateIndex,
       Consumer<MovementCommand> callback
   ) {
-    if (orderComplete(association, state)) {
-      callback.accept(association.getCommand());
+    trackedOrder.update(stateIndex);
+
+    if (orderComplete(trackedOrder, state)) {
+      callback.accept(trackedOrder.association.getCommand());
       return true;
     }
     else {
@@ -128,28 +153,28 @@ public class MovementCommandManager {
     }
   }
 
-  private boolean orderComplete(OrderAssociation association, State state) {
-    return movementComplete(association, state)
-        && (!association.getCommand().isFinalMovement()
-            || actionsComplete(association.getOrder(), state));
+  private boolean orderComplete(TrackedOrder trackedOrder, State state) {
+    return movementComplete(trackedOrder, state)
+        && (!trackedOrder.association.getCommand().isFinalMovement()
+            || trackedOrder.remainingActionIds.isEmpty());
   }
 
-  private boolean movementComplete(OrderAssociation association, State state) {
+  private boolean movementComplete(TrackedOrder trackedOrder, State state) {
     if (!lastNodeIdPlausibleForMovementCompletion(state)) {
       return false;
     }
 
-    if (association.getCommand().isFinalMovement()) {
-      return edgesComplete(association.getOrder(), state)
-          && nodesComplete(association.getOrder(), state);
+    if (trackedOrder.association.getCommand().isFinalMovement()) {
+      return trackedOrder.remainingEdges.isEmpty()
+          && trackedOrder.remainingNodes.isEmpty();
     }
     switch (completedCondition) {
       case EDGE:
-        return edgesComplete(association.getOrder(), state);
+        return trackedOrder.remainingEdges.isEmpty();
       case EDGE_AND_NODE:
       default:
-        return edgesComplete(association.getOrder(), state)
-            && nodesComplete(association.getOrder(), state);
+        return trackedOrder.remainingEdges.isEmpty()
+            && trackedOrder.remainingNodes.isEmpty();
     }
   }
 
@@ -160,60 +185,15 @@ public class MovementCommandManager {
 
     // lastNodeId is acceptable if it matches the name of any remaining destination point on the
     // route that has already been released to the vehicle.
-    return trackedOrders.stream()
-        .anyMatch(
-            association -> Objects.equals(
-                association.getCommand().getStep().getDestinationPoint().getName(),
-                state.getLastNodeId()
-            )
-        );
-  }
-
-  private boolean edgesComplete(Order order, State state) {
-    return order.getEdges().stream()
-        .filter(edge -> edge.isReleased())
-        .allMatch(edge -> edgeComplete(edge, state.getEdgeStates()));
-  }
-
-  private boolean nodesComplete(Order order, State state) {
-    return order.getNodes().stream()
-        .filter(node -> node.isReleased())
-        .allMatch(node -> nodeComplete(node, state.getNodeStates()));
+    return state.getLastNodeId() != null
+        && destinationPointCounts.containsKey(state.getLastNodeId());
   }
 
-  private boolean edgeComplete(Edge edge, List<EdgeState> edgeStates) {
-    // An edge is complete if it is not in the list of edge states (any more).
-    return edgeStates.stream().noneMatch(edgeState -> {
-      return Objects.equals(edgeState.getEdgeId(), edge.getEdgeId())
-          && Objects.equals(edgeState.getSequenceId(), edge.getSequenceId());
-    });
+  private static String destinationPointName(OrderAssociation association) {
+    return association.getCommand().getStep().getDestinationPoint().getName();
   }
 
-  private boolean nodeComplete(Node node, List<NodeState> nodeStates) {
-    // A node is complete if it is not in the list of node states (any more).
-    return nodeStates.stream().noneMatch(nodeState -> {
-      return Objects.equals(nodeState.getNodeId(), node.getNodeId())
-          && Objects.equals(nodeState.getSequenceId(), node.getSequenceId());
-    });
-  }
-
-  private boolean actionsComplete(Order order, State state) {
-    return Stream.concat(
-        order.getNodes().stream().flatMap(node -> node.getActions().stream()),
-        order.getEdges().stream().flatMap(edge -> edge.getActions().stream())
-    )
-        .allMatch(action -> actionComplete(action, state.getActionStates()));
-  }
-
-  private boolean actionComplete(Action action, List<ActionState> actionStates) {
-    return actionStates.stream()
-        .anyMatch(actionState -> {
-          return Objects.equals(actionState.getActionId(), action.getActionId())
-              && isFinalActionStatus(actionState.getActionStatus());
-        });
-  }
-
-  private boolean isFinalActionStatus(ActionStatus actionStatus) {
+  private static boolean isFinalActionStatus(ActionStatus actionStatus) {
     return actionStatus == ActionStatus.FAILED
         || actionStatus == ActionStatus.FINISHED;
   }
@@ -226,8 +206,99 @@ public class MovementCommandManager {
         state.getOrderId(),
         trackedOrders.stream()
             .findAny()
-            .map(orderAssociation -> orderAssociation.getOrder().getOrderId())
+            .map(trackedOrder -> trackedOrder.association.getOrder().getOrderId())
             .orElse("")
     );
   }
+
+  /**
+   * The nodes, edges and actions of a state message, indexed for lookups.
+   */
+  private static class StateIndex {
+
+    /**
+     * The nodes the vehicle still has to traverse.
+     */
+    private final Set<Element> pendingNodes;
+    /**
+     * The edges the vehicle still has to traverse.
+     */
+    private final Set<Element> pendingEdges;
+    /**
+     * The IDs of the actions the vehicle has finished (successfully or not).
+     */
+    private final Set<String> finishedActionIds;
+
+    StateIndex(State state) {
+      this.pendingNodes = state.getNodeStates().stream()
+          .map(nodeState -> new Element(nodeState.getNodeId(), nodeState.getSequenceId()))
+          .collect(Collectors.toCollection(HashSet::new));
+      this.pendingEdges = state.getEdgeStates().stream()
+          .map(edgeState -> new Element(edgeState.getEdgeId(), edgeState.getSequenceId()))
+          .collect(Collectors.toCollection(HashSet::new));
+      this.finishedActionIds = state.getActionStates().stream()
+          .filter(actionState -> isFinalActionStatus(actionState.getActionStatus()))
+          .map(ActionState::getActionId)
+          .collect(Collectors.toCollection(HashSet::new));
+    }
+  }
+
+  /**
+   * A tracked order, along with the elements the vehicle has not completed yet.
+   */
+  private static class TrackedOrder {
+
+    /**
+     * The tracked order association.
+     */
+    private final OrderAssociation association;
+    /**
+     * The released nodes of the order that the vehicle has not traversed yet.
+     */
+    private final Set<Element> remainingNodes;
+    /**
+     * The released edges of the order that the vehicle has not traversed yet.
+     */
+    private final Set<Element> remainingEdges;
+    /**
+     * The IDs of the order's actions that the vehicle has not finished yet.
+     */
+    private final Set<String> remainingActionIds;
+
+    TrackedOrder(OrderAssociation association) {
+      this.association = association;
+      Order order = association.getOrder();
+      this.remainingNodes = order.getNodes().stream()
+          .filter(node -> node.isReleased())
+          .map(node -> new Element(node.getNodeId(), node.getSequenceId()))
+          .collect(Collectors.toCollection(HashSet::new));
+      this.remainingEdges = order.getEdges().stream()
+          .filter(edge -> edge.isReleased())
+          .map(edge -> new Element(edge.getEdgeId(), edge.getSequenceId()))
+          .collect(Collectors.toCollection(HashSet::new));
+      this.remainingActionIds = Stream.concat(
+          order.getNodes().stream().flatMap(node -> node.getActions().stream()),
+          order.getEdges().stream().flatMap(edge -> edge.getActions().stream())
+      )
+          .map(Action::getActionId)
+          .collect(Collectors.toCollection(HashSet::new));
+    }
+
+    /**
+     * Removes the elements the vehicle has completed according to the given state.
+     * <p>
+     * A node or edge is complete if the vehicle no longer reports it as pending. An action is
+     * complete if the vehicle reports it as finished or failed.
+     * </p>
+     *
+     * @param stateIndex The indexed state.
+     */
+    void update(StateIndex stateIndex) {
+      remainingNodes.retainAll(stateIndex.pendingNodes);
+      remainingEdges.retainAll(stateIndex.pendingEdges);
+      if (!remainingActionIds.isEmpty()) {
+        remainingActionIds.removeIf(stateIndex.finishedActionIds::contains);
+      }
+    }
+  }
 }
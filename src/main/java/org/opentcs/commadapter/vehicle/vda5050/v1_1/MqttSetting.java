@@ -2,6 +2,8 @@
 // SPDX-License-Identifier: MIT
 package org.opentcs.commadapter.vehicle.vda5050.v1_1;
 
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.commadapter.vehicle.vda5050.common.PropertyExtractions.getPropertyBoolean;
 import static org.opentcs.commadapter.vehicle.vda5050.v1_1.ObjectProperties.PROPKEY_VEHICLE_INTERFACE_NAME;
 import static org.opentcs.commadapter.vehicle.vda5050.v1_1.ObjectProperties.PROPKEY_VEHICLE_MANUFACTURER;
 import static org.opentcs.commadapter.vehicle.vda5050.v1_1.ObjectProperties.PROPKEY_VEHICLE_SERIAL_NUMBER;
@@ -16,6 +18,7 @@ import static org.opentcs.commadapter.vehicle.vda5050.v1_1.ObjectProperties.PROP
 import static org.opentcs.commadapter.vehicle.vda5050.v1_1.ObjectProperties.PROPKEY_VEHICLE_TOPIC_STATE_QOS;
 import static org.opentcs.commadapter.vehicle.vda5050.v1_1.ObjectProperties.PROPKEY_VEHICLE_TOPIC_VISU_NAME;
 import static org.opentcs.commadapter.vehicle.vda5050.v1_1.ObjectProperties.PROPKEY_VEHICLE_TOPIC_VISU_QOS;
+import static org.opentcs.commadapter.vehicle.vda5050.v1_1.ObjectProperties.PROPKEY_VEHICLE_TOPIC_WILDCARD_SUBSCRIPTIONS;
 
 import java.util.Optional;
 import javax.annotation.Nonnull;
@@ -45,6 +48,9 @@ import org.slf4j.LoggerFactory;
  * @param instantActionsTopicName The name of the topic to publish instant actions messages to
  * (already including the topic prefix.)
  * @param instantActionsTopicQos The QoS to be used for publishing instant action messages.
+ * @param topicFilterPrefix The common prefix for the topic filters to subscribe to. This equals the
+ * topic name prefix unless wildcard subscriptions are used, in which case the vehicle's manufacturer
+ * and serial number are replaced with single-level wildcards.
  */
 public record MqttSetting(
     @Nonnull
@@ -72,7 +78,9 @@ public record MqttSetting(
     @Nonnull
     String instantActionsTopicName,
     @Nonnull
-    QualityOfService instantActionsTopicQos
+    QualityOfService instantActionsTopicQos,
+    @Nonnull
+    String topicFilterPrefix
 ) {
 
   /**
@@ -92,6 +100,35 @@ public record MqttSetting(
    */
   private static final Logger LOG = LoggerFactory.getLogger(MqttSetting.class);
 
+  /**
+   * Indicates whether the vehicle's incoming topics are subscribed to via wildcard topic filters
+   * shared with all other vehicles using the same interface name and version.
+   *
+   * @return {@code true} if, and only if, wildcard subscriptions are used.
+   */
+  public boolean usesWildcardSubscriptions() {
+    return !topicFilterPrefix.equals(topicNamePrefix);
+  }
+
+  /**
+   * Returns the topic filter to subscribe to for receiving messages on the given topic.
+   *
+   * @param topicName The name of the topic (already including the topic prefix).
+   * @return The topic filter, which is the topic name itself unless wildcard subscriptions are used.
+   */
+  @Nonnull
+  public String toTopicFilter(
+      @Nonnull
+      String topicName
+  ) {
+    requireNonNull(topicName, "topicName");
+
+    if (!topicName.startsWith(topicNamePrefix)) {
+      return topicName;
+    }
+    return topicFilterPrefix + topicName.substring(topicNamePrefix.length());
+  }
+
   /**
    * Creates an {@link MqttSetting} instance using the information provided in the given vehicle.
    *
@@ -106,10 +143,10 @@ public record MqttSetting(
     String vehicleManufacturer = vehicle.getProperty(PROPKEY_VEHICLE_MANUFACTURER);
     String vehicleSerialNumber = vehicle.getProperty(PROPKEY_VEHICLE_SERIAL_NUMBER);
 
-    String prefix = Optional.ofNullable(vehicle.getProperty(PROPKEY_VEHICLE_TOPIC_PREFIX))
+    String customPrefix = vehicle.getProperty(PROPKEY_VEHICLE_TOPIC_PREFIX);
+    String interfaceName = vehicle.getProperty(PROPKEY_VEHICLE_INTERFACE_NAME);
+    String prefix = Optional.ofNullable(customPrefix)
         .or(() -> {
-          String interfaceName = vehicle.getProperty(PROPKEY_VEHICLE_INTERFACE_NAME);
-
           if (interfaceName == null) {
             return Optional.empty();
           }
@@ -126,6 +163,20 @@ public record MqttSetting(
       return Optional.empty();
     }
 
+    String topicFilterPrefix = prefix;
+    if (getPropertyBoolean(PROPKEY_VEHICLE_TOPIC_WILDCARD_SUBSCRIPTIONS, vehicle).orElse(false)) {
+      if (customPrefix == null) {
+        topicFilterPrefix = interfaceName + "/" + "v" + VERSION_MAJOR + "/+/+";
+      }
+      else {
+        LOG.warn(
+            "{}: Wildcard subscriptions require the topic prefix to be derived from the interface "
+                + "name, falling back to regular subscriptions.",
+            vehicle.getName()
+        );
+      }
+    }
+
     return Optional.of(
         new MqttSetting(
             vehicleManufacturer,
@@ -168,7 +219,8 @@ public record MqttSetting(
                 .orElse("instantActions"),
             Optional.ofNullable(vehicle.getProperty(PROPKEY_VEHICLE_TOPIC_INSTANT_ACTIONS_QOS))
                 .map(propValue -> toQos(propValue, QualityOfService.AT_MOST_ONCE))
-                .orElse(QualityOfService.AT_MOST_ONCE)
+                .orElse(QualityOfService.AT_MOST_ONCE),
+            topicFilterPrefix
         )
     );
   }
@@ -80,11 +80,34 @@ public interface ObjectProperties {
    * to the instant actions topic.
    */
   String PROPKEY_VEHICLE_TOPIC_INSTANT_ACTIONS_QOS = "vda5050:topicInstantActionsQos";
+  /**
+   * The key of the property indicating whether the vehicle's incoming topics should be subscribed
+   * to via wildcard topic filters shared with all vehicles using the same interface name.
+   */
+  String PROPKEY_VEHICLE_TOPIC_WILDCARD_SUBSCRIPTIONS = "vda5050:topicWildcardSubscriptions";
   /**
    * The key of the property indicating whether incoming messages from the vehicle should be
    * validated against the VDA5050 schemas.
    */
   String PROPKEY_VEHICLE_VALIDATE_INCOMING_MESSAGES = "vda5050:validateIncomingMessages";
+  /**
+   * The key of the property indicating that only every n-th incoming message of a type should be
+   * validated against the VDA5050 schemas (if validation is enabled at all).
+   */
+  String PROPKEY_VEHICLE_VALIDATE_INCOMING_MESSAGES_SAMPLE_INTERVAL
+      = "vda5050:validateIncomingMessagesSampleInterval";
+  /**
+   * The key of the property indicating the policy for validating outgoing messages against the
+   * VDA5050 schemas (if validation is enabled at all).
+   * Possible values are {@code always}, {@code sampled} and {@code structural}.
+   */
+  String PROPKEY_VEHICLE_VALIDATE_OUTGOING_MESSAGES = "vda5050:validateOutgoingMessages";
+  /**
+   * The key of the property indicating that only every n-th outgoing message should be validated
+   * with the {@code sampled} policy.
+   */
+  String PROPKEY_VEHICLE_VALIDATE_OUTGOING_MESSAGES_SAMPLE_INTERVAL
+      = "vda5050:validateOutgoingMessagesSampleInterval";
   /**
    * Default map id for this vehicle.
    */
@@ -137,6 +160,21 @@ public interface ObjectProperties {
    * The key of the vehicle property containing the vehicle's maximum number of horizon steps.
    */
   String PROPKEY_VEHICLE_MAX_STEPS_HORIZON = "vda5050:maxStepsHorizon";
+  /**
+   * The key of the vehicle property containing the maximum distance (in mm) covered by an order's
+   * horizon.
+   */
+  String PROPKEY_VEHICLE_MAX_DISTANCE_HORIZON = "vda5050:maxDistanceHorizon";
+  /**
+   * The key of the vehicle property containing the maximum travel time (in ms) covered by an
+   * order's horizon.
+   */
+  String PROPKEY_VEHICLE_MAX_TRAVEL_TIME_HORIZON = "vda5050:maxTravelTimeHorizon";
+  /**
+   * The key of the vehicle property containing the maximum size (in characters) of an order
+   * message up to which its horizon is filled.
+   */
+  String PROPKEY_VEHICLE_MAX_ORDER_SIZE = "vda5050:maxOrderSize";
   /**
    * The key of the vehicle property containing the minimum visualization interval.
    */
@@ -167,6 +205,11 @@ public interface ObjectProperties {
    * by the movement commands the vehicle receives in advance.
    */
   String PROPKEY_VEHICLE_MAX_DISTANCE_IN_ADVANCE = "vda5050:maxDistanceBase";
+  /**
+   * The key of the vehicle property containing the maximum travel time (in ms) that should be
+   * covered by the movement commands the vehicle receives in advance.
+   */
+  String PROPKEY_VEHICLE_MAX_TRAVEL_TIME_IN_ADVANCE = "vda5050:maxTravelTimeBase";
   /**
    * The key of the vehicle property that defines when the deviation of the first node of an order
    * should be extended to include the vehicle's current position.
@@ -177,6 +220,46 @@ public interface ObjectProperties {
    * rejections.
    */
   String PROPKEY_VEHICLE_MAX_IGNORED_REJECTIONS = "vda5050:maxIgnoredRejections";
+  /**
+   * The key of the vehicle property containing the maximum number of order updates for the same
+   * order that may be sent to the vehicle without waiting for their acknowledgement.
+   */
+  String PROPKEY_VEHICLE_MAX_ORDER_UPDATES_IN_FLIGHT = "vda5050:maxOrderUpdatesInFlight";
+  /**
+   * The key of the vehicle property indicating whether consecutive order updates for the same
+   * order that are waiting to be sent should be coalesced into a single order update.
+   */
+  String PROPKEY_VEHICLE_COALESCE_ORDER_UPDATES = "vda5050:coalesceOrderUpdates";
+  /**
+   * The key of the vehicle property containing the types of instant actions to be sent to the
+   * vehicle immediately, without waiting for the acknowledgement of previously sent messages.
+   */
+  String PROPKEY_VEHICLE_PRIORITY_INSTANT_ACTIONS = "vda5050:priorityInstantActions";
+  /**
+   * The key of the vehicle property indicating whether consecutive instant actions messages that
+   * are waiting to be sent should be merged into a single message.
+   */
+  String PROPKEY_VEHICLE_MERGE_INSTANT_ACTIONS = "vda5050:mergeInstantActions";
+  /**
+   * The key of the vehicle property containing the time (in ms) for which instant actions are held
+   * back before being sent, so they can be merged with instant actions following shortly after.
+   */
+  String PROPKEY_VEHICLE_INSTANT_ACTIONS_LINGER_TIME = "vda5050:instantActionsLingerTime";
+  /**
+   * The key of the vehicle property containing the time (in ms) after which a message not
+   * acknowledged by the vehicle is resent for the first time.
+   */
+  String PROPKEY_VEHICLE_RESEND_TIMEOUT = "vda5050:resendTimeout";
+  /**
+   * The key of the vehicle property containing the maximum time (in ms) between two resends of a
+   * message not acknowledged by the vehicle.
+   */
+  String PROPKEY_VEHICLE_MAX_RESEND_TIMEOUT = "vda5050:maxResendTimeout";
+  /**
+   * The key of the vehicle property containing the maximum deviation (in percent) of resend
+   * timeouts from their nominal values.
+   */
+  String PROPKEY_VEHICLE_RESEND_JITTER = "vda5050:resendJitter";
   /**
    * The key property containing a list of executable action tags.
    */
@@ -3,9 +3,6 @@
 package org.opentcs.commadapter.vehicle.vda5050.v1_1;
 
 import static java.util.Objects.requireNonNull;
-import static org.opentcs.commadapter.vehicle.vda5050.common.PropertyExtractions.getPropertyDouble;
-import static org.opentcs.commadapter.vehicle.vda5050.v1_1.ObjectProperties.PROPKEY_VEHICLE_DEVIATION_THETA;
-import static org.opentcs.commadapter.vehicle.vda5050.v1_1.ObjectProperties.PROPKEY_VEHICLE_DEVIATION_XY;
 
 import javax.annotation.Nonnull;
 import org.opentcs.components.kernel.PositionDeviationPolicy;
@@ -19,7 +16,10 @@ public class PositionDeviationPolicyImpl
     implements
       PositionDeviationPolicy {
 
-  private final Vehicle vehicle;
+  /**
+   * The profile of the vehicle.
+   */
+  private final VehicleProfile vehicleProfile;
 
   /**
    * Creates a new instance.
@@ -30,7 +30,19 @@ public class PositionDeviationPolicyImpl
       @Nonnull
       Vehicle vehicle
   ) {
-    this.vehicle = requireNonNull(vehicle, "vehicle");
+    this(VehicleProfile.of(requireNonNull(vehicle, "vehicle")));
+  }
+
+  /**
+   * Creates a new instance.
+   *
+   * @param vehicleProfile The profile of the vehicle.
+   */
+  public PositionDeviationPolicyImpl(
+      @Nonnull
+      VehicleProfile vehicleProfile
+  ) {
+    this.vehicleProfile = requireNonNull(vehicleProfile, "vehicleProfile");
   }
 
   @Override
@@ -38,7 +50,7 @@ public class PositionDeviationPolicyImpl
       @Nonnull
       Point point
   ) {
-    return getPropertyDouble(PROPKEY_VEHICLE_DEVIATION_XY, point, vehicle)
+    return vehicleProfile.getDeviationXY(point)
         .map(deviation -> (long) (deviation * 1000))
         .orElse(0L);
   }
@@ -49,7 +61,7 @@ public class PositionDeviationPolicyImpl
       Point point
   ) {
     // XXX Ensure the angle is (positive and) within 0 and 180 degrees.
-    return getPropertyDouble(PROPKEY_VEHICLE_DEVIATION_THETA, point, vehicle)
+    return vehicleProfile.getDeviationTheta(point)
         .map(Double::longValue)
         .orElse(0L);
   }
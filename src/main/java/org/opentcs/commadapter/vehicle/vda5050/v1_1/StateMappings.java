@@ -9,6 +9,7 @@ import static org.opentcs.commadapter.vehicle.vda5050.v1_1.ErrorTypes.ORDER_UPDA
 import static org.opentcs.commadapter.vehicle.vda5050.v1_1.ErrorTypes.VALIDATION_ERROR;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
@@ -176,6 +177,68 @@ public class StateMappings {
     return Objects.toString(state.isPaused(), null);
   }
 
+  /**
+   * Returns a digest of the loads reported in the given state message, i.e. a value that equals
+   * the digest of another state message if both result in the same load handling devices.
+   *
+   * @param state The state message.
+   * @return A digest of the loads reported in the given state message.
+   */
+  @Nullable
+  public static List<String> toLoadsDigest(
+      @Nonnull
+      State state
+  ) {
+    requireNonNull(state, "state");
+
+    if (state.getLoads() == null) {
+      return null;
+    }
+
+    return state.getLoads().stream()
+        .map(load -> load.getLoadPosition())
+        .toList();
+  }
+
+  /**
+   * Returns a digest of the errors reported in the given state message, i.e. a value that equals
+   * the digest of another state message if both report errors of the same types and levels.
+   *
+   * @param state The state message.
+   * @return A digest of the errors reported in the given state message.
+   */
+  @Nonnull
+  public static List<List<Object>> toErrorsDigest(
+      @Nonnull
+      State state
+  ) {
+    requireNonNull(state, "state");
+
+    return state.getErrors().stream()
+        .map(error -> Arrays.<Object>asList(error.getErrorType(), error.getErrorLevel()))
+        .toList();
+  }
+
+  /**
+   * Returns a digest of the information reported in the given state message, i.e. a value that
+   * equals the digest of another state message if both report information of the same types and
+   * levels.
+   *
+   * @param state The state message.
+   * @return A digest of the information reported in the given state message.
+   */
+  @Nonnull
+  public static List<List<Object>> toInformationDigest(
+      @Nonnull
+      State state
+  ) {
+    requireNonNull(state, "state");
+
+    return state.getInformations().stream()
+        .map(info -> Arrays.<Object>asList(info.getInfoType(), info.getInfoLevel()))
+        .toList();
+  }
+
   /**
    * Indicates whether the vehicle rejects an order based on the errors reported in the given state
    * message.
@@ -3,29 +3,38 @@
 package org.opentcs.commadapter.vehicle.vda5050.v1_1.ordermapping;
 
 import static java.util.Objects.requireNonNull;
-import static org.opentcs.commadapter.vehicle.vda5050.common.PropertyExtractions.getPropertyInteger;
 import static org.opentcs.util.Assertions.checkArgument;
 
 import com.google.inject.assistedinject.Assisted;
 import jakarta.inject.Inject;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
 import java.util.EnumSet;
+import java.util.IntSummaryStatistics;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import org.opentcs.commadapter.vehicle.vda5050.common.JsonBinder;
+import org.opentcs.commadapter.vehicle.vda5050.common.KernelObjectCache;
+import org.opentcs.commadapter.vehicle.vda5050.common.TravelTimes;
 import org.opentcs.commadapter.vehicle.vda5050.v1_1.DeviationExtensionTrigger;
-import org.opentcs.commadapter.vehicle.vda5050.v1_1.ObjectProperties;
+import org.opentcs.commadapter.vehicle.vda5050.v1_1.VehicleProfile;
 import org.opentcs.commadapter.vehicle.vda5050.v1_1.message.common.Action;
 import org.opentcs.commadapter.vehicle.vda5050.v1_1.message.order.Edge;
 import org.opentcs.commadapter.vehicle.vda5050.v1_1.message.order.Node;
 import org.opentcs.commadapter.vehicle.vda5050.v1_1.message.order.Order;
-import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.data.TCSObjectReference;
 import org.opentcs.data.model.LocationType;
 import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.Route;
 import org.opentcs.data.order.Route.Step;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.drivers.vehicle.MovementCommand;
@@ -34,6 +43,23 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Maps {@link MovementCommand}s from openTCS to an {@link Order} message understood by the vehicle.
+ * <p>
+ * Commands that are to be sent after the last mapped one may be
+ * {@link #premap(List) mapped in advance}, e.g. on a worker thread while the vehicle is still
+ * driving. If a command's order is still up to date when the command is actually mapped, it is
+ * used instead of mapping the command again. Instances are thread-safe.
+ * </p>
+ * <p>
+ * Mapping commands in advance does not hold this instance's monitor, so it does not delay
+ * commands that are actually mapped in the meantime. Orders mapped in advance are discarded if a
+ * command was actually mapped while they were being mapped, as they are based on an outdated
+ * state, then.
+ * </p>
+ * <p>
+ * An order's horizon contains the rest of the route, limited by the vehicle's maximum number of
+ * horizon steps, the maximum distance and travel time covered by the horizon and the maximum size
+ * of the order message, whichever applies first.
+ * </p>
  */
 public class OrderMapper {
 
@@ -41,15 +67,20 @@ public class OrderMapper {
    * This class's logger.
    */
   private static final Logger LOG = LoggerFactory.getLogger(OrderMapper.class);
+  /**
+   * The size (in characters) reserved for the header fields when estimating an order message's
+   * size, as they are set only when the message is sent.
+   */
+  private static final int HEADER_SIZE_ESTIMATE = 256;
 
   /**
    * A reference to the attached vehicle.
    */
   private final TCSObjectReference<Vehicle> vehicleReference;
   /**
-   * An object service.
+   * Provides the objects fetched from the kernel.
    */
-  private final TCSObjectService objectService;
+  private final KernelObjectCache objectCache;
   /**
    * Predicate to test if an action is executable by the vehicle.
    */
@@ -62,10 +93,42 @@ public class OrderMapper {
    * Maps points from movement commands to a VDA5050 node.
    */
   private final NodeMapping nodeMapping;
+  /**
+   * Provides the property actions parsed from plant model elements.
+   */
+  private final PropertyActionsCache propertyActionsCache;
+  /**
+   * The profile of the attached vehicle, as of the last order that was mapped.
+   */
+  private VehicleProfile vehicleProfile;
   /**
    * The last order that was mapped.
    */
   private Order lastMappedOrder;
+  /**
+   * The command the last order was mapped for.
+   */
+  private MovementCommand lastMappedCommand;
+  /**
+   * The orders mapped in advance for the commands to be mapped next, in the commands' order.
+   */
+  private final Deque<PremappedOrder> premappedOrders = new ArrayDeque<>();
+  /**
+   * The nodes and edges mapped for the route of the last mapped order, or {@code null}.
+   */
+  private MappedRoute mappedRoute;
+  /**
+   * Serializes nodes and edges for estimating the size of order messages.
+   */
+  private final JsonBinder jsonBinder = new JsonBinder();
+  /**
+   * Statistics about the numbers of horizon steps of the orders mapped.
+   */
+  private final IntSummaryStatistics horizonLengths = new IntSummaryStatistics();
+  /**
+   * The number of calls to {@link #toOrder(MovementCommand)} waiting for this instance's monitor.
+   */
+  private final AtomicInteger waitingToOrderCalls = new AtomicInteger();
 
   /**
    * Creates a new instance.
@@ -73,8 +136,9 @@ public class OrderMapper {
    * @param vehicleReference A reference to the attached vehicle.
    * @param isActionExecutable A predicate to test if an action is executable.
    * @param deviationExtensionTrigger Determines whether the deviation of nodes should be extended.
-   * @param objectService An object service.
+   * @param objectCache Provides the objects fetched from the kernel.
    * @param nodeMapping Maps points from movement commands to a VDA5050 node.
+   * @param propertyActionsCache Provides the property actions parsed from plant model elements.
    */
   @Inject
   public OrderMapper(
@@ -88,16 +152,19 @@ public class OrderMapper {
       @Nonnull
       DeviationExtensionTrigger deviationExtensionTrigger,
       @Nonnull
-      TCSObjectService objectService,
+      KernelObjectCache objectCache,
       @Nonnull
-      NodeMapping nodeMapping
+      NodeMapping nodeMapping,
+      @Nonnull
+      PropertyActionsCache propertyActionsCache
   ) {
     this.vehicleReference = requireNonNull(vehicleReference, "vehicleReference");
     this.vehicleActionsFilter = requireNonNull(isActionExecutable, "isActionExecutable");
     this.deviationExtensionTrigger
         = requireNonNull(deviationExtensionTrigger, "deviationExtensionTrigger");
-    this.objectService = requireNonNull(objectService, "objectService");
+    this.objectCache = requireNonNull(objectCache, "objectCache");
     this.nodeMapping = requireNonNull(nodeMapping, "nodeMapping");
+    this.propertyActionsCache = requireNonNull(propertyActionsCache, "propertyActionsCache");
   }
 
   /**
@@ -112,7 +179,141 @@ public class OrderMapper {
   ) {
     requireNonNull(command, "command");
 
-    return mapOrder(command, objectService.fetch(Vehicle.class, vehicleReference).orElseThrow());
+    waitingToOrderCalls.incrementAndGet();
+    synchronized (this) {
+      waitingToOrderCalls.decrementAndGet();
+
+      Vehicle vehicle = objectCache.fetch(Vehicle.class, vehicleReference).orElseThrow();
+      vehicleProfile = VehicleProfile.refresh(vehicleProfile, vehicle);
+
+      MappingContext context = new MappingContext(vehicleProfile, mappedRoute);
+      lastMappedOrder = takePremappedOrder(command, vehicle)
+          .orElseGet(() -> mapOrder(command, vehicle, lastMappedOrder, context));
+      lastMappedCommand = command;
+      mappedRoute = context.getRoute();
+      horizonLengths.accept(
+          (int) lastMappedOrder.getEdges().stream().filter(edge -> !edge.isReleased()).count()
+      );
+
+      return lastMappedOrder;
+    }
+  }
+
+  /**
+   * Returns statistics about the numbers of horizon steps of the orders mapped so far.
+   *
+   * @return Statistics about the horizon lengths.
+   */
+  public synchronized IntSummaryStatistics getHorizonLengths() {
+    return new IntSummaryStatistics(
+        horizonLengths.getCount(),
+        horizonLengths.getMin(),
+        horizonLengths.getMax(),
+        horizonLengths.getSum()
+    );
+  }
+
+  /**
+   * Maps the given commands in advance, so that their orders do not have to be mapped when the
+   * commands are actually mapped via {@link #toOrder(MovementCommand)}.
+   * <p>
+   * Only commands continuing the order the last mapped command belongs to are mapped in advance.
+   * The initial node of a new order depends on the vehicle's position at the time the order is
+   * sent, so mapping it in advance would be pointless. Commands already mapped in advance are not
+   * mapped again, unless the state they were mapped with changed in the meantime.
+   * </p>
+   * <p>
+   * If a call to {@link #toOrder(MovementCommand)} is waiting while commands are mapped in advance,
+   * mapping stops after the first command, so the waiting call can take over.
+   * </p>
+   *
+   * @param commands The commands to be mapped next, in the order they are to be mapped. If the
+   * list also contains the last mapped command, only the commands following it are considered.
+   */
+  public void premap(
+      @Nonnull
+      List<MovementCommand> commands
+  ) {
+    requireNonNull(commands, "commands");
+
+    Vehicle vehicle = objectCache.fetch(Vehicle.class, vehicleReference).orElseThrow();
+    Order baseOrder;
+    MovementCommand baseCommand;
+    MappingContext context;
+    Deque<PremappedOrder> reusableOrders;
+    synchronized (this) {
+      if (lastMappedOrder == null || vehicle.getTransportOrder() == null) {
+        premappedOrders.clear();
+        return;
+      }
+
+      vehicleProfile = VehicleProfile.refresh(vehicleProfile, vehicle);
+      baseOrder = lastMappedOrder;
+      baseCommand = lastMappedCommand;
+      context = new MappingContext(vehicleProfile, mappedRoute);
+      reusableOrders = new ArrayDeque<>(premappedOrders);
+    }
+
+    String orderId = getDriveOrderName(vehicle);
+    List<PremappedOrder> validOrders = new ArrayList<>();
+    Order previousOrder = baseOrder;
+    boolean reusePremappedOrders = true;
+    int mappedCount = 0;
+    for (MovementCommand command : commands.subList(
+        commands.indexOf(baseCommand) + 1,
+        commands.size()
+    )) {
+      PremappedOrder premappedOrder = reusePremappedOrders ? reusableOrders.poll() : null;
+      if (premappedOrder == null
+          || !premappedOrder.isValidFor(command, previousOrder, context.getProfile(), orderId)) {
+        if (!orderId.equals(previousOrder.getOrderId())
+            || (mappedCount > 0 && waitingToOrderCalls.get() > 0)) {
+          break;
+        }
+        reusePremappedOrders = false;
+        premappedOrder = new PremappedOrder(
+            command,
+            previousOrder,
+            context.getProfile(),
+            mapOrder(command, vehicle, previousOrder, context)
+        );
+        mappedCount++;
+      }
+      validOrders.add(premappedOrder);
+      previousOrder = premappedOrder.order();
+    }
+
+    synchronized (this) {
+      if (lastMappedOrder != baseOrder || vehicleProfile != context.getProfile()) {
+        LOG.debug("Discarding orders mapped in advance based on an outdated state.");
+        return;
+      }
+
+      premappedOrders.clear();
+      premappedOrders.addAll(validOrders);
+      mappedRoute = context.getRoute();
+    }
+  }
+
+  private Optional<Order> takePremappedOrder(MovementCommand command, Vehicle vehicle) {
+    PremappedOrder premappedOrder = premappedOrders.poll();
+    if (premappedOrder == null) {
+      return Optional.empty();
+    }
+
+    if (vehicle.getTransportOrder() == null
+        || !premappedOrder.isValidFor(
+            command,
+            lastMappedOrder,
+            vehicleProfile,
+            getDriveOrderName(vehicle)
+        )) {
+      LOG.debug("Discarding orders mapped in advance, starting with command {}.", command);
+      premappedOrders.clear();
+      return Optional.empty();
+    }
+
+    return Optional.of(premappedOrder.order());
   }
 
   /**
@@ -120,49 +321,69 @@ public class OrderMapper {
    *
    * @param command The command to map.
    * @param vehicle The vehicle to map the command for.
+   * @param previousOrder The order mapped for the previous command, or {@code null}.
+   * @param context The state to map the command with.
    * @return The mapped order.
    */
   private Order mapOrder(
       @Nonnull
       MovementCommand command,
       @Nonnull
-      Vehicle vehicle
+      Vehicle vehicle,
+      @Nullable
+      Order previousOrder,
+      @Nonnull
+      MappingContext context
   ) {
     requireNonNull(command, "command");
     requireNonNull(vehicle, "vehicle");
+    requireNonNull(context, "context");
 
-    lastMappedOrder = involvesActualMovement(command)
-        ? createOrderWithMovement(command, vehicle)
-        : createOrderWithoutMovement(command, vehicle);
-
-    return lastMappedOrder;
+    return involvesActualMovement(command)
+        ? createOrderWithMovement(command, vehicle, previousOrder, context)
+        : createOrderWithoutMovement(command, vehicle, context);
   }
 
-  private Order createOrderWithMovement(MovementCommand command, Vehicle vehicle) {
+  private Order createOrderWithMovement(
+      MovementCommand command,
+      Vehicle vehicle,
+      Order previousOrder,
+      MappingContext context
+  ) {
     Order order = createEmptyOrder(command, vehicle);
+    MappedRoute route = getOrCreateMappedRoute(order, command, vehicle, context);
 
     // Create an order consisting of a source node, an edge and a destination node.
     order.getNodes().add(
-        getOrCreateSourceNodeForMovement(order, command, vehicle)
+        getOrCreateSourceNodeForMovement(order, command, vehicle, previousOrder, context)
     );
 
-    order.getEdges().add(mapEdge(command, vehicle));
+    order.getEdges().add(
+        route.containsEdge(command.getStep().getRouteIndex())
+            ? EdgeMapping.toBaseEdge(route.edge(command.getStep().getRouteIndex()))
+            : mapEdge(command, vehicle)
+    );
 
     order.getNodes().add(
         mapDestNode(
             command,
             command.getStep().getRouteIndex() * 2 + 2,
-            vehicle
+            vehicle,
+            context.getProfile()
         )
     );
 
     // Add rest of the route as the horizon.
-    mapHorizon(order, command, vehicle);
+    mapHorizon(order, command, vehicle, route, context.getProfile());
 
     return order;
   }
 
-  private Order createOrderWithoutMovement(MovementCommand command, Vehicle vehicle) {
+  private Order createOrderWithoutMovement(
+      MovementCommand command,
+      Vehicle vehicle,
+      MappingContext context
+  ) {
     Order order = createEmptyOrder(command, vehicle);
 
     // This is a movement consisting only of a destination node.
@@ -170,7 +391,8 @@ public class OrderMapper {
         mapDestNode(
             command,
             0,
-            vehicle
+            vehicle,
+            context.getProfile()
         )
     );
 
@@ -189,18 +411,24 @@ public class OrderMapper {
   private Node getOrCreateSourceNodeForMovement(
       Order order,
       MovementCommand command,
-      Vehicle vehicle
+      Vehicle vehicle,
+      Order previousOrder,
+      MappingContext context
   ) {
-    if (isNewOrder(order)) {
-      return mapInitialNodeOnRoute(command, vehicle);
+    if (isNewOrder(order, previousOrder)) {
+      return mapInitialNodeOnRoute(command, vehicle, context.getProfile());
     }
     else {
       // Use the destination node of the previous order message as the new source node.
-      return lastMappedOrder.getNodes().get(1);
+      return previousOrder.getNodes().get(1);
     }
   }
 
-  private Node mapInitialNodeOnRoute(MovementCommand command, Vehicle vehicle) {
+  private Node mapInitialNodeOnRoute(
+      MovementCommand command,
+      Vehicle vehicle,
+      VehicleProfile vehicleProfile
+  ) {
     PropertyActionsFilter actionFilter
         = new PropertyActionsFilter(
             vehicleActionsFilter,
@@ -213,7 +441,8 @@ public class OrderMapper {
         command.getStep().getSourcePoint(),
         0,
         vehicle,
-        ActionsMapping.mapPropertyActions(command.getStep().getSourcePoint()).stream()
+        vehicleProfile,
+        propertyActionsCache.getPropertyActions(command.getStep().getSourcePoint()).stream()
             .filter(actionFilter)
             .map(propertyAction -> ActionsMapping.fromPropertyAction(vehicle, propertyAction))
             .collect(Collectors.toList()),
@@ -226,12 +455,15 @@ public class OrderMapper {
       MovementCommand command,
       long sequenceId,
       @Nonnull
-      Vehicle vehicle
+      Vehicle vehicle,
+      @Nonnull
+      VehicleProfile vehicleProfile
   ) {
     return nodeMapping.toBaseNode(
         command.getStep().getDestinationPoint(),
         sequenceId,
         vehicle,
+        vehicleProfile,
         actionsForVehicle(command, vehicle),
         false
     );
@@ -246,11 +478,11 @@ public class OrderMapper {
     Predicate<PropertyAction> propActionFilter = createPropertyActionsFilter(command);
 
     return concatStreams(
-        ActionsMapping.mapPropertyActions(command.getStep().getDestinationPoint()).stream()
+        propertyActionsCache.getPropertyActions(command.getStep().getDestinationPoint()).stream()
             .filter(propActionFilter),
         Optional.ofNullable(command.getOpLocation())
             .stream()
-            .flatMap(opLocation -> ActionsMapping.mapPropertyActions(opLocation).stream())
+            .flatMap(opLocation -> propertyActionsCache.getPropertyActions(opLocation).stream())
             .filter(propActionFilter),
         movementCommandPropAction(command, vehicle).stream(),
         ActionsMapping.mapPropertyActions(command).stream()
@@ -294,7 +526,7 @@ public class OrderMapper {
         vehicle,
         command,
         command.getOpLocation(),
-        objectService.fetch(LocationType.class, command.getOpLocation().getType()).orElseThrow()
+        objectCache.fetch(LocationType.class, command.getOpLocation().getType()).orElseThrow()
     );
   }
 
@@ -312,7 +544,7 @@ public class OrderMapper {
     return EdgeMapping.toBaseEdge(
         command.getStep(),
         vehicle,
-        ActionsMapping.mapPropertyActions(command.getStep().getPath()).stream()
+        propertyActionsCache.getPropertyActions(command.getStep().getPath()).stream()
             .filter(actionFilter)
             .map(propertyAction -> ActionsMapping.fromPropertyAction(vehicle, propertyAction))
             .collect(Collectors.toList())
@@ -329,7 +561,7 @@ public class OrderMapper {
     checkArgument(vehicle.getTransportOrder() != null, "Vehicle does not have a transport order");
 
     TransportOrder transportOrder
-        = objectService.fetch(TransportOrder.class, vehicle.getTransportOrder()).orElseThrow();
+        = objectCache.fetch(TransportOrder.class, vehicle.getTransportOrder()).orElseThrow();
 
     return transportOrder.getName() + "-" + transportOrder.getCurrentDriveOrderIndex();
   }
@@ -342,11 +574,11 @@ public class OrderMapper {
     return command.isFinalMovement();
   }
 
-  private boolean isNewOrder(Order order) {
-    if (lastMappedOrder == null) {
+  private boolean isNewOrder(Order order, Order previousOrder) {
+    if (previousOrder == null) {
       return true;
     }
-    return !order.getOrderId().equals(lastMappedOrder.getOrderId());
+    return !order.getOrderId().equals(previousOrder.getOrderId());
   }
 
   @SafeVarargs
@@ -360,30 +592,125 @@ public class OrderMapper {
     return result;
   }
 
-  private void mapHorizon(Order order, MovementCommand command, Vehicle vehicle) {
+  private void mapHorizon(
+      Order order,
+      MovementCommand command,
+      Vehicle vehicle,
+      MappedRoute route,
+      VehicleProfile vehicleProfile
+  ) {
+    List<Step> steps = command.getDriveOrder().getRoute().getSteps();
     int maxRouteIndex = Math.min(
         command.getStep().getRouteIndex()
-            + getPropertyInteger(ObjectProperties.PROPKEY_VEHICLE_MAX_STEPS_HORIZON, vehicle)
-                .orElse(command.getDriveOrder().getRoute().getSteps().size()),
-        command.getDriveOrder().getRoute().getSteps().size()
+            + vehicleProfile.getMaxStepsHorizon().orElse(steps.size()),
+        steps.size()
     );
+    HorizonBudget budget = new HorizonBudget(order, vehicle, route, vehicleProfile);
 
     for (int i = command.getStep().getRouteIndex() + 1; i < maxRouteIndex; i++) {
-      Step step = command.getDriveOrder().getRoute().getSteps().get(i);
+      Step step = steps.get(i);
 
-      order.getEdges().add(mapHorizonEdge(command, step, vehicle));
-
-      order.getNodes().add(
-          mapHorizonNode(
+      Edge edge = route.edge(i);
+      // The actions of the route's last node depend on the command, so it is mapped every time.
+      Node node = route.containsNode(i)
+          ? route.node(i)
+          : mapHorizonNode(
               command,
               step,
               step.getRouteIndex() * 2 + 2,
-              vehicle
-          )
-      );
+              vehicle,
+              vehicleProfile
+          );
+
+      if (!budget.tryToSpend(step, node)) {
+        break;
+      }
+
+      order.getEdges().add(edge);
+      order.getNodes().add(node);
     }
   }
 
+  /**
+   * Returns the nodes and edges mapped for the route of the given order, mapping them first if the
+   * route has not been mapped before.
+   * <p>
+   * With every command, the rest of the route is sent as the horizon. Mapping all of it again for
+   * every command would result in the mapping effort growing quadratically with the route's
+   * length, so the route is mapped only once, with the first of its commands, and every
+   * subsequent order takes its horizon from the nodes and edges mapped then.
+   * </p>
+   *
+   * @param order The order the route is mapped for.
+   * @param command The command being mapped.
+   * @param vehicle The vehicle to map the route for.
+   * @param context The state to map the route with, which the mapped route is stored in.
+   * @return The mapped route.
+   */
+  private MappedRoute getOrCreateMappedRoute(
+      Order order,
+      MovementCommand command,
+      Vehicle vehicle,
+      MappingContext context
+  ) {
+    MappedRouteKey key = new MappedRouteKey(
+        order.getOrderId(),
+        command.getDriveOrder().getRoute(),
+        command.getProperties(),
+        context.getProfile()
+    );
+
+    MappedRoute route = context.getRoute();
+    if (route == null
+        || !route.key().equals(key)
+        || command.getStep().getRouteIndex() < route.firstRouteIndex()) {
+      route = mapRoute(key, command, vehicle);
+      context.setRoute(route);
+    }
+
+    return route;
+  }
+
+  private MappedRoute mapRoute(MappedRouteKey key, MovementCommand command, Vehicle vehicle) {
+    List<Step> steps = command.getDriveOrder().getRoute().getSteps();
+    int firstRouteIndex = command.getStep().getRouteIndex();
+    List<Node> nodes = new ArrayList<>();
+    List<Edge> edges = new ArrayList<>();
+
+    for (int i = firstRouteIndex; i < steps.size(); i++) {
+      Step step = steps.get(i);
+
+      edges.add(mapHorizonEdge(command, step, vehicle));
+
+      if (i < steps.size() - 1) {
+        nodes.add(
+            mapHorizonNode(
+                command,
+                step,
+                step.getRouteIndex() * 2 + 2,
+                vehicle,
+                key.vehicleProfile()
+            )
+        );
+      }
+    }
+
+    return new MappedRoute(
+        key,
+        firstRouteIndex,
+        List.copyOf(nodes),
+        List.copyOf(edges),
+        unknownSizes(nodes.size()),
+        unknownSizes(edges.size())
+    );
+  }
+
+  private static int[] unknownSizes(int count) {
+    int[] sizes = new int[count];
+    Arrays.fill(sizes, -1);
+    return sizes;
+  }
+
   private Edge mapHorizonEdge(
       MovementCommand command,
       Step step,
@@ -398,7 +725,7 @@ public class OrderMapper {
 
     return EdgeMapping.toHorizonEdge(
         step,
-        ActionsMapping.mapPropertyActions(step.getPath()).stream()
+        propertyActionsCache.getPropertyActions(step.getPath()).stream()
             .filter(actionFilter)
             .map(propertyAction -> ActionsMapping.fromPropertyAction(vehicle, propertyAction))
             .collect(Collectors.toList())
@@ -411,12 +738,14 @@ public class OrderMapper {
       Step step,
       long sequenceId,
       @Nonnull
-      Vehicle vehicle
+      Vehicle vehicle,
+      @Nonnull
+      VehicleProfile vehicleProfile
   ) {
     return nodeMapping.toHorizonNode(
         step.getDestinationPoint(),
         sequenceId,
-        vehicle,
+        vehicleProfile,
         horizonActionsForVehicle(
             command,
             vehicle,
@@ -444,11 +773,11 @@ public class OrderMapper {
     );
 
     List<PropertyAction> propertyActions
-        = ActionsMapping.mapPropertyActions(step.getDestinationPoint());
+        = new ArrayList<>(propertyActionsCache.getPropertyActions(step.getDestinationPoint()));
     if (isLastStep) {
       if (command.getFinalDestinationLocation() != null) {
         propertyActions.addAll(
-            ActionsMapping.mapPropertyActions(command.getFinalDestinationLocation())
+            propertyActionsCache.getPropertyActions(command.getFinalDestinationLocation())
         );
       }
       horizonMovementCommandPropAction(command, vehicle)
@@ -479,10 +808,241 @@ public class OrderMapper {
         vehicle,
         command,
         command.getFinalDestinationLocation(),
-        objectService.fetch(
+        objectCache.fetch(
             LocationType.class,
             command.getFinalDestinationLocation().getType()
         ).orElseThrow()
     );
   }
+
+  /**
+   * Keeps track of what is left of the budgets for an order's horizon while steps are added to it.
+   */
+  private class HorizonBudget {
+
+    /**
+     * The vehicle the order is mapped for.
+     */
+    private final Vehicle vehicle;
+    /**
+     * The mapped route providing the sizes of its nodes and edges.
+     */
+    private final MappedRoute route;
+    /**
+     * The remaining distance (in mm), or {@code null}, if the distance is not limited.
+     */
+    private Long distance;
+    /**
+     * The remaining travel time (in ms), or {@code null}, if the travel time is not limited.
+     */
+    private Long travelTime;
+    /**
+     * The remaining size (in characters), or {@code null}, if the size is not limited.
+     */
+    private Long size;
+
+    HorizonBudget(
+        Order order,
+        Vehicle vehicle,
+        MappedRoute route,
+        VehicleProfile vehicleProfile
+    ) {
+      this.vehicle = vehicle;
+      this.route = route;
+      this.distance = vehicleProfile.getMaxDistanceHorizon().orElse(null);
+      this.travelTime = vehicleProfile.getMaxTravelTimeHorizon().orElse(null);
+      this.size = vehicleProfile.getMaxOrderSize()
+          .map(maxSize -> (long) maxSize - HEADER_SIZE_ESTIMATE - sizeOf(order))
+          .orElse(null);
+    }
+
+    /**
+     * Spends the budget needed for adding the given step to the horizon.
+     * <p>
+     * Steps are added as long as any distance and travel time is left, so the horizon covers at
+     * least the maximum distance and travel time, if the route is long enough. The order's size,
+     * however, must not exceed the maximum size.
+     * </p>
+     *
+     * @param step The step.
+     * @param node The step's destination node.
+     * @return {@code true} if, and only if, there was enough budget left for adding the step.
+     */
+    boolean tryToSpend(Step step, Node node) {
+      if ((distance != null && distance <= 0) || (travelTime != null && travelTime <= 0)) {
+        return false;
+      }
+
+      if (size != null) {
+        int routeIndex = step.getRouteIndex();
+        // Both the edge and the node are preceded by a separating comma.
+        long stepSize = route.edgeSize(routeIndex, jsonBinder)
+            + (route.containsNode(routeIndex)
+                ? route.nodeSize(routeIndex, jsonBinder)
+                : jsonBinder.toJson(node).length())
+            + 2;
+        if (stepSize > size) {
+          return false;
+        }
+        size -= stepSize;
+      }
+      if (distance != null && step.getPath() != null) {
+        distance -= step.getPath().getLength();
+      }
+      if (travelTime != null) {
+        travelTime -= TravelTimes.estimate(step, vehicle);
+      }
+      return true;
+    }
+
+    private long sizeOf(Order order) {
+      return jsonBinder.toJson(order).length();
+    }
+  }
+
+  /**
+   * The state orders are mapped with.
+   * Instances are confined to the thread mapping the orders, so mapping does not need to access
+   * this mapper's fields.
+   */
+  private static class MappingContext {
+
+    /**
+     * The profile of the vehicle to map orders for.
+     */
+    private final VehicleProfile profile;
+    /**
+     * The nodes and edges mapped for the route of the last mapped order, or {@code null}.
+     */
+    private MappedRoute route;
+
+    MappingContext(VehicleProfile profile, MappedRoute route) {
+      this.profile = requireNonNull(profile, "profile");
+      this.route = route;
+    }
+
+    VehicleProfile getProfile() {
+      return profile;
+    }
+
+    MappedRoute getRoute() {
+      return route;
+    }
+
+    void setRoute(MappedRoute route) {
+      this.route = route;
+    }
+  }
+
+  /**
+   * An order mapped in advance, along with the state it was mapped with.
+   *
+   * @param command The command the order was mapped for.
+   * @param previousOrder The order the order was mapped as a successor of.
+   * @param vehicleProfile The profile of the vehicle the order was mapped for.
+   * @param order The mapped order.
+   */
+  private record PremappedOrder(
+      MovementCommand command,
+      Order previousOrder,
+      VehicleProfile vehicleProfile,
+      Order order
+  ) {
+
+    /**
+     * Checks whether this order may be used for the given command.
+     *
+     * @param command The command.
+     * @param previousOrder The order mapped for the previous command.
+     * @param vehicleProfile The vehicle's current profile.
+     * @param orderId The ID of the vehicle's current order.
+     * @return {@code true} if, and only if, this order was mapped for the given command as a
+     * successor of the given order, with the given profile and for the given order ID.
+     */
+    boolean isValidFor(
+        MovementCommand command,
+        Order previousOrder,
+        VehicleProfile vehicleProfile,
+        String orderId
+    ) {
+      return this.command.equals(command)
+          && this.previousOrder == previousOrder
+          && this.vehicleProfile == vehicleProfile
+          && order.getOrderId().equals(orderId);
+    }
+  }
+
+  /**
+   * Identifies a mapped route along with everything the mapping of its horizon depends on.
+   *
+   * @param orderId The ID of the order the route was mapped for.
+   * @param route The route.
+   * @param commandProperties The properties of the command the route was mapped with.
+   * @param vehicleProfile The profile of the vehicle the route was mapped for. As a profile is
+   * replaced whenever the vehicle's properties change, it is compared by identity.
+   */
+  private record MappedRouteKey(
+      String orderId,
+      Route route,
+      Map<String, String> commandProperties,
+      VehicleProfile vehicleProfile
+  ) {
+  }
+
+  /**
+   * The horizon nodes and edges mapped for a route, starting with a given route index.
+   * The nodes and edges must not be modified, as they are shared by all orders mapped for the
+   * route. Their sizes may be determined by several threads mapping orders at the same time, which
+   * is harmless, as all of them determine the same sizes.
+   *
+   * @param key Identifies the mapped route.
+   * @param firstRouteIndex The route index of the first mapped step.
+   * @param nodes The destination nodes of the mapped steps, except for the route's last step.
+   * @param edges The edges of the mapped steps.
+   * @param nodeSizes The sizes of the nodes' JSON representations, or -1 for sizes not needed so
+   * far.
+   * @param edgeSizes The sizes of the edges' JSON representations, or -1 for sizes not needed so
+   * far.
+   */
+  private record MappedRoute(
+      MappedRouteKey key,
+      int firstRouteIndex,
+      List<Node> nodes,
+      List<Edge> edges,
+      int[] nodeSizes,
+      int[] edgeSizes
+  ) {
+
+    boolean containsNode(int routeIndex) {
+      return routeIndex >= firstRouteIndex && routeIndex - firstRouteIndex < nodes.size();
+    }
+
+    Node node(int routeIndex) {
+      return nodes.get(routeIndex - firstRouteIndex);
+    }
+
+    boolean containsEdge(int routeIndex) {
+      return routeIndex >= firstRouteIndex && routeIndex - firstRouteIndex < edges.size();
+    }
+
+    Edge edge(int routeIndex) {
+      return edges.get(routeIndex - firstRouteIndex);
+    }
+
+    int nodeSize(int routeIndex, JsonBinder jsonBinder) {
+      int i = routeIndex - firstRouteIndex;
+      if (nodeSizes[i] < 0) {
+        nodeSizes[i] = jsonBinder.toJson(nodes.get(i)).length();
+      }
+      return nodeSizes[i];
+    }
+
+    int edgeSize(int routeIndex, JsonBinder jsonBinder) {
+      int i = routeIndex - firstRouteIndex;
+      if (edgeSizes[i] < 0) {
+        edgeSizes[i] = jsonBinder.toJson(edges.get(i)).length();
+      }
+      return edgeSizes[i];
+    }
+  }
 }
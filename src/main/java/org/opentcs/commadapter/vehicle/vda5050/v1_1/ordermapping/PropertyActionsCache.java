@@ -0,0 +1,90 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.commadapter.vehicle.vda5050.v1_1.ordermapping;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.inject.Inject;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.Nonnull;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.TCSResource;
+
+/**
+ * Caches the {@link PropertyAction}s parsed from the properties of plant model elements, so they
+ * are parsed only once instead of with every order mapped for any vehicle.
+ * <p>
+ * Entries are kept per plant model element and are parsed again if the element's properties
+ * changed since, e.g. after a new plant model with an element of the same name was loaded or the
+ * element's properties were modified. Instances are thread-safe and meant to be shared by the
+ * drivers of all vehicles.
+ * </p>
+ */
+public class PropertyActionsCache {
+
+  /**
+   * The cached entries, mapped by the plant model elements they were parsed from.
+   */
+  private final Map<TCSObjectReference<?>, Entry> entries = new ConcurrentHashMap<>();
+
+  /**
+   * Creates a new instance.
+   */
+  @Inject
+  public PropertyActionsCache() {
+  }
+
+  /**
+   * Returns the property actions defined in the properties of the given resource.
+   *
+   * @param resource The resource.
+   * @return The (unmodifiable) list of property actions, in the same order as returned by
+   * {@link ActionsMapping#mapPropertyActions(TCSResource)}.
+   */
+  @Nonnull
+  public List<PropertyAction> getPropertyActions(
+      @Nonnull
+      TCSResource<?> resource
+  ) {
+    requireNonNull(resource, "resource");
+
+    Map<String, String> properties = resource.getProperties();
+    Entry entry = entries.get(resource.getReference());
+    if (entry == null || !entry.properties().equals(properties)) {
+      entry = new Entry(
+          properties,
+          List.copyOf(ActionsMapping.mapPropertyActions(resource))
+      );
+      entries.put(resource.getReference(), entry);
+    }
+
+    return entry.propertyActions();
+  }
+
+  /**
+   * Removes all entries from this cache.
+   */
+  public void clear() {
+    entries.clear();
+  }
+
+  /**
+   * Returns the number of entries in this cache.
+   *
+   * @return The number of entries in this cache.
+   */
+  public int size() {
+    return entries.size();
+  }
+
+  /**
+   * A cached entry.
+   *
+   * @param properties The properties the property actions were parsed from.
+   * @param propertyActions The parsed property actions.
+   */
+  private record Entry(Map<String, String> properties, List<PropertyAction> propertyActions) {
+  }
+}
@@ -204,7 +204,7 @@ public class VehicleSimulator
     if (message.getTopic().endsWith("/instantActions")) {
       try {
         InstantActions instantAction = jsonBinder.fromJson(
-            message.getMessage(),
+            message.getPayload(),
             InstantActions.class
         );
         instantAction.getInstantActions().forEach(action -> newInstantAction(action));
@@ -215,7 +215,7 @@ public class VehicleSimulator
     }
     if (message.getTopic().endsWith("/order")) {
       try {
-        Order order = jsonBinder.fromJson(message.getMessage(), Order.class);
+        Order order = jsonBinder.fromJson(message.getPayload(), Order.class);
         onOrder(order);
       }
       catch (IllegalArgumentException ex) {
@@ -3,15 +3,32 @@
 package org.opentcs.commadapter.vehicle.vda5050.v2_0;
 
 import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkArgument;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.LongSummaryStatistics;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import org.opentcs.commadapter.vehicle.vda5050.common.ResendTimer;
 import org.opentcs.commadapter.vehicle.vda5050.v2_0.action.CancelOrder;
+import org.opentcs.commadapter.vehicle.vda5050.v2_0.action.StartPause;
+import org.opentcs.commadapter.vehicle.vda5050.v2_0.action.StopPause;
 import org.opentcs.commadapter.vehicle.vda5050.v2_0.message.common.Action;
 import org.opentcs.commadapter.vehicle.vda5050.v2_0.message.instantactions.InstantActions;
+import org.opentcs.commadapter.vehicle.vda5050.v2_0.message.order.Edge;
+import org.opentcs.commadapter.vehicle.vda5050.v2_0.message.order.Node;
 import org.opentcs.commadapter.vehicle.vda5050.v2_0.message.order.Order;
 import org.opentcs.commadapter.vehicle.vda5050.v2_0.message.state.ActionStatus;
 import org.opentcs.commadapter.vehicle.vda5050.v2_0.message.state.OperatingMode;
@@ -22,10 +39,48 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Matches a state messages with sent order messages to confirm their delivery.
+ * <p>
+ * By default, requests are sent strictly one after the other, i.e. a request is only sent after
+ * the vehicle has acknowledged the previous one. Optionally, up to a configured number of order
+ * updates for the same order may be in flight at the same time. The vehicle's acknowledgements of
+ * these are cumulative, i.e. a state message reporting an order update ID acknowledges all order
+ * updates with lower or equal IDs, too. As soon as the vehicle indicates a rejection, the
+ * remaining updates of the order are sent strictly one after the other again.
+ * </p>
+ * <p>
+ * Optionally, consecutive order updates for the same order that are still waiting to be sent are
+ * coalesced into a single update, releasing the base of all of them at once. The movement commands
+ * of all coalesced updates are still reported as accepted individually.
+ * </p>
+ * <p>
+ * Instant actions consisting only of configured (safety-relevant) action types, e.g.
+ * {@code startPause}, are sent via a priority lane: They are sent immediately instead of waiting
+ * for the acknowledgement of previous requests, and their acknowledgement is tracked separately.
+ * While a {@code cancelOrder} sent via the priority lane has not been completed by the vehicle,
+ * no other requests are sent. A {@code startPause} or {@code stopPause} sent via the priority lane
+ * replaces any previous one that has not been acknowledged, yet, so only the latest one is resent.
+ * </p>
+ * <p>
+ * Optionally, consecutive instant actions messages waiting to be sent are merged into a single
+ * message. If a linger time is configured in addition, instant actions are held back for that
+ * time before being sent, so instant actions enqueued in quick succession are sent with a single
+ * message, too.
+ * </p>
+ * <p>
+ * Requests not acknowledged by the vehicle are resent. If a {@link ResendTimer} is given, resends
+ * are scheduled by it, with exponential backoff, regardless of the rate at which the vehicle
+ * publishes state messages. Otherwise, requests are resent with every state message that does not
+ * acknowledge them.
+ * </p>
  */
 public class MessageResponseMatcher {
 
   private static final Logger LOG = LoggerFactory.getLogger(MessageResponseMatcher.class);
+  /**
+   * The types of instant actions that change the vehicle's paused state.
+   */
+  private static final Set<String> PAUSE_ACTION_TYPES
+      = Set.of(StartPause.ACTION_TYPE, StopPause.ACTION_TYPE);
   /**
    * The comm adapter.
    */
@@ -33,7 +88,7 @@ public class MessageResponseMatcher {
   /**
    * Queue for requests that need to be sent to the vehicle.
    */
-  private final Queue<Object> requests = new ArrayDeque<>();
+  private final Deque<Object> requests = new ArrayDeque<>();
   /**
    * The callback for sending the next order.
    */
@@ -51,6 +106,22 @@ public class MessageResponseMatcher {
    * order/message before we consider the rejection to be permanent and stop retrying.
    */
   private final int maxIgnoredRejectionsCount;
+  /**
+   * The maximum number of order updates for the same order that may be in flight at the same time.
+   */
+  private final int maxOrderUpdatesInFlight;
+  /**
+   * Whether consecutive order updates for the same order waiting to be sent are coalesced.
+   */
+  private final boolean coalesceOrderUpdates;
+  /**
+   * The types of instant actions to be sent via the priority lane.
+   */
+  private final Set<String> priorityActionTypes;
+  /**
+   * The instant actions sent via the priority lane that the vehicle has not acknowledged yet.
+   */
+  private final List<PriorityRequest> priorityRequests = new ArrayList<>();
   /**
    * The number of consecutive state messages that indicate a rejection of the current order/message
    * we have received so far.
@@ -61,6 +132,56 @@ public class MessageResponseMatcher {
    * If false, all enqueued requests will stay in the queue until the flag becomes true.
    */
   private boolean sendingAllowed;
+  /**
+   * The number of requests at the head of the queue that have already been sent.
+   */
+  private int inFlightCount;
+  /**
+   * The number of consecutive state messages that did not acknowledge any of several order updates
+   * in flight.
+   */
+  private int statesWithoutAcknowledgementCount;
+  /**
+   * The ID of the order whose updates are sent strictly one after the other due to a rejection.
+   */
+  private String strictOrderId;
+  /**
+   * Schedules resends of requests not acknowledged by the vehicle, or {@code null}.
+   */
+  private final ResendTimer resendTimer;
+  /**
+   * Schedules resends of instant actions sent via the priority lane not accepted by the vehicle,
+   * or {@code null}.
+   */
+  private final ResendTimer priorityResendTimer;
+  /**
+   * Whether consecutive instant actions messages waiting to be sent are merged.
+   */
+  private final boolean mergeInstantActions;
+  /**
+   * The time (in ms) for which instant actions are held back before being sent.
+   */
+  private final long instantActionsLingerTime;
+  /**
+   * Schedules the end of linger times, or {@code null}.
+   */
+  private final ScheduledExecutorService executor;
+  /**
+   * The scheduled end of the current linger time, or {@code null}.
+   */
+  private Future<?> lingerEnd;
+  /**
+   * The points of time at which requests in flight were first sent (in ms).
+   */
+  private final Map<Object, Long> sendTimes = new IdentityHashMap<>();
+  /**
+   * The number of requests resent so far.
+   */
+  private long resendCount;
+  /**
+   * The times it took the vehicle to acknowledge requests (in ms).
+   */
+  private final LongSummaryStatistics acknowledgementLatencies = new LongSummaryStatistics();
 
   /**
    * Creates a new OrderResponseMatcher.
@@ -84,32 +205,213 @@ public class MessageResponseMatcher {
       Consumer<OrderAssociation> orderAcceptedCallback,
       int maxIgnoredRejectionsCount
   ) {
+    this(
+        commAdapterName,
+        sendOrderCallback,
+        sendInstantActionsCallback,
+        orderAcceptedCallback,
+        maxIgnoredRejectionsCount,
+        1,
+        false,
+        Set.of(),
+        null,
+        null,
+        false,
+        0,
+        null
+    );
+  }
+
+  /**
+   * Creates a new OrderResponseMatcher.
+   *
+   * @param commAdapterName The name of the comm adapter
+   * @param sendOrderCallback The callback for sending the next order.
+   * @param sendInstantActionsCallback The callback for sending instant actions.
+   * @param orderAcceptedCallback The callback for when the order is accepted by the vehicle.
+   * @param maxIgnoredRejectionsCount The maximum number of consecutive state messages that
+   * indicate a rejection of the current order/message before we consider the rejection to be
+   * permanent and stop retrying.
+   * @param maxOrderUpdatesInFlight The maximum number of order updates for the same order that may
+   * be in flight at the same time. A value of 1 means requests are sent strictly one after the
+   * other.
+   * @param coalesceOrderUpdates Whether consecutive order updates for the same order waiting to be
+   * sent are coalesced into a single update.
+   * @param priorityActionTypes The types of instant actions to be sent via the priority lane.
+   * @param resendTimer Schedules resends of requests not acknowledged by the vehicle, or
+   * {@code null} to resend requests with every state message not acknowledging them.
+   * @param priorityResendTimer Schedules resends of instant actions sent via the priority lane not
+   * accepted by the vehicle, or {@code null} to resend them with every state message not accepting
+   * them. Must not be the same instance as the one for the other requests.
+   * @param mergeInstantActions Whether consecutive instant actions messages waiting to be sent are
+   * merged into a single message.
+   * @param instantActionsLingerTime The time (in ms) for which instant actions are held back
+   * before being sent, so they can be merged with instant actions enqueued in the meantime. Only
+   * relevant if instant actions are merged.
+   * @param executor Schedules the end of linger times. May be {@code null} if the linger time is 0.
+   * @throws IllegalArgumentException If the maximum number of order updates in flight is less than
+   * 1, if the linger time is negative or if it is positive and no executor is given.
+   */
+  public MessageResponseMatcher(
+      @Nonnull
+      String commAdapterName,
+      @Nonnull
+      Consumer<Order> sendOrderCallback,
+      @Nonnull
+      Consumer<InstantActions> sendInstantActionsCallback,
+      @Nonnull
+      Consumer<OrderAssociation> orderAcceptedCallback,
+      int maxIgnoredRejectionsCount,
+      int maxOrderUpdatesInFlight,
+      boolean coalesceOrderUpdates,
+      @Nonnull
+      Set<String> priorityActionTypes,
+      @Nullable
+      ResendTimer resendTimer,
+      @Nullable
+      ResendTimer priorityResendTimer,
+      boolean mergeInstantActions,
+      long instantActionsLingerTime,
+      @Nullable
+      ScheduledExecutorService executor
+  )
+      throws IllegalArgumentException {
     this.commAdapterName = requireNonNull(commAdapterName, "commAdapterName");
     this.sendOrderCallback = requireNonNull(sendOrderCallback, "sendOrderCallback");
     this.sendInstantActionsCallback
         = requireNonNull(sendInstantActionsCallback, "sendInstantActionsCallback");
     this.orderAcceptedCallback = requireNonNull(orderAcceptedCallback, "orderAcceptedCallback");
     this.maxIgnoredRejectionsCount = maxIgnoredRejectionsCount;
+    checkArgument(
+        maxOrderUpdatesInFlight >= 1,
+        "maxOrderUpdatesInFlight < 1: %s",
+        maxOrderUpdatesInFlight
+    );
+    this.maxOrderUpdatesInFlight = maxOrderUpdatesInFlight;
+    this.coalesceOrderUpdates = coalesceOrderUpdates;
+    this.priorityActionTypes = Set.copyOf(
+        requireNonNull(priorityActionTypes, "priorityActionTypes")
+    );
+    this.resendTimer = resendTimer;
+    checkArgument(
+        resendTimer == null || resendTimer != priorityResendTimer,
+        "Same resend timer given for both lanes"
+    );
+    this.priorityResendTimer = priorityResendTimer;
+    checkArgument(
+        instantActionsLingerTime >= 0,
+        "instantActionsLingerTime < 0: %s",
+        instantActionsLingerTime
+    );
+    checkArgument(
+        instantActionsLingerTime == 0 || executor != null,
+        "No executor given for instantActionsLingerTime %s",
+        instantActionsLingerTime
+    );
+    this.mergeInstantActions = mergeInstantActions;
+    this.instantActionsLingerTime = instantActionsLingerTime;
+    this.executor = executor;
   }
 
   public void enqueueCommand(Order order, MovementCommand command) {
     LOG.debug("{}: Enqueuing order: {}", commAdapterName, order);
-    enqueueRequest(new OrderAssociation(order, command));
+    OrderAssociation association = new OrderAssociation(order, command);
+
+    // Only requests that have not been sent yet may be coalesced.
+    if (coalesceOrderUpdates
+        && requests.size() > inFlightCount
+        && requests.peekLast() instanceof OrderUpdate pendingUpdate
+        && pendingUpdate.canBeCoalescedWith(order)) {
+      LOG.debug(
+          "{}: Coalescing order update {} with pending order update {}.",
+          commAdapterName,
+          order.getOrderUpdateId(),
+          pendingUpdate.getOrder().getOrderUpdateId()
+      );
+      pendingUpdate.coalesce(association);
+      return;
+    }
+
+    enqueueRequest(new OrderUpdate(association));
   }
 
   public void enqueueAction(InstantActions action) {
+    if (isPriorityRequest(action)) {
+      if (isPauseRequest(action)) {
+        // A pause request supersedes any previous one. Resending a previous one (e.g. because it
+        // got lost) would change the vehicle's paused state against the latest request.
+        dropPendingPauseRequests();
+      }
+      LOG.debug("{}: Sending instant action via priority lane: {}", commAdapterName, action);
+      priorityRequests.add(new PriorityRequest(action, System.currentTimeMillis()));
+      sendPriorityRequest(action);
+      if (priorityResendTimer != null) {
+        // Restart the timer, so the new request gets the initial timeout.
+        priorityResendTimer.schedule(this::resendPriorityRequests);
+      }
+      return;
+    }
+
+    // Only requests that have not been sent yet may be merged.
+    if (mergeInstantActions
+        && requests.size() > inFlightCount
+        && requests.peekLast() instanceof InstantActions pendingActions
+        && !containsCancelOrder(pendingActions)) {
+      LOG.debug(
+          "{}: Merging instant action with pending instant actions: {}",
+          commAdapterName,
+          action
+      );
+      requests.pollLast();
+      requests.addLast(merge(pendingActions, action));
+      return;
+    }
+
     LOG.debug("{}: Enqueuing instant action: {}", commAdapterName, action);
+    if (mergeInstantActions && instantActionsLingerTime > 0 && requests.isEmpty()) {
+      // Hold the instant actions back for a while, as further ones may follow.
+      requests.add(action);
+      lingerEnd = executor.schedule(
+          this::endLinger,
+          instantActionsLingerTime,
+          TimeUnit.MILLISECONDS
+      );
+      return;
+    }
     enqueueRequest(action);
   }
 
+  private void endLinger() {
+    if (lingerEnd == null) {
+      return;
+    }
+
+    lingerEnd = null;
+    sendNextOrder();
+  }
+
+  private boolean containsCancelOrder(InstantActions instantActions) {
+    return instantActions.getActions().stream()
+        .anyMatch(action -> Objects.equals(action.getActionType(), CancelOrder.ACTION_TYPE));
+  }
+
+  private InstantActions merge(InstantActions first, InstantActions second) {
+    List<Action> actions = new ArrayList<>(first.getActions());
+    actions.addAll(second.getActions());
+    return new InstantActions().setActions(actions);
+  }
+
   private void enqueueRequest(Object request) {
     requests.add(request);
 
     if (requests.size() > 1) {
-      LOG.debug(
-          "{}: Not sending enqueued request yet, due to unacknowledged previous request.",
-          commAdapterName
-      );
+      sendFurtherOrders();
+      if (inFlightCount < requests.size()) {
+        LOG.debug(
+            "{}: Not sending enqueued request yet, due to unacknowledged previous request.",
+            commAdapterName
+        );
+      }
       return;
     }
 
@@ -122,7 +424,45 @@ public class MessageResponseMatcher {
    */
   public void clear() {
     requests.clear();
+    priorityRequests.clear();
     consecutiveRejectionsCount = 0;
+    inFlightCount = 0;
+    statesWithoutAcknowledgementCount = 0;
+    strictOrderId = null;
+    sendTimes.clear();
+    if (resendTimer != null) {
+      resendTimer.cancel();
+    }
+    if (priorityResendTimer != null) {
+      priorityResendTimer.cancel();
+    }
+    if (lingerEnd != null) {
+      lingerEnd.cancel(false);
+      lingerEnd = null;
+    }
+  }
+
+  /**
+   * Returns the number of requests resent so far.
+   *
+   * @return The number of requests resent so far.
+   */
+  public long getResendCount() {
+    return resendCount;
+  }
+
+  /**
+   * Returns statistics about the times it took the vehicle to acknowledge requests (in ms).
+   *
+   * @return Statistics about the acknowledgement latencies.
+   */
+  public LongSummaryStatistics getAcknowledgementLatencies() {
+    return new LongSummaryStatistics(
+        acknowledgementLatencies.getCount(),
+        acknowledgementLatencies.getMin(),
+        acknowledgementLatencies.getMax(),
+        acknowledgementLatencies.getSum()
+    );
   }
 
   public void onStateMessage(
@@ -134,11 +474,21 @@ public class MessageResponseMatcher {
     sendingAllowed = state.getOperatingMode() == OperatingMode.AUTOMATIC
         || state.getOperatingMode() == OperatingMode.SEMIAUTOMATIC;
 
+    onStateMessageForPriorityLane(state);
+
     Object currentRequest = requests.peek();
     if (currentRequest == null) {
       return;
     }
 
+    if (windowApplies(currentRequest)) {
+      if (!StateMappings.vehicleRejectsOrder(state)) {
+        onStateMessageWithWindow(state);
+        return;
+      }
+      fallBackToStrictMode((OrderUpdate) currentRequest);
+    }
+
     boolean rejected = updateRejectionState(state);
     boolean accepted = !rejected && requestAccepted(currentRequest, state);
     boolean complete = accepted && requestComplete(currentRequest, state);
@@ -151,18 +501,22 @@ public class MessageResponseMatcher {
           commAdapterName,
           currentRequest
       );
+      cancelResends();
     }
     else if (complete) {
       requests.poll();
-      if (currentRequest instanceof OrderAssociation orderAssociation) {
-        LOG.debug("{}: Vehicle acknowledged order: {}", commAdapterName, orderAssociation);
-        orderAcceptedCallback.accept(orderAssociation);
+      inFlightCount = Math.max(inFlightCount - 1, 0);
+      onAcknowledged(currentRequest);
+      if (currentRequest instanceof OrderUpdate orderUpdate) {
+        LOG.debug("{}: Vehicle acknowledged order: {}", commAdapterName, orderUpdate);
+        orderUpdate.getAssociations().forEach(orderAcceptedCallback);
       }
       else if (currentRequest instanceof InstantActions actions) {
         LOG.debug("{}: Vehicle acknowledged instant actions: {}", commAdapterName, actions);
       }
       // Send the next order, if any.
       sendNextOrder();
+      sendFurtherOrders();
     }
     else if (accepted) {
       // The vehicle reflects the request in its state but has not completed it yet (e.g. a
@@ -173,11 +527,274 @@ public class MessageResponseMatcher {
           commAdapterName,
           currentRequest
       );
+      cancelResends();
+    }
+    else if (resendTimer == null || inFlightCount == 0) {
+      // The vehicle neither rejected nor accepted the current request - (re)send it.
+      sendNextOrder();
     }
     else {
-      // The vehicle neither rejected nor accepted the current request - resend it.
+      // The vehicle neither rejected nor accepted the current request - have it resent after the
+      // timeout, unless already scheduled.
+      resendTimer.scheduleIfIdle(this::resendRequestsInFlight);
+    }
+  }
+
+  private void onStateMessageForPriorityLane(State state) {
+    boolean acknowledged = false;
+    Iterator<PriorityRequest> iter = priorityRequests.iterator();
+    while (iter.hasNext()) {
+      PriorityRequest request = iter.next();
+      if (instantActionsCompleted(request.getActions(), state)) {
+        iter.remove();
+        acknowledged = true;
+        LOG.debug(
+            "{}: Vehicle acknowledged priority instant actions after {} ms: {}",
+            commAdapterName,
+            System.currentTimeMillis() - request.getEnqueuedTime(),
+            request.getActions()
+        );
+      }
+      else if (instantActionsAccepted(request.getActions(), state)) {
+        acknowledged |= !request.isAccepted();
+        request.setAccepted(true);
+      }
+      else if (priorityResendTimer == null) {
+        // The vehicle neither completed nor accepted the instant actions - resend them.
+        resendPriorityRequest(request);
+      }
+    }
+
+    if (priorityResendTimer != null && acknowledged && !priorityResendsPending()) {
+      priorityResendTimer.cancel();
+    }
+  }
+
+  /**
+   * Resends the instant actions sent via the priority lane that the vehicle has not accepted, yet.
+   */
+  private void resendPriorityRequests() {
+    if (!priorityResendsPending()) {
+      priorityResendTimer.cancel();
+      return;
+    }
+
+    priorityRequests.stream()
+        .filter(request -> !request.isAccepted())
+        .forEach(this::resendPriorityRequest);
+  }
+
+  private boolean priorityResendsPending() {
+    return priorityRequests.stream().anyMatch(request -> !request.isAccepted());
+  }
+
+  private void resendPriorityRequest(PriorityRequest request) {
+    LOG.debug("{}: Resending priority instant actions: {}", commAdapterName, request.getActions());
+    resendCount++;
+    sendPriorityRequest(request.getActions());
+  }
+
+  private boolean isPriorityRequest(InstantActions instantActions) {
+    return !instantActions.getActions().isEmpty()
+        && instantActions.getActions().stream()
+            .allMatch(action -> priorityActionTypes.contains(action.getActionType()));
+  }
+
+  private boolean isPauseRequest(InstantActions instantActions) {
+    return !instantActions.getActions().isEmpty()
+        && instantActions.getActions().stream()
+            .allMatch(action -> PAUSE_ACTION_TYPES.contains(action.getActionType()));
+  }
+
+  private void dropPendingPauseRequests() {
+    priorityRequests.removeIf(request -> {
+      if (!isPauseRequest(request.getActions())) {
+        return false;
+      }
+      LOG.debug(
+          "{}: Dropping pause request superseded by a newer one: {}",
+          commAdapterName,
+          request.getActions()
+      );
+      return true;
+    });
+  }
+
+  private void sendPriorityRequest(InstantActions instantActions) {
+    if (!sendingAllowed) {
+      LOG.debug(
+          "{}: Cannot send priority instant actions. Sending is currently disallowed",
+          commAdapterName
+      );
+      return;
+    }
+
+    sendInstantActionsCallback.accept(instantActions);
+  }
+
+  /**
+   * Checks whether a {@code cancelOrder} sent via the priority lane has not been completed by the
+   * vehicle, yet, in which case no other requests may be sent.
+   *
+   * @return Whether a {@code cancelOrder} sent via the priority lane is pending.
+   */
+  private boolean priorityCancelOrderPending() {
+    return priorityRequests.stream()
+        .anyMatch(request -> containsCancelOrder(request.getActions()));
+  }
+
+  private void onStateMessageWithWindow(State state) {
+    consecutiveRejectionsCount = 0;
+
+    // Acknowledgements are cumulative - the vehicle may have processed several updates in between
+    // two state messages.
+    int acknowledgedCount = 0;
+    while (inFlightCount > 0
+        && requests.peek() instanceof OrderUpdate orderUpdate
+        && orderUpdateAccepted(orderUpdate.getOrder(), state)) {
+      requests.poll();
+      inFlightCount--;
+      acknowledgedCount++;
+      onAcknowledged(orderUpdate);
+      LOG.debug("{}: Vehicle acknowledged order: {}", commAdapterName, orderUpdate);
+      orderUpdate.getAssociations().forEach(orderAcceptedCallback);
+    }
+
+    if (resendTimer != null) {
+      if (inFlightCount == 0) {
+        sendNextOrder();
+      }
+      else if (acknowledgedCount > 0) {
+        // The vehicle made progress - restart the timeout for the remaining requests in flight.
+        resendTimer.schedule(this::resendRequestsInFlight);
+      }
+      else {
+        resendTimer.scheduleIfIdle(this::resendRequestsInFlight);
+      }
+      sendFurtherOrders();
+      return;
+    }
+
+    if (acknowledgedCount > 0 || inFlightCount <= 1) {
+      statesWithoutAcknowledgementCount = 0;
+      if (inFlightCount == 0) {
+        sendNextOrder();
+      }
+      else if (acknowledgedCount == 0) {
+        // As with strict mode, resend a single request in flight.
+        sendNextOrder();
+      }
+      sendFurtherOrders();
+      return;
+    }
+
+    // With several order updates in flight, the state message may well have been published
+    // before the vehicle received them, and resending an update the vehicle has already superseded
+    // would make it reject the update. Only resend if the updates remain unacknowledged for a
+    // second state message, which indicates that an update was lost.
+    statesWithoutAcknowledgementCount++;
+    if (statesWithoutAcknowledgementCount >= 2) {
+      statesWithoutAcknowledgementCount = 0;
+      resendOrdersInFlight();
+    }
+  }
+
+  private void onAcknowledged(Object request) {
+    Long sendTime = sendTimes.remove(request);
+    if (sendTime != null) {
+      acknowledgementLatencies.accept(System.currentTimeMillis() - sendTime);
+    }
+    if (resendTimer != null && inFlightCount == 0) {
+      resendTimer.cancel();
+    }
+  }
+
+  private void cancelResends() {
+    if (resendTimer != null) {
+      resendTimer.cancel();
+    }
+  }
+
+  /**
+   * Resends the requests in flight, if any.
+   */
+  private void resendRequestsInFlight() {
+    if (inFlightCount == 0 || requests.isEmpty()) {
+      cancelResends();
+      return;
+    }
+
+    if (inFlightCount == 1) {
       sendNextOrder();
     }
+    else {
+      resendOrdersInFlight();
+    }
+  }
+
+  private boolean windowApplies(Object currentRequest) {
+    return maxOrderUpdatesInFlight > 1
+        && currentRequest instanceof OrderUpdate orderUpdate
+        && !Objects.equals(orderUpdate.getOrder().getOrderId(), strictOrderId);
+  }
+
+  private void fallBackToStrictMode(OrderUpdate currentRequest) {
+    LOG.debug(
+        "{}: Vehicle indicates rejection, sending remaining updates of order {} one by one.",
+        commAdapterName,
+        currentRequest.getOrder().getOrderId()
+    );
+    strictOrderId = currentRequest.getOrder().getOrderId();
+    inFlightCount = Math.min(inFlightCount, 1);
+    statesWithoutAcknowledgementCount = 0;
+  }
+
+  /**
+   * Sends the requests following those in flight, as long as they are updates of the same order
+   * and the maximum number of order updates in flight is not reached.
+   */
+  private void sendFurtherOrders() {
+    if (!sendingAllowed
+        || priorityCancelOrderPending()
+        || inFlightCount == 0
+        || !windowApplies(requests.peek())) {
+      return;
+    }
+
+    String orderId = ((OrderUpdate) requests.peek()).getOrder().getOrderId();
+    Iterator<Object> iter = requests.iterator();
+    for (int i = 0; i < inFlightCount; i++) {
+      iter.next();
+    }
+    while (inFlightCount < maxOrderUpdatesInFlight
+        && iter.hasNext()
+        && iter.next() instanceof OrderUpdate next
+        && Objects.equals(next.getOrder().getOrderId(), orderId)) {
+      LOG.debug("{}: Sending order update to comm adapter: {}", commAdapterName, next);
+      sendOrderCallback.accept(next.getOrder());
+      sendTimes.put(next, System.currentTimeMillis());
+      inFlightCount++;
+    }
+  }
+
+  private void resendOrdersInFlight() {
+    if (!sendingAllowed) {
+      LOG.debug("{}: Cannot resend orders. Sending is currently disallowed", commAdapterName);
+      return;
+    }
+
+    if (priorityCancelOrderPending()) {
+      LOG.debug("{}: Cannot resend orders. Waiting for cancelOrder completion", commAdapterName);
+      return;
+    }
+
+    Iterator<Object> iter = requests.iterator();
+    for (int i = 0; i < inFlightCount && iter.hasNext(); i++) {
+      OrderUpdate orderUpdate = (OrderUpdate) iter.next();
+      LOG.debug("{}: Resending order to comm adapter: {}", commAdapterName, orderUpdate);
+      sendOrderCallback.accept(orderUpdate.getOrder());
+      resendCount++;
+    }
   }
 
   private boolean updateRejectionState(State state) {
@@ -192,8 +809,8 @@ public class MessageResponseMatcher {
   }
 
   private boolean requestAccepted(Object request, State state) {
-    if (request instanceof OrderAssociation orderAssociation) {
-      return orderAccepted(orderAssociation.getOrder(), state);
+    if (request instanceof OrderUpdate orderUpdate) {
+      return orderAccepted(orderUpdate.getOrder(), state);
     }
     else if (request instanceof InstantActions actions) {
       return instantActionsAccepted(actions, state);
@@ -209,8 +826,8 @@ public class MessageResponseMatcher {
   }
 
   private boolean requestComplete(Object request, State state) {
-    if (request instanceof OrderAssociation orderAssociation) {
-      return orderAccepted(orderAssociation.getOrder(), state);
+    if (request instanceof OrderUpdate orderUpdate) {
+      return orderAccepted(orderUpdate.getOrder(), state);
     }
     else if (request instanceof InstantActions actions) {
       return instantActionsCompleted(actions, state);
@@ -234,15 +851,34 @@ public class MessageResponseMatcher {
       return;
     }
 
+    if (priorityCancelOrderPending()) {
+      LOG.debug("{}: Cannot send next order. Waiting for cancelOrder completion", commAdapterName);
+      return;
+    }
+
+    if (lingerEnd != null) {
+      LOG.debug("{}: Not sending instant actions before the end of linger time", commAdapterName);
+      return;
+    }
+
     if (requests.isEmpty()) {
       LOG.debug("{}: Cannot send next order. No request to send", commAdapterName);
       return;
     }
 
     Object request = requests.peek();
+    inFlightCount = Math.max(inFlightCount, 1);
+    if (sendTimes.putIfAbsent(request, System.currentTimeMillis()) == null) {
+      if (resendTimer != null) {
+        resendTimer.schedule(this::resendRequestsInFlight);
+      }
+    }
+    else {
+      resendCount++;
+    }
     LOG.debug("{}: Sending order to comm adapter: {}", commAdapterName, request);
-    if (request instanceof OrderAssociation) {
-      sendOrderCallback.accept(((OrderAssociation) request).getOrder());
+    if (request instanceof OrderUpdate) {
+      sendOrderCallback.accept(((OrderUpdate) request).getOrder());
     }
     else if (request instanceof InstantActions) {
       sendInstantActionsCallback.accept((InstantActions) request);
@@ -261,6 +897,13 @@ public class MessageResponseMatcher {
         && Objects.equals(state.getOrderUpdateId(), order.getOrderUpdateId());
   }
 
+  private boolean orderUpdateAccepted(Order order, State state) {
+    return Objects.equals(state.getOrderId(), order.getOrderId())
+        && state.getOrderUpdateId() != null
+        && order.getOrderUpdateId() != null
+        && state.getOrderUpdateId() >= order.getOrderUpdateId();
+  }
+
   private boolean instantActionsCompleted(InstantActions instantAction, State state) {
     return instantAction.getActions().stream()
         .allMatch(action -> {
@@ -303,4 +946,135 @@ public class MessageResponseMatcher {
                 || actionState.getActionStatus() == ActionStatus.FAILED
         );
   }
+
+  /**
+   * Instant actions sent via the priority lane.
+   */
+  private static class PriorityRequest {
+
+    /**
+     * The instant actions.
+     */
+    private final InstantActions actions;
+    /**
+     * The point of time at which the instant actions were enqueued (in ms).
+     */
+    private final long enqueuedTime;
+    /**
+     * Whether the vehicle has accepted the instant actions (but not completed them, yet).
+     */
+    private boolean accepted;
+
+    PriorityRequest(InstantActions actions, long enqueuedTime) {
+      this.actions = requireNonNull(actions, "actions");
+      this.enqueuedTime = enqueuedTime;
+    }
+
+    InstantActions getActions() {
+      return actions;
+    }
+
+    long getEnqueuedTime() {
+      return enqueuedTime;
+    }
+
+    boolean isAccepted() {
+      return accepted;
+    }
+
+    void setAccepted(boolean accepted) {
+      this.accepted = accepted;
+    }
+  }
+
+  /**
+   * An order update to be sent to the vehicle, along with the order associations it covers.
+   */
+  private static class OrderUpdate {
+
+    /**
+     * The order update to be sent.
+     */
+    private Order order;
+    /**
+     * The order associations covered by the order update, in the order they were enqueued in.
+     */
+    private final List<OrderAssociation> associations = new ArrayList<>();
+
+    OrderUpdate(OrderAssociation association) {
+      this.order = association.getOrder();
+      this.associations.add(association);
+    }
+
+    Order getOrder() {
+      return order;
+    }
+
+    List<OrderAssociation> getAssociations() {
+      return associations;
+    }
+
+    /**
+     * Checks whether the given order update directly continues this one, i.e. whether it belongs
+     * to the same order and its base starts with the last base node of this one.
+     *
+     * @param next The order update.
+     * @return Whether the order update can be coalesced with this one.
+     */
+    boolean canBeCoalescedWith(Order next) {
+      return Objects.equals(order.getOrderId(), next.getOrderId())
+          && next.getOrderUpdateId() > order.getOrderUpdateId()
+          && !next.getEdges().isEmpty()
+          && !next.getNodes().isEmpty()
+          && lastBaseNodeSequenceId(order) == next.getNodes().get(0).getSequenceId();
+    }
+
+    /**
+     * Coalesces the given order association's order update with this one.
+     * The resulting order update consists of the base of this one, followed by the base and the
+     * horizon of the given one.
+     *
+     * @param association The order association.
+     */
+    void coalesce(OrderAssociation association) {
+      Order next = association.getOrder();
+      long lastNodeSequenceId = lastBaseNodeSequenceId(order);
+
+      List<Node> nodes = new ArrayList<>();
+      order.getNodes().stream()
+          .filter(node -> node.isReleased())
+          .forEach(nodes::add);
+      next.getNodes().stream()
+          .filter(node -> node.getSequenceId() > lastNodeSequenceId)
+          .forEach(nodes::add);
+
+      List<Edge> edges = new ArrayList<>();
+      order.getEdges().stream()
+          .filter(edge -> edge.isReleased())
+          .forEach(edges::add);
+      next.getEdges().stream()
+          .filter(edge -> edge.getSequenceId() > lastNodeSequenceId)
+          .forEach(edges::add);
+
+      order = new Order(next.getOrderId(), next.getOrderUpdateId(), nodes, edges)
+          .setZoneSetId(next.getZoneSetId());
+      associations.add(association);
+    }
+
+    @Override
+    public String toString() {
+      return "OrderUpdate{"
+          + "order=" + order
+          + ", associations=" + associations
+          + "}";
+    }
+
+    private static long lastBaseNodeSequenceId(Order order) {
+      return order.getNodes().stream()
+          .filter(node -> node.isReleased())
+          .mapToLong(node -> node.getSequenceId())
+          .max()
+          .orElse(-1);
+    }
+  }
 }
@@ -2,6 +2,7 @@
 // SPDX-License-Identifier: MIT
 package org.opentcs.commadapter.vehicle.vda5050.v2_0;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import java.io.InputStreamReader;
 import java.util.Map;
 import javax.annotation.Nonnull;
@@ -25,36 +26,77 @@ public class MessageValidator
   public static final MessageValidator ACCEPTING_ALL = new MessageValidator.AcceptingAll();
 
   /**
-   * Creates a new instance.
+   * The validator holding the compiled schemas shared by all instances.
+   * Compiled lazily, on first use.
+   */
+  private static JsonValidator sharedSchemas;
+
+  /**
+   * Creates a new instance validating all inputs.
+   * <p>
+   * The VDA5050 schemas are read and compiled only once, when the first instance is created. All
+   * instances share the compiled schemas.
+   * </p>
    *
    * @throws IllegalArgumentException If there was a problem reading the VDA5050 schemas.
    */
   public MessageValidator()
       throws IllegalArgumentException {
-    super(
-        Map.of(
-            Connection.class,
-            new InputStreamReader(
-                Connection.class.getResourceAsStream(Connection.JSON_SCHEMA_PATH)
-            ),
-            InstantActions.class,
-            new InputStreamReader(
-                InstantActions.class.getResourceAsStream(InstantActions.JSON_SCHEMA_PATH)
-            ),
-            Order.class,
-            new InputStreamReader(
-                Order.class.getResourceAsStream(Order.JSON_SCHEMA_PATH)
-            ),
-            State.class,
-            new InputStreamReader(
-                State.class.getResourceAsStream(State.JSON_SCHEMA_PATH)
-            ),
-            Visualization.class,
-            new InputStreamReader(
-                Visualization.class.getResourceAsStream(Visualization.JSON_SCHEMA_PATH)
-            )
-        )
-    );
+    this(1);
+  }
+
+  private MessageValidator(int sampleInterval)
+      throws IllegalArgumentException {
+    super(sharedSchemas(), sampleInterval);
+  }
+
+  private MessageValidator(JsonValidator schemaSource) {
+    super(schemaSource, 1);
+  }
+
+  /**
+   * Creates a new instance validating only a sample of the inputs, i.e. only every n-th input for
+   * each message type.
+   *
+   * @param sampleInterval The sample interval (n). A value of 1 means every input is validated.
+   * @return The new instance.
+   * @throws IllegalArgumentException If the sample interval is less than 1 or if there was a
+   * problem reading the VDA5050 schemas.
+   */
+  public static MessageValidator sampling(int sampleInterval)
+      throws IllegalArgumentException {
+    return new MessageValidator(sampleInterval);
+  }
+
+  private static synchronized JsonValidator sharedSchemas()
+      throws IllegalArgumentException {
+    if (sharedSchemas == null) {
+      sharedSchemas = new JsonValidator(
+          Map.of(
+              Connection.class,
+              new InputStreamReader(
+                  Connection.class.getResourceAsStream(Connection.JSON_SCHEMA_PATH)
+              ),
+              InstantActions.class,
+              new InputStreamReader(
+                  InstantActions.class.getResourceAsStream(InstantActions.JSON_SCHEMA_PATH)
+              ),
+              Order.class,
+              new InputStreamReader(
+                  Order.class.getResourceAsStream(Order.JSON_SCHEMA_PATH)
+              ),
+              State.class,
+              new InputStreamReader(
+                  State.class.getResourceAsStream(State.JSON_SCHEMA_PATH)
+              ),
+              Visualization.class,
+              new InputStreamReader(
+                  Visualization.class.getResourceAsStream(Visualization.JSON_SCHEMA_PATH)
+              )
+          )
+      );
+    }
+    return sharedSchemas;
   }
 
   /**
@@ -67,6 +109,16 @@ public class MessageValidator
      * Creates a new instance.
      */
     AcceptingAll() {
+      // Does not need any schemas.
+      super(new JsonValidator(Map.of()));
+    }
+
+    @Override
+    public boolean shouldValidate(
+        @Nonnull
+        Class<?> clazz
+    ) {
+      return false;
     }
 
     @Override
@@ -78,5 +130,25 @@ public class MessageValidator
     ) {
       // Accepts all JSON inputs, i.e. never throws.
     }
+
+    @Override
+    public void validate(
+        @Nonnull
+        byte[] json,
+        @Nonnull
+        Class<?> clazz
+    ) {
+      // Accepts all JSON inputs, i.e. never throws.
+    }
+
+    @Override
+    public void validate(
+        @Nonnull
+        JsonNode json,
+        @Nonnull
+        Class<?> clazz
+    ) {
+      // Accepts all JSON inputs, i.e. never throws.
+    }
   }
 }
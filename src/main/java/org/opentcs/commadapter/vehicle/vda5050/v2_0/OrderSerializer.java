@@ -0,0 +1,193 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.commadapter.vehicle.vda5050.v2_0;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nonnull;
+import org.opentcs.commadapter.vehicle.vda5050.common.JsonBinder;
+import org.opentcs.commadapter.vehicle.vda5050.v2_0.message.order.Edge;
+import org.opentcs.commadapter.vehicle.vda5050.v2_0.message.order.Node;
+import org.opentcs.commadapter.vehicle.vda5050.v2_0.message.order.Order;
+
+/**
+ * Serializes order messages to JSON, reusing the JSON fragments of nodes and edges that have
+ * already been serialized for previous orders.
+ * <p>
+ * Consecutive order updates mostly repeat the nodes and edges of the previous update's horizon,
+ * and the order mapper provides the very same instances for them. The JSON fragments of nodes and
+ * edges are therefore cached, keyed by their sequence IDs and released states, and an order's JSON
+ * is assembled from the cached fragments and a freshly serialized header. A cached fragment is
+ * only reused for the instance it was serialized from, so a node or edge that was mapped again is
+ * always serialized again, too.
+ * </p>
+ * <p>
+ * The fragments are serialized applying the JSON binder's filter, so the assembled JSON is the
+ * same as the one of an order serialized as a whole.
+ * </p>
+ */
+public class OrderSerializer {
+
+  /**
+   * The maximum number of fragments cached before the cache is cleared.
+   */
+  private static final int MAX_CACHED_FRAGMENTS = 1024;
+  /**
+   * The JSON written for an order's (empty) list of nodes, to be replaced with the actual list.
+   */
+  private static final String NODES_PLACEHOLDER = "\"nodes\":[]";
+  /**
+   * The JSON written for an order's (empty) list of edges, to be replaced with the actual list.
+   */
+  private static final String EDGES_PLACEHOLDER = "\"edges\":[]";
+  /**
+   * Binds JSON strings to objects and vice versa.
+   */
+  private final JsonBinder jsonBinder;
+  /**
+   * The cached fragments.
+   */
+  private final Map<FragmentKey, Fragment> fragments = new HashMap<>();
+
+  /**
+   * Creates a new instance.
+   *
+   * @param jsonBinder Binds JSON strings to objects and vice versa.
+   */
+  public OrderSerializer(
+      @Nonnull
+      JsonBinder jsonBinder
+  ) {
+    this.jsonBinder = requireNonNull(jsonBinder, "jsonBinder");
+  }
+
+  /**
+   * Maps the given order to a compact JSON string, applying the JSON binder's filter.
+   *
+   * @param order The order.
+   * @return The JSON string representation of the order.
+   * @throws IllegalArgumentException In case there was a problem mapping the given order to JSON.
+   */
+  @Nonnull
+  public synchronized String toJson(
+      @Nonnull
+      Order order
+  )
+      throws IllegalArgumentException {
+    requireNonNull(order, "order");
+
+    String nodesJson = toJsonArray(order.getNodes(), "nodes");
+    String edgesJson = toJsonArray(order.getEdges(), "edges");
+    if (nodesJson == null || edgesJson == null) {
+      return jsonBinder.toJson(order);
+    }
+
+    Order shell = new Order(
+        order.getHeaderId(),
+        order.getTimestamp(),
+        order.getVersion(),
+        order.getManufacturer(),
+        order.getSerialNumber(),
+        order.getOrderId(),
+        order.getOrderUpdateId(),
+        List.of(),
+        List.of()
+    )
+        .setZoneSetId(order.getZoneSetId());
+    String shellJson = jsonBinder.toJson(shell);
+    int nodesIndex = uniqueIndexOf(shellJson, NODES_PLACEHOLDER);
+    int edgesIndex = uniqueIndexOf(shellJson, EDGES_PLACEHOLDER);
+    if (nodesIndex < 0 || edgesIndex < nodesIndex + NODES_PLACEHOLDER.length()) {
+      return jsonBinder.toJson(order);
+    }
+
+    return new StringBuilder(shellJson.length() + nodesJson.length() + edgesJson.length())
+        .append(shellJson, 0, nodesIndex)
+        .append("\"nodes\":")
+        .append(nodesJson)
+        .append(shellJson, nodesIndex + NODES_PLACEHOLDER.length(), edgesIndex)
+        .append("\"edges\":")
+        .append(edgesJson)
+        .append(shellJson, edgesIndex + EDGES_PLACEHOLDER.length(), shellJson.length())
+        .toString();
+  }
+
+  /**
+   * Returns the number of fragments in the cache.
+   *
+   * @return The number of fragments in the cache.
+   */
+  public synchronized int getCachedFragmentCount() {
+    return fragments.size();
+  }
+
+  private String toJsonArray(List<?> elements, String propertyName) {
+    StringBuilder result = new StringBuilder().append('[');
+    for (Object element : elements) {
+      String fragment = toJsonFragment(element, propertyName);
+      if (fragment == null) {
+        return null;
+      }
+      if (result.length() > 1) {
+        result.append(',');
+      }
+      result.append(fragment);
+    }
+    return result.append(']').toString();
+  }
+
+  private String toJsonFragment(Object element, String propertyName) {
+    FragmentKey key = element instanceof Node node
+        ? new FragmentKey(Node.class, node.getSequenceId(), node.isReleased())
+        : new FragmentKey(
+            Edge.class,
+            ((Edge) element).getSequenceId(),
+            Boolean.TRUE.equals(((Edge) element).isReleased())
+        );
+
+    Fragment fragment = fragments.get(key);
+    if (fragment != null && fragment.element() == element) {
+      return fragment.json();
+    }
+
+    String json = jsonBinder.toJsonFragment(element, propertyName);
+    if (json == null) {
+      return null;
+    }
+    if (fragments.size() >= MAX_CACHED_FRAGMENTS) {
+      fragments.clear();
+    }
+    fragments.put(key, new Fragment(element, json));
+    return json;
+  }
+
+  private static int uniqueIndexOf(String json, String placeholder) {
+    int index = json.indexOf(placeholder);
+    if (index < 0 || json.indexOf(placeholder, index + 1) >= 0) {
+      return -1;
+    }
+    return index;
+  }
+
+  /**
+   * Identifies a cached fragment.
+   *
+   * @param type The type of the node or edge.
+   * @param sequenceId The sequence ID of the node or edge.
+   * @param released Whether the node or edge is released.
+   */
+  private record FragmentKey(Class<?> type, long sequenceId, boolean released) {
+  }
+
+  /**
+   * A cached fragment.
+   *
+   * @param element The node or edge the fragment was serialized from.
+   * @param json The JSON fragment.
+   */
+  private record Fragment(Object element, String json) {
+  }
+}
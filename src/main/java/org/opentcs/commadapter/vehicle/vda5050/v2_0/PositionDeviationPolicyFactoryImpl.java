@@ -5,33 +5,53 @@ package org.opentcs.commadapter.vehicle.vda5050.v2_0;
 import static java.util.Objects.requireNonNull;
 
 import jakarta.inject.Inject;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.annotation.Nonnull;
 import org.opentcs.components.kernel.PositionDeviationPolicy;
 import org.opentcs.components.kernel.PositionDeviationPolicyFactory;
+import org.opentcs.customizations.ApplicationEventBus;
+import org.opentcs.data.TCSObjectEvent;
 import org.opentcs.data.model.Vehicle;
+import org.opentcs.util.event.EventHandler;
+import org.opentcs.util.event.EventSource;
 
 /**
  * A factory for position deviation policies for VDA5050 2.0 vehicles.
  */
 public class PositionDeviationPolicyFactoryImpl
     implements
-      PositionDeviationPolicyFactory {
+      PositionDeviationPolicyFactory,
+      EventHandler {
 
   /**
    * Indicates whether a vehicle has all required properties to be handled by this comm adapter.
    */
   private final VehicleHasRequiredProperties hasRequiredProperties;
+  /**
+   * The profiles of the vehicles policies were created for, mapped by the vehicles' names.
+   * Keeping them allows the vehicles' parsed values to be reused by subsequent policies, as long
+   * as the vehicles' properties do not change. A vehicle's profile is discarded when the vehicle is
+   * removed (e.g. when a new plant model is loaded) or no longer has the required properties.
+   */
+  private final Map<String, VehicleProfile> vehicleProfiles = new ConcurrentHashMap<>();
 
   /**
    * Creates a new instance.
    *
    * @param hasRequiredProperties Indicates whether a vehicle has all required properties to be
    * handled by this comm adapter.
+   * @param eventSource The event source providing the kernel's object events.
    */
   @Inject
-  public PositionDeviationPolicyFactoryImpl(VehicleHasRequiredProperties hasRequiredProperties) {
+  public PositionDeviationPolicyFactoryImpl(
+      VehicleHasRequiredProperties hasRequiredProperties,
+      @ApplicationEventBus
+      EventSource eventSource
+  ) {
     this.hasRequiredProperties = requireNonNull(hasRequiredProperties, "hasRequiredProperties");
+    requireNonNull(eventSource, "eventSource").subscribe(this);
   }
 
   public Optional<PositionDeviationPolicy> createPolicyFor(
@@ -40,8 +60,33 @@ public class PositionDeviationPolicyFactoryImpl
   ) {
     requireNonNull(vehicle, "vehicle");
 
-    return Optional.of(vehicle)
-        .filter(hasRequiredProperties)
-        .map(PositionDeviationPolicyImpl::new);
+    if (!hasRequiredProperties.test(vehicle)) {
+      vehicleProfiles.remove(vehicle.getName());
+      return Optional.empty();
+    }
+
+    VehicleProfile vehicleProfile = vehicleProfiles.compute(
+        vehicle.getName(),
+        (name, profile) -> VehicleProfile.refresh(profile, vehicle)
+    );
+    return Optional.of(new PositionDeviationPolicyImpl(vehicleProfile));
+  }
+
+  @Override
+  public void onEvent(Object event) {
+    if (event instanceof TCSObjectEvent objectEvent
+        && objectEvent.getType() == TCSObjectEvent.Type.OBJECT_REMOVED
+        && objectEvent.getPreviousObjectState() instanceof Vehicle vehicle) {
+      vehicleProfiles.remove(vehicle.getName());
+    }
+  }
+
+  /**
+   * Returns the number of vehicle profiles kept.
+   *
+   * @return The number of vehicle profiles kept.
+   */
+  int getVehicleProfileCount() {
+    return vehicleProfiles.size();
   }
 }
@@ -0,0 +1,105 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.commadapter.vehicle.vda5050.v2_0;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import org.opentcs.commadapter.vehicle.vda5050.v2_0.message.state.ActionStatus;
+import org.opentcs.commadapter.vehicle.vda5050.v2_0.message.state.OperatingMode;
+import org.opentcs.commadapter.vehicle.vda5050.v2_0.message.state.State;
+
+/**
+ * The parts of a state message relevant for tracking the progress of orders and instant actions.
+ * <p>
+ * Two state messages with equal progress are interchangeable for {@link MessageResponseMatcher}
+ * and {@link MovementCommandManager}, so the older one may be skipped if the kernel lags behind.
+ * </p>
+ *
+ * @param orderId The ID of the vehicle's current order.
+ * @param orderUpdateId The update ID of the vehicle's current order.
+ * @param lastNodeId The ID of the last node the vehicle reached.
+ * @param lastNodeSequenceId The sequence ID of the last node the vehicle reached.
+ * @param nodes The nodes the vehicle still has to traverse.
+ * @param edges The edges the vehicle still has to traverse.
+ * @param actions The actions known to the vehicle, with their status.
+ * @param operatingMode The vehicle's operating mode.
+ * @param orderRejected Whether the vehicle indicates an order rejection.
+ */
+public record StateProgress(
+    @Nullable
+    String orderId,
+    @Nullable
+    Long orderUpdateId,
+    @Nullable
+    String lastNodeId,
+    @Nullable
+    Long lastNodeSequenceId,
+    @Nonnull
+    List<Element> nodes,
+    @Nonnull
+    List<Element> edges,
+    @Nonnull
+    List<ActionProgress> actions,
+    @Nullable
+    OperatingMode operatingMode,
+    boolean orderRejected
+) {
+
+  /**
+   * Extracts the progress from the given state message.
+   *
+   * @param state The state message.
+   * @return The progress.
+   */
+  @Nonnull
+  public static StateProgress of(
+      @Nonnull
+      State state
+  ) {
+    requireNonNull(state, "state");
+
+    return new StateProgress(
+        state.getOrderId(),
+        state.getOrderUpdateId(),
+        state.getLastNodeId(),
+        state.getLastNodeSequenceId(),
+        state.getNodeStates().stream()
+            .map(nodeState -> new Element(nodeState.getNodeId(), nodeState.getSequenceId()))
+            .toList(),
+        state.getEdgeStates().stream()
+            .map(edgeState -> new Element(edgeState.getEdgeId(), edgeState.getSequenceId()))
+            .toList(),
+        state.getActionStates().stream()
+            .map(
+                actionState -> new ActionProgress(
+                    actionState.getActionId(),
+                    actionState.getActionStatus()
+                )
+            )
+            .toList(),
+        state.getOperatingMode(),
+        StateMappings.vehicleRejectsOrder(state)
+    );
+  }
+
+  /**
+   * A node or edge of an order.
+   *
+   * @param id The node's or edge's ID.
+   * @param sequenceId The node's or edge's sequence ID.
+   */
+  public record Element(String id, Long sequenceId) {
+  }
+
+  /**
+   * The status of an action.
+   *
+   * @param actionId The action's ID.
+   * @param actionStatus The action's status.
+   */
+  public record ActionProgress(String actionId, ActionStatus actionStatus) {
+  }
+}
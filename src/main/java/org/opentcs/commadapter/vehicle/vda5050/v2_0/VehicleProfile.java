@@ -0,0 +1,242 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.commadapter.vehicle.vda5050.v2_0;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.commadapter.vehicle.vda5050.common.PropertyExtractions.getProperty;
+import static org.opentcs.commadapter.vehicle.vda5050.common.PropertyExtractions.getPropertyDouble;
+import static org.opentcs.commadapter.vehicle.vda5050.common.PropertyExtractions.getPropertyInteger;
+import static org.opentcs.commadapter.vehicle.vda5050.common.PropertyExtractions.getPropertyLong;
+import static org.opentcs.commadapter.vehicle.vda5050.v2_0.ObjectProperties.PROPKEY_POINT_DEVIATION_THETA;
+import static org.opentcs.commadapter.vehicle.vda5050.v2_0.ObjectProperties.PROPKEY_POINT_DEVIATION_XY;
+import static org.opentcs.commadapter.vehicle.vda5050.v2_0.ObjectProperties.PROPKEY_POINT_MAP_ID;
+import static org.opentcs.commadapter.vehicle.vda5050.v2_0.ObjectProperties.PROPKEY_VEHICLE_DEVIATION_THETA;
+import static org.opentcs.commadapter.vehicle.vda5050.v2_0.ObjectProperties.PROPKEY_VEHICLE_DEVIATION_XY;
+import static org.opentcs.commadapter.vehicle.vda5050.v2_0.ObjectProperties.PROPKEY_VEHICLE_EXTENDED_DEVIATION_RANGE_PADDING;
+import static org.opentcs.commadapter.vehicle.vda5050.v2_0.ObjectProperties.PROPKEY_VEHICLE_MAP_ID;
+import static org.opentcs.commadapter.vehicle.vda5050.v2_0.ObjectProperties.PROPKEY_VEHICLE_MAX_DISTANCE_HORIZON;
+import static org.opentcs.commadapter.vehicle.vda5050.v2_0.ObjectProperties.PROPKEY_VEHICLE_MAX_ORDER_SIZE;
+import static org.opentcs.commadapter.vehicle.vda5050.v2_0.ObjectProperties.PROPKEY_VEHICLE_MAX_STEPS_HORIZON;
+import static org.opentcs.commadapter.vehicle.vda5050.v2_0.ObjectProperties.PROPKEY_VEHICLE_MAX_TRAVEL_TIME_HORIZON;
+
+import java.util.Map;
+import java.util.Optional;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import org.opentcs.commadapter.vehicle.vda5050.v2_0.ordermapping.NodeMapping;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+
+/**
+ * The values of a vehicle's properties needed for mapping every single node and edge, parsed only
+ * once.
+ * <p>
+ * Some of the values can be overridden for single points. In that case, the point's property is
+ * looked up first, and the vehicle's value parsed before is used as the fallback only.
+ * </p>
+ * <p>
+ * Instances are immutable. As a vehicle's properties may be modified while the vehicle is
+ * attached, users are expected to {@link #refresh(VehicleProfile, Vehicle) refresh} a profile with
+ * the current state of the vehicle before using it.
+ * </p>
+ */
+public class VehicleProfile {
+
+  /**
+   * The vehicle properties the values were parsed from.
+   */
+  private final Map<String, String> properties;
+  /**
+   * The default map ID for nodes.
+   */
+  private final String mapId;
+  /**
+   * The default allowed deviation of the vehicle's position from a node (in m).
+   */
+  private final Double deviationXY;
+  /**
+   * The default allowed deviation of the vehicle's orientation on a node (in degrees).
+   */
+  private final Double deviationTheta;
+  /**
+   * The padding added to the extended deviation range (in m).
+   */
+  private final double extendedDeviationRangePadding;
+  /**
+   * The maximum number of steps in an order's horizon.
+   */
+  private final Integer maxStepsHorizon;
+  /**
+   * The maximum distance (in mm) covered by an order's horizon.
+   */
+  private final Long maxDistanceHorizon;
+  /**
+   * The maximum travel time (in ms) covered by an order's horizon.
+   */
+  private final Long maxTravelTimeHorizon;
+  /**
+   * The maximum size (in characters) of an order message up to which its horizon is filled.
+   */
+  private final Integer maxOrderSize;
+
+  private VehicleProfile(Vehicle vehicle) {
+    this.properties = vehicle.getProperties();
+    this.mapId = getProperty(PROPKEY_VEHICLE_MAP_ID, vehicle).orElse(null);
+    this.deviationXY = getPropertyDouble(PROPKEY_VEHICLE_DEVIATION_XY, vehicle).orElse(null);
+    this.deviationTheta = getPropertyDouble(PROPKEY_VEHICLE_DEVIATION_THETA, vehicle).orElse(null);
+    this.extendedDeviationRangePadding = getPropertyDouble(
+        PROPKEY_VEHICLE_EXTENDED_DEVIATION_RANGE_PADDING, vehicle
+    )
+        .map(padding -> Math.max(padding, 0.0))
+        .orElse(NodeMapping.EXTENDED_DEVIATION_RANGE_PADDING_DEFAULT);
+    this.maxStepsHorizon
+        = getPropertyInteger(PROPKEY_VEHICLE_MAX_STEPS_HORIZON, vehicle).orElse(null);
+    this.maxDistanceHorizon = getPropertyLong(PROPKEY_VEHICLE_MAX_DISTANCE_HORIZON, vehicle)
+        .filter(distance -> distance >= 0)
+        .orElse(null);
+    this.maxTravelTimeHorizon = getPropertyLong(PROPKEY_VEHICLE_MAX_TRAVEL_TIME_HORIZON, vehicle)
+        .filter(travelTime -> travelTime >= 0)
+        .orElse(null);
+    this.maxOrderSize = getPropertyInteger(PROPKEY_VEHICLE_MAX_ORDER_SIZE, vehicle)
+        .filter(size -> size >= 0)
+        .orElse(null);
+  }
+
+  /**
+   * Creates a profile for the given vehicle.
+   *
+   * @param vehicle The vehicle.
+   * @return The vehicle's profile.
+   */
+  @Nonnull
+  public static VehicleProfile of(
+      @Nonnull
+      Vehicle vehicle
+  ) {
+    requireNonNull(vehicle, "vehicle");
+
+    return new VehicleProfile(vehicle);
+  }
+
+  /**
+   * Returns a profile that is up to date with the given vehicle's properties.
+   *
+   * @param profile The profile created for the vehicle before, or {@code null}.
+   * @param vehicle The current state of the vehicle.
+   * @return The given profile, if it was created from the same properties the vehicle currently
+   * has, or a new profile for the vehicle, otherwise.
+   */
+  @Nonnull
+  public static VehicleProfile refresh(
+      @Nullable
+      VehicleProfile profile,
+      @Nonnull
+      Vehicle vehicle
+  ) {
+    requireNonNull(vehicle, "vehicle");
+
+    if (profile != null && profile.properties.equals(vehicle.getProperties())) {
+      return profile;
+    }
+    return new VehicleProfile(vehicle);
+  }
+
+  /**
+   * Returns the map ID for the given point.
+   *
+   * @param point The point.
+   * @return The map ID set for the point, or the vehicle's default map ID, if any.
+   */
+  public Optional<String> getMapId(
+      @Nonnull
+      Point point
+  ) {
+    return pointProperty(PROPKEY_POINT_MAP_ID, point)
+        .or(() -> Optional.ofNullable(mapId));
+  }
+
+  /**
+   * Returns the allowed deviation of the vehicle's position from the given point.
+   *
+   * @param point The point.
+   * @return The allowed deviation set for the point, or the vehicle's default, if any (in m).
+   */
+  public Optional<Double> getDeviationXY(
+      @Nonnull
+      Point point
+  ) {
+    return pointPropertyDouble(PROPKEY_POINT_DEVIATION_XY, point)
+        .or(() -> Optional.ofNullable(deviationXY));
+  }
+
+  /**
+   * Returns the allowed deviation of the vehicle's orientation on the given point.
+   *
+   * @param point The point.
+   * @return The allowed deviation set for the point, or the vehicle's default, if any (in
+   * degrees).
+   */
+  public Optional<Double> getDeviationTheta(
+      @Nonnull
+      Point point
+  ) {
+    return pointPropertyDouble(PROPKEY_POINT_DEVIATION_THETA, point)
+        .or(() -> Optional.ofNullable(deviationTheta));
+  }
+
+  /**
+   * Returns the padding added to the extended deviation range.
+   *
+   * @return The padding (in m).
+   */
+  public double getExtendedDeviationRangePadding() {
+    return extendedDeviationRangePadding;
+  }
+
+  /**
+   * Returns the maximum number of steps in an order's horizon.
+   *
+   * @return The maximum number of steps, if set.
+   */
+  public Optional<Integer> getMaxStepsHorizon() {
+    return Optional.ofNullable(maxStepsHorizon);
+  }
+
+  /**
+   * Returns the maximum distance covered by an order's horizon.
+   *
+   * @return The maximum distance (in mm), if set.
+   */
+  public Optional<Long> getMaxDistanceHorizon() {
+    return Optional.ofNullable(maxDistanceHorizon);
+  }
+
+  /**
+   * Returns the maximum travel time covered by an order's horizon.
+   *
+   * @return The maximum travel time (in ms), if set.
+   */
+  public Optional<Long> getMaxTravelTimeHorizon() {
+    return Optional.ofNullable(maxTravelTimeHorizon);
+  }
+
+  /**
+   * Returns the maximum size of an order message up to which its horizon is filled.
+   *
+   * @return The maximum size (in characters), if set.
+   */
+  public Optional<Integer> getMaxOrderSize() {
+    return Optional.ofNullable(maxOrderSize);
+  }
+
+  private static Optional<String> pointProperty(String key, Point point) {
+    return Optional.ofNullable(point.getProperty(key));
+  }
+
+  private static Optional<Double> pointPropertyDouble(String key, Point point) {
+    // Most points do not override the vehicle's values, so avoid parsing unless necessary.
+    return point.getProperty(key) == null
+        ? Optional.empty()
+        : getPropertyDouble(key, point);
+  }
+}
@@ -54,7 +54,7 @@ public class StateMessageDialog
 
   private void initGuiContent() {
     try {
-      textAreaState.setText(jsonBinder.toJson(state));
+      textAreaState.setText(jsonBinder.toPrettyJson(state));
     }
     catch (IllegalArgumentException e) {
       LOG.error("An error occurred while serializing the state message.", e);
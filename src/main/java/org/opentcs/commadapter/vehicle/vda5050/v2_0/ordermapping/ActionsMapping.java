@@ -199,25 +199,18 @@ public class ActionsMapping {
       @Nonnull
       Map<String, String> properties
   ) {
-    String patternStr = Optional.ofNullable(actionType)
-        .map(at -> PROPKEY_CUSTOM_DEST_ACTION_PREFIX + "\\." + at + "\\.parameter\\.(.+)")
-        .orElse(PROPKEY_CUSTOM_DEST_ACTION_PREFIX + "\\.parameter\\.(.+)");
-
-    Pattern pattern = Pattern.compile(patternStr);
-    return properties.entrySet().stream()
-        .map((entry) -> {
-          return new Object() {
-            private Map.Entry<String, String> property = entry;
-            private Matcher matcher = pattern.matcher(entry.getKey());
-          };
-        })
-        .filter(element -> element.matcher.matches())
-        .collect(
-            Collectors.toMap(
-                element -> element.matcher.group(1),
-                element -> element.property.getValue()
-            )
-        );
+    String keyPrefix = Optional.ofNullable(actionType)
+        .map(at -> PROPKEY_CUSTOM_DEST_ACTION_PREFIX + "." + at + ".parameter.")
+        .orElse(PROPKEY_CUSTOM_DEST_ACTION_PREFIX + ".parameter.");
+
+    Map<String, String> result = new HashMap<>();
+    for (Map.Entry<String, String> property : properties.entrySet()) {
+      String parameterKey = extractParameterKey(keyPrefix, property.getKey());
+      if (parameterKey != null) {
+        result.put(parameterKey, property.getValue());
+      }
+    }
+    return result;
   }
 
   private static Optional<BlockingType> extractDestBlockingType(
@@ -263,25 +256,32 @@ public class ActionsMapping {
       String actionIndex,
       Map<String, String> properties
   ) {
-    Pattern pattern = Pattern.compile(
-        PROPKEY_CUSTOM_ACTION_PREFIX + "\\." + actionIndex + "\\.parameter\\.(.+)"
-    );
-    // Iterate over all property keys matching the pattern.
-    return properties.entrySet().stream()
-        .map((entry) -> {
-          return new Object() {
-            private Map.Entry<String, String> property = entry;
-            private Matcher matcher = pattern.matcher(entry.getKey());
-          };
-        })
-        .filter(element -> element.matcher.matches())
-        .map(
-            element -> new ActionParameter(
-                element.matcher.group(1),
-                parseParameter(element.property.getValue())
-            )
-        )
-        .collect(Collectors.toList());
+    String keyPrefix = PROPKEY_CUSTOM_ACTION_PREFIX + "." + actionIndex + ".parameter.";
+
+    List<ActionParameter> result = new ArrayList<>();
+    for (Map.Entry<String, String> property : properties.entrySet()) {
+      String parameterKey = extractParameterKey(keyPrefix, property.getKey());
+      if (parameterKey != null) {
+        result.add(new ActionParameter(parameterKey, parseParameter(property.getValue())));
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Extracts the parameter key from the given property key.
+   *
+   * @param keyPrefix The prefix of the property keys of the parameters.
+   * @param propertyKey The property key.
+   * @return The parameter key, i.e. the (non-empty) rest of the property key following the
+   * prefix, or {@code null}, if the property key does not start with the prefix.
+   */
+  @Nullable
+  private static String extractParameterKey(String keyPrefix, String propertyKey) {
+    if (!propertyKey.startsWith(keyPrefix) || propertyKey.length() == keyPrefix.length()) {
+      return null;
+    }
+    return propertyKey.substring(keyPrefix.length());
   }
 
   @Nullable
@@ -64,6 +64,32 @@ public class EdgeMapping {
     return edge;
   }
 
+  /**
+   * Creates a base edge from the given horizon edge.
+   * The edge has the release flag set to true. Its actions are shared with the given edge.
+   *
+   * @param horizonEdge The horizon edge, as mapped by {@link #toHorizonEdge(Route.Step, List)}.
+   * @return The base edge.
+   */
+  public static Edge toBaseEdge(Edge horizonEdge) {
+    requireNonNull(horizonEdge, "horizonEdge");
+
+    Edge edge = new Edge(
+        horizonEdge.getEdgeId(),
+        horizonEdge.getSequenceId(),
+        true,
+        horizonEdge.getStartNodeId(),
+        horizonEdge.getEndNodeId(),
+        horizonEdge.getActions()
+    );
+
+    edge.setMaxSpeed(horizonEdge.getMaxSpeed());
+    edge.setOrientation(horizonEdge.getOrientation());
+    edge.setRotationAllowed(horizonEdge.getRotationAllowed());
+
+    return edge;
+  }
+
   /**
    * Maps a route step to a horizon edge.
    * The edge has the release flag set to false.
@@ -5,18 +5,14 @@ package org.opentcs.commadapter.vehicle.vda5050.v2_0.ordermapping;
 import static java.lang.Math.toRadians;
 import static java.util.Objects.requireNonNull;
 import static org.opentcs.commadapter.vehicle.vda5050.common.AngleMath.toRelativeConvexAngle;
-import static org.opentcs.commadapter.vehicle.vda5050.common.PropertyExtractions.getProperty;
-import static org.opentcs.commadapter.vehicle.vda5050.common.PropertyExtractions.getPropertyDouble;
-import static org.opentcs.commadapter.vehicle.vda5050.v2_0.ObjectProperties.PROPKEY_VEHICLE_DEVIATION_THETA;
-import static org.opentcs.commadapter.vehicle.vda5050.v2_0.ObjectProperties.PROPKEY_VEHICLE_DEVIATION_XY;
-import static org.opentcs.commadapter.vehicle.vda5050.v2_0.ObjectProperties.PROPKEY_VEHICLE_EXTENDED_DEVIATION_RANGE_PADDING;
-import static org.opentcs.commadapter.vehicle.vda5050.v2_0.ObjectProperties.PROPKEY_VEHICLE_MAP_ID;
+import static org.opentcs.util.Assertions.checkArgument;
 
 import jakarta.inject.Inject;
 import java.util.List;
 import java.util.Optional;
 import javax.annotation.Nonnull;
-import org.opentcs.commadapter.vehicle.vda5050.common.PropertyExtractions;
+import javax.annotation.Nullable;
+import org.opentcs.commadapter.vehicle.vda5050.v2_0.VehicleProfile;
 import org.opentcs.commadapter.vehicle.vda5050.v2_0.message.common.Action;
 import org.opentcs.commadapter.vehicle.vda5050.v2_0.message.common.NodePosition;
 import org.opentcs.commadapter.vehicle.vda5050.v2_0.message.order.Node;
@@ -47,6 +43,7 @@ public class NodeMapping {
    * @param point The point to map.
    * @param sequenceId The sequence ID for the node to be created.
    * @param vehicle The vehicle to map the point for.
+   * @param vehicleProfile The profile of the vehicle to map the point for.
    * @param actions The actions for this node.
    * @param extendDeviationToIncludeVehicle Whether the node's deviation should be extended to
    * include the vehicle's position.
@@ -56,11 +53,13 @@ public class NodeMapping {
       Point point,
       long sequenceId,
       Vehicle vehicle,
+      VehicleProfile vehicleProfile,
       List<Action> actions,
       boolean extendDeviationToIncludeVehicle
   ) {
     requireNonNull(point, "point");
     requireNonNull(vehicle, "vehicle");
+    requireNonNull(vehicleProfile, "vehicleProfile");
     requireNonNull(actions, "actions");
 
     Node node = new Node(
@@ -69,7 +68,9 @@ public class NodeMapping {
         true,
         actions
     );
-    node.setNodePosition(toNodePosition(point, vehicle, extendDeviationToIncludeVehicle));
+    node.setNodePosition(
+        toNodePosition(point, vehicle, vehicleProfile, extendDeviationToIncludeVehicle)
+    );
     return node;
   }
 
@@ -79,19 +80,18 @@ public class NodeMapping {
    *
    * @param point The point to map.
    * @param sequenceId The sequence ID for the node to be created.
-   * @param vehicle The vehicle to map the point for.
+   * @param vehicleProfile The profile of the vehicle to map the point for.
    * @param actions The actions for this node.
-   * include the vehicle's position.
    * @return A mapped Node.
    */
   public Node toHorizonNode(
       Point point,
       long sequenceId,
-      Vehicle vehicle,
+      VehicleProfile vehicleProfile,
       List<Action> actions
   ) {
     requireNonNull(point, "point");
-    requireNonNull(vehicle, "vehicle");
+    requireNonNull(vehicleProfile, "vehicleProfile");
 
     Node node = new Node(
         point.getName(),
@@ -99,7 +99,7 @@ public class NodeMapping {
         false,
         actions
     );
-    node.setNodePosition(toNodePosition(point, vehicle, false));
+    node.setNodePosition(toNodePosition(point, null, vehicleProfile, false));
     return node;
   }
 
@@ -120,13 +120,48 @@ public class NodeMapping {
       Vehicle vehicle,
       boolean extendDeviationToIncludeVehicle
   ) {
-    requireNonNull(point, "point");
     requireNonNull(vehicle, "vehicle");
 
+    return toNodePosition(
+        point,
+        vehicle,
+        VehicleProfile.of(vehicle),
+        extendDeviationToIncludeVehicle
+    );
+  }
+
+  /**
+   * Maps the given point to a node position, filled with data taken from both the point and the
+   * vehicle's profile.
+   *
+   * @param point The point.
+   * @param vehicle The vehicle. May be {@code null} only if the node's deviation is not to be
+   * extended.
+   * @param vehicleProfile The vehicle's profile.
+   * @param extendDeviationToIncludeVehicle Whether the node's deviation should be extended to
+   * include the vehicle's position.
+   * @return A node position.
+   */
+  public NodePosition toNodePosition(
+      @Nonnull
+      Point point,
+      @Nullable
+      Vehicle vehicle,
+      @Nonnull
+      VehicleProfile vehicleProfile,
+      boolean extendDeviationToIncludeVehicle
+  ) {
+    requireNonNull(point, "point");
+    requireNonNull(vehicleProfile, "vehicleProfile");
+    checkArgument(
+        vehicle != null || !extendDeviationToIncludeVehicle,
+        "vehicle required for extending the deviation"
+    );
+
     NodePosition position = new NodePosition(
         point.getPose().getPosition().getX() / 1000.0,
         point.getPose().getPosition().getY() / 1000.0,
-        getProperty(PROPKEY_VEHICLE_MAP_ID, point, vehicle).orElse("")
+        vehicleProfile.getMapId(point).orElse("")
     );
 
     if (!Double.isNaN(point.getPose().getOrientationAngle())) {
@@ -137,30 +172,34 @@ public class NodeMapping {
 
     position.setAllowedDeviationXY(
         extendDeviationToIncludeVehicle
-            ? extendedDeviationXY(point, vehicle)
-            : regularDeviationXY(point, vehicle).orElse(null)
+            ? extendedDeviationXY(point, vehicle, vehicleProfile)
+            : regularDeviationXY(point, vehicleProfile).orElse(null)
     );
 
     position.setAllowedDeviationTheta(
         extendDeviationToIncludeVehicle
             ? extendedDeviationTheta()
-            : regularDeviationTheta(point, vehicle).orElse(null)
+            : regularDeviationTheta(point, vehicleProfile).orElse(null)
     );
 
     return position;
   }
 
-  private Optional<Double> regularDeviationXY(Point point, Vehicle vehicle) {
-    return getPropertyDouble(PROPKEY_VEHICLE_DEVIATION_XY, point, vehicle);
+  private Optional<Double> regularDeviationXY(Point point, VehicleProfile vehicleProfile) {
+    return vehicleProfile.getDeviationXY(point);
   }
 
-  private Optional<Double> regularDeviationTheta(Point point, Vehicle vehicle) {
+  private Optional<Double> regularDeviationTheta(Point point, VehicleProfile vehicleProfile) {
     // XXX Ensure the angle is (positive and) within 0 and 180 degrees.
-    return getPropertyDouble(PROPKEY_VEHICLE_DEVIATION_THETA, point, vehicle)
+    return vehicleProfile.getDeviationTheta(point)
         .map(value -> toRadians(value));
   }
 
-  private Double extendedDeviationXY(Point point, Vehicle vehicle) {
+  private Double extendedDeviationXY(
+      Point point,
+      Vehicle vehicle,
+      VehicleProfile vehicleProfile
+  ) {
     if (vehicle.getPose().getPosition() == null) {
       return 0.0;
     }
@@ -171,15 +210,10 @@ public class NodeMapping {
     double deltaY
         = (vehicle.getPose().getPosition().getY() - point.getPose().getPosition().getY()) / 1000.0;
 
-    double padding = PropertyExtractions.getPropertyDouble(
-        PROPKEY_VEHICLE_EXTENDED_DEVIATION_RANGE_PADDING, vehicle
-    )
-        .map(p -> Math.max(p, 0.0))
-        .orElse(EXTENDED_DEVIATION_RANGE_PADDING_DEFAULT);
-
     return Math.max(
-        Math.sqrt(deltaX * deltaX + deltaY * deltaY) + padding,
-        regularDeviationXY(point, vehicle).orElse(0.0)
+        Math.sqrt(deltaX * deltaX + deltaY * deltaY)
+            + vehicleProfile.getExtendedDeviationRangePadding(),
+        regularDeviationXY(point, vehicleProfile).orElse(0.0)
     );
   }
 
@@ -203,7 +203,7 @@ public class VehicleSimulator
     if (message.getTopic().endsWith("/instantActions")) {
       try {
         InstantActions instantAction = jsonBinder.fromJson(
-            message.getMessage(),
+            message.getPayload(),
             InstantActions.class
         );
         instantAction.getActions().forEach(action -> newInstantAction(action));
@@ -214,7 +214,7 @@ public class VehicleSimulator
     }
     if (message.getTopic().endsWith("/order")) {
       try {
-        Order order = jsonBinder.fromJson(message.getMessage(), Order.class);
+        Order order = jsonBinder.fromJson(message.getPayload(), Order.class);
         onOrder(order);
       }
       catch (IllegalArgumentException ex) {
@@ -0,0 +1,84 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.commadapter.vehicle.vda5050.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ChangeDrivenUpdates}.
+ */
+class ChangeDrivenUpdatesTest {
+
+  private ChangeDrivenUpdates updates;
+  private List<String> applied;
+  private int computations;
+
+  @BeforeEach
+  void setUp() {
+    updates = new ChangeDrivenUpdates();
+    applied = new ArrayList<>();
+    computations = 0;
+  }
+
+  @Test
+  void applyChangedValue() {
+    updates.update("old", "new", applied::add);
+
+    assertThat(applied).containsExactly("new");
+    assertThat(updates.getSuppressedUpdatesCount()).isZero();
+  }
+
+  @Test
+  void suppressUnchangedValue() {
+    updates.update("same", "same", applied::add);
+
+    assertThat(applied).isEmpty();
+    assertThat(updates.getSuppressedUpdatesCount()).isEqualTo(1);
+  }
+
+  @Test
+  void alwaysApplyFirstValueForKey() {
+    updates.update("key", null, () -> compute("value"), applied::add);
+
+    assertThat(applied).containsExactly("value");
+  }
+
+  @Test
+  void computeValueOnlyIfDigestChanged() {
+    updates.update("key", List.of(1), () -> compute("first"), applied::add);
+    updates.update("key", List.of(1), () -> compute("second"), applied::add);
+    updates.update("key", List.of(2), () -> compute("third"), applied::add);
+
+    assertThat(applied).containsExactly("first", "third");
+    assertThat(computations).isEqualTo(2);
+    assertThat(updates.getSuppressedUpdatesCount()).isEqualTo(1);
+  }
+
+  @Test
+  void trackDigestsPerKey() {
+    updates.update("key1", 1, () -> compute("a"), applied::add);
+    updates.update("key2", 1, () -> compute("b"), applied::add);
+
+    assertThat(applied).containsExactly("a", "b");
+  }
+
+  @Test
+  void applyValueAgainAfterReset() {
+    updates.update("key", 1, () -> compute("first"), applied::add);
+
+    updates.reset();
+    updates.update("key", 1, () -> compute("second"), applied::add);
+
+    assertThat(applied).containsExactly("first", "second");
+  }
+
+  private String compute(String value) {
+    computations++;
+    return value;
+  }
+}
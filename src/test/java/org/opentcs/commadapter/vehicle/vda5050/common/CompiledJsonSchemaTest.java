@@ -0,0 +1,272 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.commadapter.vehicle.vda5050.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.IntNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.everit.json.schema.Schema;
+import org.everit.json.schema.ValidationException;
+import org.everit.json.schema.loader.SchemaLoader;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Unit tests for {@link CompiledJsonSchema}.
+ * <p>
+ * Besides testing the compiled schemas directly, the validation results are compared with the ones
+ * of the everit JSON schema library previously in use, for the VDA5050 schemas and the sample
+ * messages used by other tests, as well as for variants of these samples with single values
+ * replaced, properties removed or unknown properties added.
+ * </p>
+ */
+class CompiledJsonSchemaTest {
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+  /**
+   * The directories containing sample messages, i.e. the approved JSON samples of the message
+   * tests and the JSON files in the test resources.
+   */
+  private static final List<Path> SAMPLE_DIRS = List.of(
+      Path.of("src/test/java/org/opentcs/commadapter/vehicle/vda5050"),
+      Path.of("src/test/resources/org/opentcs/commadapter/vehicle/vda5050")
+  );
+  /**
+   * The names of the schema files, mapped by the (lower case) prefixes of the sample file names.
+   */
+  private static final Map<String, String> SCHEMA_FILES_BY_SAMPLE_PREFIX = Map.of(
+      "connection", "connection.schema.json",
+      "instantactions", "instantActions.schema.json",
+      "order", "order.schema.json",
+      "state", "state.schema.json",
+      "visualization", "visualization.schema.json"
+  );
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+          "$ref", "pattern", "format", "minItems", "oneOf", "anyOf", "allOf", "const",
+          "exclusiveMinimum"
+      }
+  )
+  void rejectSchemaWithUnsupportedKeyword(String keyword) {
+    JsonNode schema = readTree(
+        "{\"type\": \"object\", \"properties\": {\"p\": {\"" + keyword + "\": {}}}}"
+    );
+
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> CompiledJsonSchema.compile(schema))
+        .withMessageContaining(keyword);
+  }
+
+  @Test
+  void rejectSchemaWithTupleValidation() {
+    JsonNode schema = readTree("{\"type\": \"array\", \"items\": [{\"type\": \"string\"}]}");
+
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> CompiledJsonSchema.compile(schema));
+  }
+
+  @Test
+  void ignoreAnnotationsAndUnknownKeywords() {
+    JsonNode schema = readTree(
+        "{\"title\": \"t\", \"examples\": [1], \"unit\": \"m\", \"type\": \"integer\"}"
+    );
+
+    assertThatCode(() -> CompiledJsonSchema.compile(schema)).doesNotThrowAnyException();
+  }
+
+  @Test
+  void compileAllVda5050Schemas() {
+    for (String version : List.of("v1_1", "v2_0")) {
+      for (Path schemaFile : listFiles(schemaDir(version), ".schema.json")) {
+        assertThatCode(() -> CompiledJsonSchema.compile(readTree(schemaFile)))
+            .as("Compiling %s", schemaFile)
+            .doesNotThrowAnyException();
+      }
+    }
+  }
+
+  @Test
+  void validateSampleMessagesLikeEverit() {
+    List<String> mismatches = new ArrayList<>();
+    int sampleCount = 0;
+
+    for (Path sampleDir : SAMPLE_DIRS) {
+      for (String version : List.of("v1_1", "v2_0")) {
+        Path messageDir = sampleDir.resolve(version).resolve("message");
+        List<Path> sampleFiles = new ArrayList<>(listFiles(messageDir, ".json"));
+        sampleFiles.addAll(listFiles(messageDir, ".approved.txt"));
+
+        for (Path sampleFile : sampleFiles) {
+          Path schemaFile = schemaFileFor(version, sampleFile);
+          if (schemaFile == null) {
+            continue;
+          }
+
+          JsonNode schemaNode = readTree(schemaFile);
+          CompiledJsonSchema compiledSchema = CompiledJsonSchema.compile(schemaNode);
+          Schema everitSchema = SchemaLoader.load(new JSONObject(schemaNode.toString()));
+
+          for (JsonNode variant : createVariants(readTree(sampleFile))) {
+            boolean expected = isValid(everitSchema, variant);
+            if (compiledSchema.isValid(variant) != expected) {
+              mismatches.add(sampleFile + " (expected valid: " + expected + "): " + variant);
+            }
+          }
+          sampleCount++;
+        }
+      }
+    }
+
+    assertThat(sampleCount).isPositive();
+    assertThat(mismatches).isEmpty();
+  }
+
+  private static boolean isValid(Schema everitSchema, JsonNode node) {
+    try {
+      everitSchema.validate(new JSONObject(node.toString()));
+      return true;
+    }
+    catch (ValidationException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Creates variants of the given sample, each with a single modification: a value replaced by
+   * {@code null} or by a value of another type, a property removed or an unknown property added.
+   *
+   * @param sample The sample.
+   * @return The variants, including the unmodified sample.
+   */
+  private static List<JsonNode> createVariants(JsonNode sample) {
+    List<JsonNode> variants = new ArrayList<>();
+    variants.add(sample);
+
+    List<JsonPointer> pointers = new ArrayList<>();
+    collectPointers(sample, JsonPointer.empty(), pointers);
+    for (JsonPointer pointer : pointers) {
+      JsonNode node = sample.at(pointer);
+      if (node.isValueNode()) {
+        variants.add(withReplacedNode(sample, pointer, NullNode.getInstance()));
+        variants.add(
+            withReplacedNode(
+                sample,
+                pointer,
+                node.isTextual() ? IntNode.valueOf(1) : TextNode.valueOf("x")
+            )
+        );
+      }
+      else if (node.isObject()) {
+        JsonNode variant = sample.deepCopy();
+        ((ObjectNode) variant.at(pointer)).put("unknownProperty", true);
+        variants.add(variant);
+
+        for (Map.Entry<String, JsonNode> field : node.properties()) {
+          variant = sample.deepCopy();
+          ((ObjectNode) variant.at(pointer)).remove(field.getKey());
+          variants.add(variant);
+        }
+      }
+    }
+    return variants;
+  }
+
+  private static void collectPointers(
+      JsonNode node,
+      JsonPointer pointer,
+      List<JsonPointer> result
+  ) {
+    result.add(pointer);
+    if (node.isObject()) {
+      for (Map.Entry<String, JsonNode> field : node.properties()) {
+        collectPointers(field.getValue(), pointer.appendProperty(field.getKey()), result);
+      }
+    }
+    else if (node.isArray()) {
+      for (int i = 0; i < node.size(); i++) {
+        collectPointers(node.get(i), pointer.appendIndex(i), result);
+      }
+    }
+  }
+
+  private static JsonNode withReplacedNode(JsonNode root, JsonPointer pointer, JsonNode value) {
+    JsonNode copy = root.deepCopy();
+    JsonNode parent = copy.at(pointer.head());
+    if (parent.isObject()) {
+      ((ObjectNode) parent).set(pointer.last().getMatchingProperty(), value);
+    }
+    else {
+      ((ArrayNode) parent).set(pointer.last().getMatchingIndex(), value);
+    }
+    return copy;
+  }
+
+  private static Path schemaFileFor(String version, Path sampleFile) {
+    String fileName = sampleFile.getFileName().toString().toLowerCase();
+    return SCHEMA_FILES_BY_SAMPLE_PREFIX.entrySet().stream()
+        .filter(entry -> fileName.startsWith(entry.getKey()))
+        .map(entry -> schemaDir(version).resolve(entry.getValue()))
+        .findFirst()
+        .orElse(null);
+  }
+
+  private static Path schemaDir(String version) {
+    return Path.of(
+        "src/main/resources/org/opentcs/commadapter/vehicle/vda5050",
+        version,
+        "schemas"
+    );
+  }
+
+  private static List<Path> listFiles(Path dir, String suffix) {
+    try (Stream<Path> files = Files.walk(dir)) {
+      return files
+          .filter(file -> file.getFileName().toString().endsWith(suffix))
+          .sorted()
+          .toList();
+    }
+    catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static JsonNode readTree(Path file) {
+    try (InputStream input = Files.newInputStream(file)) {
+      return OBJECT_MAPPER.readTree(input);
+    }
+    catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static JsonNode readTree(String json) {
+    try {
+      return OBJECT_MAPPER.readTree(json);
+    }
+    catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
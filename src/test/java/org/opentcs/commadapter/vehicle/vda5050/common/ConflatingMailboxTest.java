@@ -0,0 +1,133 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.commadapter.vehicle.vda5050.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ConflatingMailbox}.
+ */
+class ConflatingMailboxTest {
+
+  private Queue<Runnable> submittedTasks;
+  private List<Message> passedOn;
+  private ConflatingMailbox<Message> mailbox;
+
+  @BeforeEach
+  void setUp() {
+    submittedTasks = new ArrayDeque<>();
+    passedOn = new ArrayList<>();
+    mailbox = new ConflatingMailbox<>(Message::progress, submittedTasks::add, passedOn::add);
+  }
+
+  @Test
+  void passOnSingleMessage() {
+    Message message = new Message(1, "a");
+
+    mailbox.offer(message);
+    runSubmittedTasks();
+
+    assertThat(passedOn).containsExactly(message);
+  }
+
+  @Test
+  void submitOnlyOneTaskForMessagesWaiting() {
+    mailbox.offer(new Message(1, "a"));
+    mailbox.offer(new Message(2, "b"));
+    mailbox.offer(new Message(3, "c"));
+
+    assertThat(submittedTasks).hasSize(1);
+  }
+
+  @Test
+  void conflateMessagesWithoutProgress() {
+    Message newest = new Message(3, "a");
+    mailbox.offer(new Message(1, "a"));
+    mailbox.offer(new Message(2, "a"));
+    mailbox.offer(newest);
+
+    runSubmittedTasks();
+
+    assertThat(passedOn).containsExactly(newest);
+    assertThat(mailbox.getConflatedCount()).isEqualTo(2);
+  }
+
+  @Test
+  void keepEveryProgressStep() {
+    mailbox.offer(new Message(1, "a"));
+    mailbox.offer(new Message(2, "a"));
+    mailbox.offer(new Message(3, "b"));
+    mailbox.offer(new Message(4, "b"));
+    mailbox.offer(new Message(5, "a"));
+
+    runSubmittedTasks();
+
+    assertThat(passedOn)
+        .extracting(Message::sequence)
+        .containsExactly(2, 4, 5);
+  }
+
+  @Test
+  void doNotConflateWithMessageAlreadyPassedOn() {
+    Message first = new Message(1, "a");
+    Message second = new Message(2, "a");
+    mailbox.offer(first);
+    runSubmittedTasks();
+
+    mailbox.offer(second);
+    runSubmittedTasks();
+
+    assertThat(passedOn).containsExactly(first, second);
+  }
+
+  @Test
+  void passOnMessagesOfferedWhileDraining() {
+    List<Message> consumed = new ArrayList<>();
+    mailbox = new ConflatingMailbox<>(Message::progress, submittedTasks::add, message -> {
+      consumed.add(message);
+      if (message.sequence() == 1) {
+        mailbox.offer(new Message(2, "b"));
+      }
+    });
+
+    mailbox.offer(new Message(1, "a"));
+    runSubmittedTasks();
+
+    assertThat(consumed).extracting(Message::sequence).containsExactly(1, 2);
+    assertThat(submittedTasks).isEmpty();
+  }
+
+  @Test
+  void discardMessagesOnClear() {
+    mailbox.offer(new Message(1, "a"));
+    mailbox.offer(new Message(2, "b"));
+
+    mailbox.clear();
+    runSubmittedTasks();
+
+    assertThat(passedOn).isEmpty();
+
+    Message message = new Message(3, "c");
+    mailbox.offer(message);
+    runSubmittedTasks();
+
+    assertThat(passedOn).containsExactly(message);
+  }
+
+  private void runSubmittedTasks() {
+    Runnable task;
+    while ((task = submittedTasks.poll()) != null) {
+      task.run();
+    }
+  }
+
+  private record Message(int sequence, String progress) {
+  }
+}
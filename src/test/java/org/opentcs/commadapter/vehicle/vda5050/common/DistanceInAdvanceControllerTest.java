@@ -19,17 +19,22 @@ import org.opentcs.drivers.vehicle.MovementCommand;
 
 class DistanceInAdvanceControllerTest {
 
+  private Vehicle vehicle;
+
   private DistanceInAdvanceController controller;
 
   @BeforeEach
   public void setUp() {
-    controller = new DistanceInAdvanceController(5000L);
+    vehicle = new Vehicle("vehicle")
+        .withMaxVelocity(1000)
+        .withMaxReverseVelocity(500);
+    controller = new DistanceInAdvanceController(5000L, Long.MAX_VALUE, vehicle);
   }
 
   @Test
   public void shouldAcceptCommandsWhileLessThanMaxDistanceInAdvance() {
     assertTrue(
-        controller.canAcceptNextCommand(
+        canAcceptAfterEnqueuing(
             List.of(
                 createCommandWithLength(2000),
                 createCommandWithLength(1000)
@@ -41,25 +46,126 @@ class DistanceInAdvanceControllerTest {
   @Test
   public void shouldNotAcceptCommandsWhileGreaterThanMaxDistanceInAdvance() {
     assertFalse(
-        controller.canAcceptNextCommand(
+        canAcceptAfterEnqueuing(
+            List.of(
+                createCommandWithLength(4000),
+                createCommandWithLength(2000)
+            )
+        )
+    );
+  }
+
+  @Test
+  public void shouldAcceptCommandsAgainAfterExecution() {
+    MovementCommand command1 = createCommandWithLength(4000);
+    MovementCommand command2 = createCommandWithLength(2000);
+    assertFalse(canAcceptAfterEnqueuing(List.of(command1, command2)));
+
+    controller.onCommandExecuted(command1);
+
+    assertTrue(controller.canAcceptNextCommand(List.of(), List.of(command2)));
+  }
+
+  @Test
+  public void shouldAcceptCommandsAgainAfterClearing() {
+    assertFalse(
+        canAcceptAfterEnqueuing(
             List.of(
                 createCommandWithLength(4000),
                 createCommandWithLength(2000)
             )
         )
     );
+
+    controller.clear();
+
+    assertTrue(controller.canAcceptNextCommand(List.of(), List.of()));
+  }
+
+  @Test
+  public void shouldRecomputeTotalsIfCommandsWereRemovedWithoutNotification() {
+    MovementCommand command1 = createCommandWithLength(4000);
+    MovementCommand command2 = createCommandWithLength(2000);
+    assertFalse(canAcceptAfterEnqueuing(List.of(command1, command2)));
+
+    assertTrue(controller.canAcceptNextCommand(List.of(), List.of(command1)));
+  }
+
+  @Test
+  public void shouldNotAcceptCommandsWhileGreaterThanMaxTravelTimeInAdvance() {
+    controller = new DistanceInAdvanceController(Long.MAX_VALUE, 5000L, vehicle);
+
+    // 3000 mm at 1000 mm/s take 3 s, 1000 mm at 250 mm/s take 4 s.
+    assertFalse(
+        canAcceptAfterEnqueuing(
+            List.of(
+                createCommandWithLength(3000),
+                createCommandWithLength(1000, 250, Vehicle.Orientation.FORWARD)
+            )
+        )
+    );
+  }
+
+  @Test
+  public void shouldLimitVelocityOfPathToVelocityOfVehicle() {
+    controller = new DistanceInAdvanceController(Long.MAX_VALUE, 5000L, vehicle);
+
+    // 4000 mm at 1000 mm/s take 4 s, as the path's velocity is limited by the vehicle's.
+    assertTrue(
+        canAcceptAfterEnqueuing(
+            List.of(createCommandWithLength(4000, 2000, Vehicle.Orientation.FORWARD))
+        )
+    );
+  }
+
+  @Test
+  public void shouldUseReverseVelocityWhenTravellingBackwards() {
+    controller = new DistanceInAdvanceController(Long.MAX_VALUE, 5000L, vehicle);
+
+    // 3000 mm at 500 mm/s take 6 s.
+    assertFalse(
+        canAcceptAfterEnqueuing(
+            List.of(createCommandWithLength(3000, 1000, Vehicle.Orientation.BACKWARD))
+        )
+    );
+  }
+
+  @Test
+  public void shouldIgnoreTravelTimeIfNoVelocityIsSet() {
+    controller = new DistanceInAdvanceController(Long.MAX_VALUE, 5000L, new Vehicle("vehicle"));
+
+    assertTrue(
+        canAcceptAfterEnqueuing(
+            List.of(createCommandWithLength(100000, 0, Vehicle.Orientation.FORWARD))
+        )
+    );
+  }
+
+  private boolean canAcceptAfterEnqueuing(List<MovementCommand> commands) {
+    commands.forEach(controller::onCommandEnqueued);
+    return controller.canAcceptNextCommand(commands, List.of());
   }
 
   private MovementCommand createCommandWithLength(long length) {
+    return createCommandWithLength(length, 1000, Vehicle.Orientation.FORWARD);
+  }
+
+  private MovementCommand createCommandWithLength(
+      long length,
+      int maxVelocity,
+      Vehicle.Orientation orientation
+  ) {
     Point srcPoint = new Point("1");
     Point destPoint = new Point("2");
     Path path = new Path("1 -- 2", srcPoint.getReference(), destPoint.getReference())
-        .withLength(length);
+        .withLength(length)
+        .withMaxVelocity(maxVelocity)
+        .withMaxReverseVelocity(maxVelocity);
     Route.Step step = new Route.Step(
         path,
         srcPoint,
         destPoint,
-        Vehicle.Orientation.FORWARD,
+        orientation,
         0,
         1
     );
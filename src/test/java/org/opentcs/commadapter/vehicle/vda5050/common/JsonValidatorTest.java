@@ -0,0 +1,151 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.commadapter.vehicle.vda5050.common;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.io.StringReader;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link JsonValidator}.
+ */
+class JsonValidatorTest {
+
+  private static final String SCHEMA = """
+      {
+        "$schema": "http://json-schema.org/draft-07/schema#",
+        "title": "sample",
+        "type": "object",
+        "additionalProperties": false,
+        "required": ["id", "mode"],
+        "properties": {
+          "id": {"type": "integer", "minimum": 0},
+          "mode": {"type": "string", "enum": ["A", "B"]},
+          "description": {"type": ["string", "null"]},
+          "angle": {"type": "number", "minimum": -3.14, "maximum": 3.14},
+          "entries": {
+            "type": "array",
+            "items": {
+              "type": "object",
+              "required": ["key"],
+              "properties": {"key": {"type": "string"}}
+            }
+          }
+        }
+      }""";
+
+  private JsonValidator validator;
+
+  @BeforeEach
+  void setUp() {
+    validator = new JsonValidator(Map.of(Object.class, new StringReader(SCHEMA)));
+  }
+
+  @Test
+  void acceptValidInput() {
+    assertThatCode(
+        () -> validator.validate(
+            """
+            {"id": 1, "mode": "A", "description": null, "angle": 3.0,
+             "entries": [{"key": "k", "unknown": true}]}""",
+            Object.class
+        )
+    ).doesNotThrowAnyException();
+  }
+
+  @Test
+  void acceptUtf8EncodedInput() {
+    assertThatCode(
+        () -> validator.validate(
+            "{\"id\": 1, \"mode\": \"B\", \"description\": \"\u00e4\u00f6\u00fc\"}".getBytes(UTF_8),
+            Object.class
+        )
+    ).doesNotThrowAnyException();
+  }
+
+  @Test
+  void acceptIntegerWithZeroFractionalPart() {
+    assertThatCode(() -> validator.validate("{\"id\": 1.0, \"mode\": \"A\"}", Object.class))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void rejectMissingRequiredProperty() {
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> validator.validate("{\"id\": 1}", Object.class))
+        .withMessageContaining("#: required key [mode] not found");
+  }
+
+  @Test
+  void rejectAdditionalProperty() {
+    assertThatIllegalArgumentException()
+        .isThrownBy(
+            () -> validator.validate("{\"id\": 1, \"mode\": \"A\", \"extra\": 1}", Object.class)
+        )
+        .withMessageContaining("extraneous key [extra]");
+  }
+
+  @Test
+  void rejectWrongType() {
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> validator.validate("{\"id\": 1.5, \"mode\": \"A\"}", Object.class))
+        .withMessageContaining("#/id");
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> validator.validate("{\"id\": 1, \"mode\": null}", Object.class))
+        .withMessageContaining("#/mode");
+  }
+
+  @Test
+  void rejectValueNotInEnum() {
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> validator.validate("{\"id\": 1, \"mode\": \"C\"}", Object.class))
+        .withMessageContaining("#/mode");
+  }
+
+  @Test
+  void rejectValuesOutOfRange() {
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> validator.validate("{\"id\": -1, \"mode\": \"A\"}", Object.class))
+        .withMessageContaining("#/id");
+    assertThatIllegalArgumentException()
+        .isThrownBy(
+            () -> validator.validate("{\"id\": 1, \"mode\": \"A\", \"angle\": 4}", Object.class)
+        )
+        .withMessageContaining("#/angle");
+  }
+
+  @Test
+  void rejectInvalidArrayElementAndReportAllViolations() {
+    assertThatIllegalArgumentException()
+        .isThrownBy(
+            () -> validator.validate(
+                "{\"id\": -1, \"mode\": \"A\", \"entries\": [{\"key\": \"k\"}, {}]}",
+                Object.class
+            )
+        )
+        .withMessageContaining("#/id")
+        .withMessageContaining("#/entries/1: required key [key] not found");
+  }
+
+  @Test
+  void rejectMalformedOrEmptyInput() {
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> validator.validate("{\"id\": ", Object.class));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> validator.validate("", Object.class));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> validator.validate(new byte[0], Object.class));
+  }
+
+  @Test
+  void failForUnregisteredClass() {
+    assertThatIllegalStateException()
+        .isThrownBy(() -> validator.validate("{}", String.class));
+  }
+}
@@ -0,0 +1,129 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.commadapter.vehicle.vda5050.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.util.event.EventSource;
+
+/**
+ * Unit tests for {@link KernelObjectCache}.
+ */
+class KernelObjectCacheTest {
+
+  private TCSObjectService objectService;
+
+  private EventSource eventSource;
+
+  private KernelObjectCache cache;
+
+  private Vehicle vehicle;
+
+  @BeforeEach
+  void setUp() {
+    objectService = mock(TCSObjectService.class);
+    eventSource = mock(EventSource.class);
+    cache = new KernelObjectCache(objectService, eventSource);
+
+    vehicle = new Vehicle("vehicle-1");
+    when(objectService.fetch(Vehicle.class, vehicle.getReference()))
+        .thenReturn(Optional.of(vehicle));
+    when(objectService.fetch(Vehicle.class, vehicle.getName()))
+        .thenReturn(Optional.of(vehicle));
+  }
+
+  @Test
+  void subscribeToEventsWhileInitialized() {
+    cache.initialize();
+    verify(eventSource).subscribe(cache);
+
+    cache.terminate();
+    verify(eventSource).unsubscribe(cache);
+  }
+
+  @Test
+  void passRequestsThroughIfNotInitialized() {
+    assertThat(cache.fetch(Vehicle.class, vehicle.getReference())).contains(vehicle);
+    assertThat(cache.fetch(Vehicle.class, vehicle.getReference())).contains(vehicle);
+
+    verify(objectService, times(2)).fetch(Vehicle.class, vehicle.getReference());
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  void fetchObjectFromServiceOnlyOnce() {
+    cache.initialize();
+
+    assertThat(cache.fetch(Vehicle.class, vehicle.getReference())).contains(vehicle);
+    assertThat(cache.fetch(Vehicle.class, vehicle.getReference())).contains(vehicle);
+    assertThat(cache.fetch(Vehicle.class, vehicle.getName())).contains(vehicle);
+
+    verify(objectService).fetch(Vehicle.class, vehicle.getReference());
+    assertThat(cache.size()).isOne();
+  }
+
+  @Test
+  void doNotCacheMissingObjects() {
+    cache.initialize();
+    when(objectService.fetch(Point.class, "point-1")).thenReturn(Optional.empty());
+
+    assertThat(cache.fetch(Point.class, "point-1")).isEmpty();
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  void replaceCachedObjectWhenModified() {
+    cache.initialize();
+    cache.fetch(Vehicle.class, vehicle.getReference());
+
+    Vehicle modifiedVehicle = vehicle.withEnergyLevel(42);
+    cache.onEvent(
+        new TCSObjectEvent(modifiedVehicle, vehicle, TCSObjectEvent.Type.OBJECT_MODIFIED)
+    );
+
+    assertThat(cache.fetch(Vehicle.class, vehicle.getReference())).contains(modifiedVehicle);
+    verify(objectService).fetch(Vehicle.class, vehicle.getReference());
+  }
+
+  @Test
+  void removeCachedObjectWhenRemoved() {
+    cache.initialize();
+    cache.fetch(Vehicle.class, vehicle.getReference());
+
+    cache.onEvent(new TCSObjectEvent(null, vehicle, TCSObjectEvent.Type.OBJECT_REMOVED));
+
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  void ignoreEventsForObjectsNotCached() {
+    cache.initialize();
+
+    cache.onEvent(
+        new TCSObjectEvent(new Point("point-1"), null, TCSObjectEvent.Type.OBJECT_CREATED)
+    );
+
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  void forgetAllObjectsWhenTerminated() {
+    cache.initialize();
+    cache.fetch(Vehicle.class, vehicle.getReference());
+
+    cache.terminate();
+
+    assertThat(cache.size()).isZero();
+  }
+}
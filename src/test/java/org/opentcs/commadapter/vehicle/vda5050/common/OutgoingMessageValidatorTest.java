@@ -0,0 +1,137 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.commadapter.vehicle.vda5050.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link OutgoingMessageValidator}.
+ */
+class OutgoingMessageValidatorTest {
+
+  private JsonBinder jsonBinder;
+  private JsonValidator jsonValidator;
+
+  @BeforeEach
+  void setUp() {
+    jsonBinder = new JsonBinder();
+    jsonValidator = mock(JsonValidator.class);
+  }
+
+  @Test
+  void validateEveryMessageWithAlwaysPolicy() {
+    OutgoingMessageValidator validator = new OutgoingMessageValidator(
+        jsonBinder, jsonValidator, OutgoingMessageValidator.Policy.ALWAYS, 10
+    );
+
+    for (int i = 0; i < 3; i++) {
+      assertThat(validator.toJson(new Message("m", List.of(new Item(1)), null)))
+          .isEqualTo("{\"id\":\"m\",\"items\":[{\"value\":1}]}");
+    }
+
+    verify(jsonValidator, times(3)).validate(anyString(), eq(Message.class));
+  }
+
+  @Test
+  void validateEveryNthMessageWithSampledPolicy() {
+    OutgoingMessageValidator validator = new OutgoingMessageValidator(
+        jsonBinder, jsonValidator, OutgoingMessageValidator.Policy.SAMPLED, 3
+    );
+
+    for (int i = 0; i < 7; i++) {
+      validator.toJson(new Message("m", List.of(), null));
+    }
+
+    verify(jsonValidator, times(3)).validate(anyString(), eq(Message.class));
+  }
+
+  @Test
+  void validateEachShapeOnceWithStructuralPolicy() {
+    OutgoingMessageValidator validator = new OutgoingMessageValidator(
+        jsonBinder, jsonValidator, OutgoingMessageValidator.Policy.STRUCTURAL, 10
+    );
+
+    validator.toJson(new Message("m1", List.of(new Item(1)), null));
+    // Same properties present, with different values and a different number of array elements.
+    validator.toJson(new Message("m2", List.of(new Item(2), new Item(3), new Item(4)), null));
+    validator.toJson(new Message("m3", List.of(new Item(5)), null));
+    verify(jsonValidator, times(1)).validate(anyString(), eq(Message.class));
+
+    // An optional property present for the first time.
+    validator.toJson(new Message("m4", List.of(new Item(1)), "some-description"));
+    verify(jsonValidator, times(2)).validate(anyString(), eq(Message.class));
+
+    // Shapes are tracked per message type.
+    validator.toJson(new Item(1));
+    verify(jsonValidator).validate(anyString(), eq(Item.class));
+  }
+
+  @Test
+  void validateOutputOfGivenSerializer() {
+    OutgoingMessageValidator validator = new OutgoingMessageValidator(
+        jsonBinder, jsonValidator, OutgoingMessageValidator.Policy.ALWAYS, 10
+    );
+
+    assertThat(validator.toJson(new Message("m", List.of(), null), message -> "{\"id\":\"x\"}"))
+        .isEqualTo("{\"id\":\"x\"}");
+
+    verify(jsonValidator).validate(eq("{\"id\":\"x\"}"), eq(Message.class));
+  }
+
+  @Test
+  void ignoreGivenSerializerWithStructuralPolicy() {
+    OutgoingMessageValidator validator = new OutgoingMessageValidator(
+        jsonBinder, jsonValidator, OutgoingMessageValidator.Policy.STRUCTURAL, 10
+    );
+
+    assertThat(validator.toJson(new Message("m", List.of(), null), message -> "{\"id\":\"x\"}"))
+        .isEqualTo("{\"id\":\"m\",\"items\":[]}");
+  }
+
+  @Test
+  void keepValidatingShapesOfInvalidMessages() {
+    JsonValidator rejectingValidator = new JsonValidator(Map.of()) {
+      @Override
+      public void validate(String json, Class<?> clazz) {
+        throw new IllegalArgumentException("invalid");
+      }
+    };
+    OutgoingMessageValidator validator = new OutgoingMessageValidator(
+        jsonBinder, rejectingValidator, OutgoingMessageValidator.Policy.STRUCTURAL, 10
+    );
+
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> validator.toJson(new Message("m", List.of(), null)));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> validator.toJson(new Message("m", List.of(), null)));
+  }
+
+  @Test
+  void rejectInvalidSampleInterval() {
+    assertThatIllegalArgumentException()
+        .isThrownBy(
+            () -> new OutgoingMessageValidator(
+                jsonBinder, jsonValidator, OutgoingMessageValidator.Policy.SAMPLED, 0
+            )
+        );
+  }
+
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  record Message(String id, List<Item> items, String description) {
+  }
+
+  record Item(int value) {
+  }
+}
@@ -0,0 +1,136 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.commadapter.vehicle.vda5050.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ResendTimer}.
+ */
+class ResendTimerTest {
+
+  private List<ScheduledTask> scheduledTasks;
+  private double randomValue;
+  private int resendCount;
+  private ResendTimer timer;
+
+  @BeforeEach
+  void setUp() {
+    scheduledTasks = new ArrayList<>();
+    randomValue = 0.5;
+    resendCount = 0;
+    timer = createTimer(0.0);
+  }
+
+  @Test
+  void resendAfterInitialTimeout() {
+    timer.schedule(this::resend);
+
+    assertThat(scheduledTasks).extracting(ScheduledTask::delay).containsExactly(100L);
+    assertThat(resendCount).isZero();
+
+    runNextTask();
+
+    assertThat(resendCount).isEqualTo(1);
+  }
+
+  @Test
+  void doubleTimeoutUpToMaximum() {
+    timer.schedule(this::resend);
+
+    for (int i = 0; i < 5; i++) {
+      runNextTask();
+    }
+
+    assertThat(scheduledTasks)
+        .extracting(ScheduledTask::delay)
+        .containsExactly(100L, 200L, 400L, 500L, 500L, 500L);
+    assertThat(resendCount).isEqualTo(5);
+  }
+
+  @Test
+  void varyTimeoutsByJitter() {
+    timer = createTimer(0.2);
+
+    randomValue = 0.0;
+    timer.schedule(this::resend);
+    randomValue = 1.0;
+    timer.schedule(this::resend);
+
+    assertThat(scheduledTasks).extracting(ScheduledTask::delay).containsExactly(80L, 120L);
+  }
+
+  @Test
+  void doNotResendAfterCancel() {
+    timer.schedule(this::resend);
+
+    timer.cancel();
+    runNextTask();
+
+    assertThat(resendCount).isZero();
+    assertThat(timer.isScheduled()).isFalse();
+  }
+
+  @Test
+  void restartWithInitialTimeoutWhenRescheduled() {
+    timer.schedule(this::resend);
+    runNextTask();
+
+    timer.schedule(this::resend);
+
+    assertThat(scheduledTasks)
+        .extracting(ScheduledTask::delay)
+        .containsExactly(100L, 200L, 100L);
+    assertThat(scheduledTasks.get(1).future().isCancelled()).isTrue();
+  }
+
+  @Test
+  void keepScheduledResendIfIdleOnly() {
+    timer.schedule(this::resend);
+    runNextTask();
+
+    timer.scheduleIfIdle(this::resend);
+
+    assertThat(scheduledTasks).extracting(ScheduledTask::delay).containsExactly(100L, 200L);
+  }
+
+  @Test
+  void rejectMaxTimeoutLessThanInitialTimeout() {
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> new ResendTimer(this::scheduleTask, () -> randomValue, 100, 50, 0.0));
+  }
+
+  private ResendTimer createTimer(double jitter) {
+    return new ResendTimer(this::scheduleTask, () -> randomValue, 100, 500, jitter);
+  }
+
+  private CompletableFuture<?> scheduleTask(Runnable task, long delay) {
+    ScheduledTask scheduledTask = new ScheduledTask(task, delay, new CompletableFuture<>());
+    scheduledTasks.add(scheduledTask);
+    return scheduledTask.future();
+  }
+
+  private void runNextTask() {
+    scheduledTasks.stream()
+        .filter(task -> !task.future().isDone())
+        .findFirst()
+        .ifPresent(task -> {
+          task.future().complete(null);
+          task.task().run();
+        });
+  }
+
+  private void resend() {
+    resendCount++;
+  }
+
+  private record ScheduledTask(Runnable task, long delay, CompletableFuture<Void> future) {
+  }
+}
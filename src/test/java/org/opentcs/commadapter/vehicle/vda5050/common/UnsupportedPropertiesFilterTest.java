@@ -2,11 +2,11 @@
 // SPDX-License-Identifier: MIT
 package org.opentcs.commadapter.vehicle.vda5050.common;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.node.ArrayNode;
@@ -85,9 +85,40 @@ class UnsupportedPropertiesFilterTest {
     Function<Vehicle, Map<String, OptionalParameterSupport>> mockedFunction = mock(Function.class);
     when(mockedFunction.apply(any(Vehicle.class))).thenReturn(vehicleOptionalParameters);
 
-    JsonNode result = new UnsupportedPropertiesFilter(mock(Vehicle.class), mockedFunction)
-        .apply(objectMapper.valueToTree(orderNode));
+    JsonBinder jsonBinder = new JsonBinder();
+    jsonBinder.setFilter(new UnsupportedPropertiesFilter(mock(Vehicle.class), mockedFunction));
 
-    Approvals.verify(result.toPrettyString());
+    Approvals.verify(jsonBinder.toPrettyJson(orderNode));
+  }
+
+  @Test
+  public void keepObjectsWithAllPropertiesRemoved() {
+    Map<String, OptionalParameterSupport> vehicleOptionalParameters = Map.of(
+        "nodes.nodePosition.x", OptionalParameterSupport.NOT_SUPPORTED,
+        "nodes.nodePosition.y", OptionalParameterSupport.NOT_SUPPORTED,
+        "nodes.nodePosition.mapId", OptionalParameterSupport.NOT_SUPPORTED,
+        "nodes.nodePosition.allowedDeviationTheta", OptionalParameterSupport.NOT_SUPPORTED,
+        "nodes.nodePosition.x.unknown", OptionalParameterSupport.NOT_SUPPORTED,
+        "orderId.unknown", OptionalParameterSupport.NOT_SUPPORTED
+    );
+    @SuppressWarnings("unchecked")
+    Function<Vehicle, Map<String, OptionalParameterSupport>> mockedFunction = mock(Function.class);
+    when(mockedFunction.apply(any(Vehicle.class))).thenReturn(vehicleOptionalParameters);
+
+    JsonBinder jsonBinder = new JsonBinder();
+    jsonBinder.setFilter(new UnsupportedPropertiesFilter(mock(Vehicle.class), mockedFunction));
+
+    assertThat(jsonBinder.toJson(orderNode))
+        .contains("\"orderId\":\"some-order\"")
+        .contains("\"nodePosition\":{}")
+        .doesNotContain("\"x\"")
+        .contains("\"maxSpeed\":133");
+  }
+
+  @Test
+  public void writeCompactOutputWithoutFilter() {
+    assertThat(new JsonBinder().toJson(orderNode))
+        .startsWith("{\"orderId\":\"some-order\",\"orderUpdateId\":1,")
+        .doesNotContain(" ", "\n");
   }
 }
@@ -0,0 +1,187 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.commadapter.vehicle.vda5050.common.mqtt;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+/**
+ * Unit tests for {@link InboundDispatcher}.
+ */
+class InboundDispatcherTest {
+
+  private Queue<Runnable> pendingTasks;
+  private InboundDispatcher dispatcher;
+  private ConnectionEventListener listener1;
+  private ConnectionEventListener listener2;
+
+  @BeforeEach
+  void setUp() {
+    pendingTasks = new ArrayDeque<>();
+    dispatcher = new InboundDispatcher(pendingTasks::add);
+    listener1 = mock(ConnectionEventListener.class);
+    listener2 = mock(ConnectionEventListener.class);
+    dispatcher.addLane(listener1);
+    dispatcher.addLane(listener2);
+  }
+
+  @Test
+  void deliverMessagesForListenerInOrder() {
+    IncomingMessage message1 = new IncomingMessage("topic", "1".getBytes(UTF_8));
+    IncomingMessage message2 = new IncomingMessage("topic", "2".getBytes(UTF_8));
+    IncomingMessage message3 = new IncomingMessage("topic", "3".getBytes(UTF_8));
+
+    dispatcher.dispatch(listener1, message1);
+    dispatcher.dispatch(listener1, message2);
+    dispatcher.dispatch(listener1, message3);
+
+    // A lane should be drained by a single task.
+    assertThat(pendingTasks).hasSize(1);
+    runPendingTasks();
+
+    InOrder inOrder = inOrder(listener1);
+    inOrder.verify(listener1).onIncomingMessage(message1);
+    inOrder.verify(listener1).onIncomingMessage(message2);
+    inOrder.verify(listener1).onIncomingMessage(message3);
+  }
+
+  @Test
+  void drainLanesOfDifferentListenersIndependently() {
+    IncomingMessage message1 = new IncomingMessage("topic1", "1".getBytes(UTF_8));
+    IncomingMessage message2 = new IncomingMessage("topic2", "2".getBytes(UTF_8));
+
+    dispatcher.dispatch(listener1, message1);
+    dispatcher.dispatch(listener2, message2);
+
+    assertThat(pendingTasks).hasSize(2);
+
+    pendingTasks.poll().run();
+    verify(listener1).onIncomingMessage(message1);
+    verify(listener2, never()).onIncomingMessage(message2);
+
+    pendingTasks.poll().run();
+    verify(listener2).onIncomingMessage(message2);
+  }
+
+  @Test
+  void continueDeliveringAfterListenerThrows() {
+    IncomingMessage message1 = new IncomingMessage("topic", "1".getBytes(UTF_8));
+    IncomingMessage message2 = new IncomingMessage("topic", "2".getBytes(UTF_8));
+    doThrow(new IllegalStateException()).when(listener1).onIncomingMessage(message1);
+
+    dispatcher.dispatch(listener1, message1);
+    dispatcher.dispatch(listener1, message2);
+    runPendingTasks();
+
+    verify(listener1).onIncomingMessage(message2);
+  }
+
+  @Test
+  void reportQueueDepthOfLane() {
+    assertThat(dispatcher.getStatistics(listener1))
+        .hasValueSatisfying(statistics -> assertThat(statistics.queueDepth()).isZero());
+
+    dispatcher.dispatch(listener1, new IncomingMessage("topic", "1".getBytes(UTF_8)));
+    dispatcher.dispatch(listener1, new IncomingMessage("topic", "2".getBytes(UTF_8)));
+
+    assertThat(dispatcher.getStatistics(listener1))
+        .hasValueSatisfying(statistics -> assertThat(statistics.queueDepth()).isEqualTo(2));
+
+    runPendingTasks();
+
+    assertThat(dispatcher.getStatistics(listener1))
+        .hasValueSatisfying(statistics -> {
+          assertThat(statistics.queueDepth()).isZero();
+          assertThat(statistics.lag()).isZero();
+        });
+  }
+
+  @Test
+  void discardUndeliveredMessagesWhenLaneIsRemoved() {
+    IncomingMessage message = new IncomingMessage("topic", "1".getBytes(UTF_8));
+
+    dispatcher.dispatch(listener1, message);
+    dispatcher.removeLane(listener1);
+    runPendingTasks();
+
+    verify(listener1, never()).onIncomingMessage(message);
+    assertThat(dispatcher.getStatistics(listener1)).isEmpty();
+  }
+
+  @Test
+  void stopDeliveringWhenLaneIsRemovedWhileDraining() {
+    IncomingMessage message1 = new IncomingMessage("topic", "1".getBytes(UTF_8));
+    IncomingMessage message2 = new IncomingMessage("topic", "2".getBytes(UTF_8));
+    doAnswer(invocation -> {
+      dispatcher.removeLane(listener1);
+      return null;
+    }).when(listener1).onIncomingMessage(message1);
+
+    dispatcher.dispatch(listener1, message1);
+    dispatcher.dispatch(listener1, message2);
+    runPendingTasks();
+
+    verify(listener1, never()).onIncomingMessage(message2);
+    assertThat(dispatcher.getStatistics(listener1)).isEmpty();
+  }
+
+  @Test
+  void discardMessagesForRemovedListener() {
+    IncomingMessage message = new IncomingMessage("topic", "1".getBytes(UTF_8));
+
+    dispatcher.removeLane(listener1);
+    dispatcher.dispatch(listener1, message);
+
+    assertThat(pendingTasks).isEmpty();
+    assertThat(dispatcher.getStatistics(listener1)).isEmpty();
+  }
+
+  @Test
+  void discardUndeliveredMessagesWhenAllLanesAreRemoved() {
+    IncomingMessage message1 = new IncomingMessage("topic1", "1".getBytes(UTF_8));
+    IncomingMessage message2 = new IncomingMessage("topic2", "2".getBytes(UTF_8));
+
+    dispatcher.dispatch(listener1, message1);
+    dispatcher.dispatch(listener2, message2);
+    dispatcher.removeAllLanes();
+    runPendingTasks();
+
+    verify(listener1, never()).onIncomingMessage(message1);
+    verify(listener2, never()).onIncomingMessage(message2);
+    assertThat(dispatcher.getStatistics(listener1)).isEmpty();
+    assertThat(dispatcher.getStatistics(listener2)).isEmpty();
+  }
+
+  @Test
+  void discardMessagesWhenExecutorRejectsDraining() {
+    dispatcher = new InboundDispatcher(task -> {
+      throw new RejectedExecutionException("shut down");
+    });
+    dispatcher.addLane(listener1);
+
+    dispatcher.dispatch(listener1, new IncomingMessage("topic", "1".getBytes(UTF_8)));
+
+    assertThat(dispatcher.getStatistics(listener1))
+        .hasValueSatisfying(statistics -> assertThat(statistics.queueDepth()).isZero());
+  }
+
+  private void runPendingTasks() {
+    Runnable task;
+    while ((task = pendingTasks.poll()) != null) {
+      task.run();
+    }
+  }
+}
@@ -0,0 +1,118 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.commadapter.vehicle.vda5050.common.mqtt;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link LatestMessageThrottle}.
+ */
+class LatestMessageThrottleTest {
+
+  private long now;
+  private List<IncomingMessage> passedOn;
+  private List<ScheduledTask> scheduledTasks;
+  private LatestMessageThrottle throttle;
+
+  @BeforeEach
+  void setUp() {
+    now = 1000;
+    passedOn = new ArrayList<>();
+    scheduledTasks = new ArrayList<>();
+    throttle = new LatestMessageThrottle(
+        500,
+        passedOn::add,
+        () -> now,
+        (task, delay) -> scheduledTasks.add(new ScheduledTask(task, delay))
+    );
+  }
+
+  @Test
+  void passOnFirstMessageImmediately() {
+    IncomingMessage message = message("1");
+
+    throttle.offer(message);
+
+    assertThat(passedOn).containsExactly(message);
+    assertThat(scheduledTasks).isEmpty();
+  }
+
+  @Test
+  void passOnOnlyNewestMessageWithinInterval() {
+    IncomingMessage first = message("1");
+    IncomingMessage newest = message("4");
+    throttle.offer(first);
+
+    now += 100;
+    throttle.offer(message("2"));
+    now += 100;
+    throttle.offer(message("3"));
+    throttle.offer(newest);
+
+    assertThat(passedOn).containsExactly(first);
+    assertThat(scheduledTasks).hasSize(1);
+    assertThat(scheduledTasks.get(0).delay()).isEqualTo(300);
+    assertThat(throttle.getDiscardedCount()).isEqualTo(2);
+
+    // The newest message is passed on once the interval has passed, even without further messages.
+    now += 300;
+    scheduledTasks.get(0).task().run();
+
+    assertThat(passedOn).containsExactly(first, newest);
+  }
+
+  @Test
+  void passOnMessageImmediatelyAfterInterval() {
+    throttle.offer(message("1"));
+
+    now += 600;
+    IncomingMessage second = message("2");
+    throttle.offer(second);
+
+    assertThat(passedOn).hasSize(2).endsWith(second);
+    assertThat(scheduledTasks).isEmpty();
+  }
+
+  @Test
+  void discardPendingMessageWhenCleared() {
+    throttle.offer(message("1"));
+    now += 100;
+    throttle.offer(message("2"));
+
+    throttle.clear();
+    now += 400;
+    scheduledTasks.get(0).task().run();
+
+    assertThat(passedOn).hasSize(1);
+  }
+
+  @Test
+  void passOnEveryMessageWithoutInterval() {
+    throttle = new LatestMessageThrottle(
+        0,
+        passedOn::add,
+        () -> now,
+        (task, delay) -> scheduledTasks.add(new ScheduledTask(task, delay))
+    );
+
+    throttle.offer(message("1"));
+    throttle.offer(message("2"));
+    throttle.offer(message("3"));
+
+    assertThat(passedOn).hasSize(3);
+    assertThat(scheduledTasks).isEmpty();
+  }
+
+  private static IncomingMessage message(String payload) {
+    return new IncomingMessage("topic", payload.getBytes(UTF_8));
+  }
+
+  private record ScheduledTask(Runnable task, long delay) {
+  }
+}
@@ -0,0 +1,77 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.commadapter.vehicle.vda5050.common.mqtt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link TopicRouter}.
+ */
+class TopicRouterTest {
+
+  private static final String STATE_FILTER = "uagv/v2/+/+/state";
+  private static final String STATE_TOPIC_1 = "uagv/v2/manufacturer/1/state";
+  private static final String STATE_TOPIC_2 = "uagv/v2/manufacturer/2/state";
+
+  private TopicRouter router;
+  private ConnectionEventListener listener1;
+  private ConnectionEventListener listener2;
+
+  @BeforeEach
+  void setUp() {
+    router = new TopicRouter();
+    listener1 = mock(ConnectionEventListener.class);
+    listener2 = mock(ConnectionEventListener.class);
+  }
+
+  @Test
+  void requireSubscriptionOnlyForFirstRouteOfFilter() {
+    assertThat(
+        router.addRoute(STATE_FILTER, QualityOfService.AT_MOST_ONCE, STATE_TOPIC_1, listener1)
+    ).isTrue();
+    assertThat(
+        router.addRoute(STATE_FILTER, QualityOfService.AT_MOST_ONCE, STATE_TOPIC_2, listener2)
+    ).isFalse();
+
+    assertThat(router.getTopicFilters())
+        .containsOnlyKeys(STATE_FILTER)
+        .containsEntry(STATE_FILTER, QualityOfService.AT_MOST_ONCE);
+  }
+
+  @Test
+  void routeTopicsToTheirListeners() {
+    router.addRoute(STATE_FILTER, QualityOfService.AT_MOST_ONCE, STATE_TOPIC_1, listener1);
+    router.addRoute(STATE_FILTER, QualityOfService.AT_MOST_ONCE, STATE_TOPIC_2, listener2);
+
+    assertThat(router.getListener(STATE_TOPIC_1)).isSameAs(listener1);
+    assertThat(router.getListener(STATE_TOPIC_2)).isSameAs(listener2);
+    assertThat(router.getListener("uagv/v2/manufacturer/3/state")).isNull();
+  }
+
+  @Test
+  void allowUnsubscribingOnlyWhenLastRouteOfFilterIsRemoved() {
+    router.addRoute(STATE_FILTER, QualityOfService.AT_MOST_ONCE, STATE_TOPIC_1, listener1);
+    router.addRoute(STATE_FILTER, QualityOfService.AT_MOST_ONCE, STATE_TOPIC_2, listener2);
+
+    assertThat(router.removeRoute(STATE_FILTER, STATE_TOPIC_1, listener1)).isFalse();
+    assertThat(router.getListener(STATE_TOPIC_1)).isNull();
+    assertThat(router.isFilterInUse(STATE_FILTER)).isTrue();
+
+    assertThat(router.removeRoute(STATE_FILTER, STATE_TOPIC_2, listener2)).isTrue();
+    assertThat(router.isFilterInUse(STATE_FILTER)).isFalse();
+    assertThat(router.getTopicFilters()).isEmpty();
+  }
+
+  @Test
+  void ignoreRemovalOfRouteForOtherListener() {
+    router.addRoute(STATE_FILTER, QualityOfService.AT_MOST_ONCE, STATE_TOPIC_1, listener1);
+
+    assertThat(router.removeRoute(STATE_FILTER, STATE_TOPIC_1, listener2)).isFalse();
+    assertThat(router.getListener(STATE_TOPIC_1)).isSameAs(listener1);
+    assertThat(router.isFilterInUse(STATE_FILTER)).isTrue();
+  }
+}
@@ -26,6 +26,7 @@ import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.opentcs.commadapter.vehicle.vda5050.common.KernelObjectCache;
 import org.opentcs.commadapter.vehicle.vda5050.v1_1.action.InitPosition;
 import org.opentcs.commadapter.vehicle.vda5050.v1_1.message.common.Action;
 import org.opentcs.commadapter.vehicle.vda5050.v1_1.message.common.ActionParameter;
@@ -38,6 +39,7 @@ import org.opentcs.data.model.Point;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.drivers.vehicle.VehicleCommAdapterMessage;
 import org.opentcs.util.MapValueExtractor;
+import org.opentcs.util.event.EventSource;
 
 /**
  * Tests for {@link CommAdapterMessageMapper}.
@@ -53,7 +55,7 @@ class CommAdapterMessageMapperTest {
     mapper = new CommAdapterMessageMapper(
         new Vehicle("vehicle-1"),
         new MapValueExtractor(),
-        objectService,
+        new KernelObjectCache(objectService, mock(EventSource.class)),
         mock(NodeMapping.class)
     );
   }
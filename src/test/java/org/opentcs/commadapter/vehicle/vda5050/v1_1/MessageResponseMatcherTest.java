@@ -5,10 +5,14 @@ package org.opentcs.commadapter.vehicle.vda5050.v1_1;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import static org.opentcs.commadapter.vehicle.vda5050.v1_1.ErrorTypes.NO_ROUTE_ERROR;
 import static org.opentcs.commadapter.vehicle.vda5050.v1_1.ErrorTypes.ORDER_ERROR;
 import static org.opentcs.commadapter.vehicle.vda5050.v1_1.ErrorTypes.ORDER_UPDATE_ERROR;
@@ -16,6 +20,10 @@ import static org.opentcs.commadapter.vehicle.vda5050.v1_1.ErrorTypes.VALIDATION
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -23,13 +31,19 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.opentcs.commadapter.vehicle.vda5050.common.ResendTimer;
 import org.opentcs.commadapter.vehicle.vda5050.v1_1.action.CancelOrder;
 import org.opentcs.commadapter.vehicle.vda5050.v1_1.action.Drop;
 import org.opentcs.commadapter.vehicle.vda5050.v1_1.action.Pick;
 import org.opentcs.commadapter.vehicle.vda5050.v1_1.action.StartCharging;
+import org.opentcs.commadapter.vehicle.vda5050.v1_1.action.StartPause;
+import org.opentcs.commadapter.vehicle.vda5050.v1_1.action.StopPause;
 import org.opentcs.commadapter.vehicle.vda5050.v1_1.message.common.Action;
 import org.opentcs.commadapter.vehicle.vda5050.v1_1.message.common.BlockingType;
 import org.opentcs.commadapter.vehicle.vda5050.v1_1.message.instantactions.InstantActions;
+import org.opentcs.commadapter.vehicle.vda5050.v1_1.message.order.Edge;
+import org.opentcs.commadapter.vehicle.vda5050.v1_1.message.order.Node;
 import org.opentcs.commadapter.vehicle.vda5050.v1_1.message.order.Order;
 import org.opentcs.commadapter.vehicle.vda5050.v1_1.message.state.ActionState;
 import org.opentcs.commadapter.vehicle.vda5050.v1_1.message.state.ActionStatus;
@@ -354,6 +368,473 @@ public class MessageResponseMatcherTest {
     verify(sendInstantActionsCallback, times(1)).accept(nextAction);
   }
 
+  @Test
+  public void sendPriorityInstantActionsImmediately() {
+    messageResponseMatcher = priorityMatcher();
+    Order order1 = new Order("order1", 0L, List.of(), List.of());
+    Order order2 = new Order("order2", 0L, List.of(), List.of());
+    InstantActions pause = instantActions(StartPause.ACTION_TYPE, "pause1");
+
+    messageResponseMatcher.enqueueCommand(order1, dummyCommand);
+    messageResponseMatcher.enqueueAction(pause);
+    messageResponseMatcher.enqueueCommand(order2, dummyCommand);
+
+    verify(sendOrderCallback, times(1)).accept(order1);
+    verify(sendInstantActionsCallback, times(1)).accept(pause);
+    verify(sendOrderCallback, never()).accept(order2);
+
+    // The priority lane does not interfere with the acknowledgement of the order.
+    State state = stateAcceptingOrder(order1);
+    state.getActionStates().addAll(stateAcceptingInstantAction(pause).getActionStates());
+    messageResponseMatcher.onStateMessage(state);
+
+    verify(sendOrderCallback, times(1)).accept(order2);
+    verify(orderAcceptedCallback, times(1)).accept(any());
+  }
+
+  @Test
+  public void resendPriorityInstantActionsWhenResendTimerExpires() {
+    ResendTimer priorityResendTimer = mock(ResendTimer.class);
+    List<Runnable> resendActions = new ArrayList<>();
+    doAnswer(invocation -> resendActions.add(invocation.getArgument(0)))
+        .when(priorityResendTimer).schedule(any());
+    messageResponseMatcher = priorityResendTimerMatcher(priorityResendTimer);
+    InstantActions pause = instantActions(StartPause.ACTION_TYPE, "pause1");
+
+    messageResponseMatcher.enqueueAction(pause);
+    // State messages not accepting the instant actions do not trigger resends with a timer.
+    messageResponseMatcher.onStateMessage(newState());
+    messageResponseMatcher.onStateMessage(newState());
+
+    verify(sendInstantActionsCallback, times(1)).accept(pause);
+    verify(priorityResendTimer, times(1)).schedule(any());
+
+    resendActions.get(0).run();
+
+    verify(sendInstantActionsCallback, times(2)).accept(pause);
+    assertThat(messageResponseMatcher.getResendCount(), is(1L));
+
+    messageResponseMatcher.onStateMessage(stateAcceptingInstantAction(pause));
+
+    verify(priorityResendTimer, times(1)).cancel();
+
+    // A resend that was already due does not resend acknowledged instant actions.
+    resendActions.get(0).run();
+
+    verify(sendInstantActionsCallback, times(2)).accept(pause);
+    assertThat(messageResponseMatcher.getResendCount(), is(1L));
+  }
+
+  @Test
+  public void cancelPriorityResendsWhenInstantActionsAccepted() {
+    ResendTimer priorityResendTimer = mock(ResendTimer.class);
+    messageResponseMatcher = priorityResendTimerMatcher(priorityResendTimer);
+    InstantActions cancel = instantActions(CancelOrder.ACTION_TYPE, "cancel1");
+
+    messageResponseMatcher.enqueueAction(cancel);
+    messageResponseMatcher.onStateMessage(stateWithActionStatus(cancel, ActionStatus.RUNNING));
+
+    // The cancelOrder is not completed, yet, but it must not be resent anymore.
+    verify(priorityResendTimer, times(1)).cancel();
+    verify(sendInstantActionsCallback, times(1)).accept(cancel);
+  }
+
+  @Test
+  public void doNotResendPauseRequestSupersededByNewerOne() {
+    messageResponseMatcher = priorityMatcher();
+    InstantActions startPause = instantActions(StartPause.ACTION_TYPE, "pause1");
+    InstantActions stopPause = instantActions(StopPause.ACTION_TYPE, "pause2");
+
+    messageResponseMatcher.enqueueAction(startPause);
+    messageResponseMatcher.enqueueAction(stopPause);
+    // The startPause got lost, while the stopPause was accepted by the vehicle.
+    messageResponseMatcher.onStateMessage(stateAcceptingInstantAction(stopPause));
+    messageResponseMatcher.onStateMessage(newState());
+
+    verify(sendInstantActionsCallback, times(1)).accept(startPause);
+    verify(sendInstantActionsCallback, times(1)).accept(stopPause);
+  }
+
+  @Test
+  public void sendNoOtherRequestsUntilPriorityCancelOrderCompleted() {
+    messageResponseMatcher = priorityMatcher();
+    Order order1 = new Order("order1", 0L, List.of(), List.of());
+    InstantActions cancel = instantActions(CancelOrder.ACTION_TYPE, "cancel1");
+    InstantActions pause = instantActions(StartPause.ACTION_TYPE, "pause1");
+
+    messageResponseMatcher.enqueueAction(cancel);
+    messageResponseMatcher.enqueueCommand(order1, dummyCommand);
+    messageResponseMatcher.enqueueAction(pause);
+
+    verify(sendInstantActionsCallback, times(1)).accept(cancel);
+    verify(sendInstantActionsCallback, times(1)).accept(pause);
+    verify(sendOrderCallback, never()).accept(order1);
+
+    messageResponseMatcher.onStateMessage(stateWithActionStatus(cancel, ActionStatus.RUNNING));
+
+    verify(sendInstantActionsCallback, times(1)).accept(cancel);
+    verify(sendOrderCallback, never()).accept(order1);
+
+    messageResponseMatcher.onStateMessage(stateCompletingInstantAction(cancel));
+
+    verify(sendOrderCallback, times(1)).accept(order1);
+  }
+
+  @Test
+  public void sendOtherInstantActionsInOrder() {
+    messageResponseMatcher = priorityMatcher();
+    Order order1 = new Order("order1", 0L, List.of(), List.of());
+    InstantActions pick = instantActions(Pick.ACTION_TYPE, "pick1");
+
+    messageResponseMatcher.enqueueCommand(order1, dummyCommand);
+    messageResponseMatcher.enqueueAction(pick);
+
+    verify(sendInstantActionsCallback, never()).accept(pick);
+  }
+
+  @Test
+  public void sendOrderUpdatesWithinWindowWithoutWaitingForAcknowledgement() {
+    messageResponseMatcher = windowedMatcher(2);
+    Order update0 = new Order("order1", 0L, List.of(), List.of());
+    Order update1 = new Order("order1", 1L, List.of(), List.of());
+    Order update2 = new Order("order1", 2L, List.of(), List.of());
+
+    messageResponseMatcher.enqueueCommand(update0, dummyCommand);
+    messageResponseMatcher.enqueueCommand(update1, dummyCommand);
+    messageResponseMatcher.enqueueCommand(update2, dummyCommand);
+
+    verify(sendOrderCallback, times(1)).accept(update0);
+    verify(sendOrderCallback, times(1)).accept(update1);
+    verify(sendOrderCallback, never()).accept(update2);
+
+    messageResponseMatcher.onStateMessage(stateAcceptingOrder(update0));
+
+    verify(sendOrderCallback, times(1)).accept(update1);
+    verify(sendOrderCallback, times(1)).accept(update2);
+  }
+
+  @Test
+  public void acknowledgeOrderUpdatesCumulatively() {
+    messageResponseMatcher = windowedMatcher(3);
+    Order update0 = new Order("order1", 0L, List.of(), List.of());
+    Order update1 = new Order("order1", 1L, List.of(), List.of());
+    Order update2 = new Order("order1", 2L, List.of(), List.of());
+
+    messageResponseMatcher.enqueueCommand(update0, dummyCommand);
+    messageResponseMatcher.enqueueCommand(update1, dummyCommand);
+    messageResponseMatcher.enqueueCommand(update2, dummyCommand);
+    messageResponseMatcher.onStateMessage(stateAcceptingOrder(update1));
+
+    ArgumentCaptor<OrderAssociation> callbackCapture
+        = ArgumentCaptor.forClass(OrderAssociation.class);
+    verify(orderAcceptedCallback, times(2)).accept(callbackCapture.capture());
+    assertThat(callbackCapture.getAllValues().get(0).getOrder(), is(update0));
+    assertThat(callbackCapture.getAllValues().get(1).getOrder(), is(update1));
+    // The remaining update is still in flight and must not be resent.
+    verify(sendOrderCallback, times(1)).accept(update2);
+  }
+
+  @Test
+  public void doNotSendOtherOrdersWithinWindow() {
+    messageResponseMatcher = windowedMatcher(3);
+    Order order1 = new Order("order1", 0L, List.of(), List.of());
+    Order order2 = new Order("order2", 0L, List.of(), List.of());
+
+    messageResponseMatcher.enqueueCommand(order1, dummyCommand);
+    messageResponseMatcher.enqueueCommand(order2, dummyCommand);
+
+    verify(sendOrderCallback, times(1)).accept(order1);
+    verify(sendOrderCallback, never()).accept(order2);
+  }
+
+  @Test
+  public void resendOrderUpdatesInFlightOnlyAfterSecondStateWithoutAcknowledgement() {
+    messageResponseMatcher = windowedMatcher(2);
+    Order orderNone = new Order("", 0L, List.of(), List.of());
+    Order update0 = new Order("order1", 0L, List.of(), List.of());
+    Order update1 = new Order("order1", 1L, List.of(), List.of());
+
+    messageResponseMatcher.enqueueCommand(update0, dummyCommand);
+    messageResponseMatcher.enqueueCommand(update1, dummyCommand);
+    messageResponseMatcher.onStateMessage(stateAcceptingOrder(orderNone));
+
+    verify(sendOrderCallback, times(1)).accept(update0);
+    verify(sendOrderCallback, times(1)).accept(update1);
+
+    messageResponseMatcher.onStateMessage(stateAcceptingOrder(orderNone));
+
+    InOrder inOrder = inOrder(sendOrderCallback);
+    inOrder.verify(sendOrderCallback, times(1)).accept(update0);
+    inOrder.verify(sendOrderCallback, times(1)).accept(update1);
+    inOrder.verify(sendOrderCallback, times(1)).accept(update0);
+    inOrder.verify(sendOrderCallback, times(1)).accept(update1);
+  }
+
+  @Test
+  public void sendOrderUpdatesOneByOneAfterRejection() {
+    messageResponseMatcher = windowedMatcher(3);
+    Order update0 = new Order("order1", 0L, List.of(), List.of());
+    Order update1 = new Order("order1", 1L, List.of(), List.of());
+    Order update2 = new Order("order1", 2L, List.of(), List.of());
+    messageResponseMatcher.enqueueCommand(update0, dummyCommand);
+    messageResponseMatcher.enqueueCommand(update1, dummyCommand);
+    messageResponseMatcher.enqueueCommand(update2, dummyCommand);
+
+    State rejectingState = stateAcceptingOrder(update0);
+    rejectingState.setErrors(List.of(new ErrorEntry(ORDER_UPDATE_ERROR, ErrorLevel.WARNING)));
+    messageResponseMatcher.onStateMessage(rejectingState);
+    messageResponseMatcher.onStateMessage(stateAcceptingOrder(update0));
+
+    // Only the next update is sent (again) after the acknowledgement of the first one.
+    verify(sendOrderCallback, times(2)).accept(update1);
+    verify(sendOrderCallback, times(1)).accept(update2);
+
+    messageResponseMatcher.onStateMessage(stateAcceptingOrder(update1));
+
+    verify(sendOrderCallback, times(2)).accept(update2);
+  }
+
+  @Test
+  public void coalescePendingOrderUpdatesOfSameOrder() {
+    messageResponseMatcher = coalescingMatcher();
+    Order update0 = orderUpdate(0);
+    Order update1 = orderUpdate(1);
+    Order update2 = orderUpdateWithHorizon(2);
+
+    messageResponseMatcher.enqueueCommand(update0, dummyCommand);
+    messageResponseMatcher.enqueueCommand(update1, dummyCommand);
+    messageResponseMatcher.enqueueCommand(update2, dummyCommand);
+    messageResponseMatcher.onStateMessage(stateAcceptingOrder(update0));
+
+    ArgumentCaptor<Order> orderCapture = ArgumentCaptor.forClass(Order.class);
+    verify(sendOrderCallback, times(2)).accept(orderCapture.capture());
+    Order coalescedUpdate = orderCapture.getAllValues().get(1);
+    assertThat(coalescedUpdate.getOrderId(), is("order1"));
+    assertThat(coalescedUpdate.getOrderUpdateId(), is(2L));
+    assertThat(
+        coalescedUpdate.getNodes().stream().map(Node::getNodeId).toList(),
+        is(List.of("point-1", "point-2", "point-3", "point-4"))
+    );
+    assertThat(
+        coalescedUpdate.getNodes().stream().map(Node::isReleased).toList(),
+        is(List.of(true, true, true, false))
+    );
+    assertThat(
+        coalescedUpdate.getEdges().stream().map(Edge::getEdgeId).toList(),
+        is(List.of("point-1 --- point-2", "point-2 --- point-3", "point-3 --- point-4"))
+    );
+  }
+
+  @Test
+  public void reportEveryCoalescedOrderUpdateAsAccepted() {
+    messageResponseMatcher = coalescingMatcher();
+    MovementCommand command0 = mock(MovementCommand.class);
+    MovementCommand command1 = mock(MovementCommand.class);
+    MovementCommand command2 = mock(MovementCommand.class);
+
+    messageResponseMatcher.enqueueCommand(orderUpdate(0), command0);
+    messageResponseMatcher.enqueueCommand(orderUpdate(1), command1);
+    messageResponseMatcher.enqueueCommand(orderUpdate(2), command2);
+    messageResponseMatcher.onStateMessage(stateAcceptingOrder(orderUpdate(0)));
+    messageResponseMatcher.onStateMessage(stateAcceptingOrder(orderUpdate(2)));
+
+    ArgumentCaptor<OrderAssociation> callbackCapture
+        = ArgumentCaptor.forClass(OrderAssociation.class);
+    verify(orderAcceptedCallback, times(3)).accept(callbackCapture.capture());
+    assertThat(
+        callbackCapture.getAllValues().stream().map(OrderAssociation::getCommand).toList(),
+        is(List.of(command0, command1, command2))
+    );
+  }
+
+  @Test
+  public void doNotCoalesceOrderUpdateInFlight() {
+    messageResponseMatcher = coalescingMatcher();
+    Order update0 = orderUpdate(0);
+    Order update1 = orderUpdate(1);
+
+    messageResponseMatcher.enqueueCommand(update0, dummyCommand);
+    messageResponseMatcher.enqueueCommand(update1, dummyCommand);
+    messageResponseMatcher.onStateMessage(stateAcceptingOrder(update0));
+
+    verify(sendOrderCallback, times(1)).accept(update0);
+    verify(sendOrderCallback, times(1)).accept(update1);
+  }
+
+  @Test
+  public void doNotCoalesceOrderUpdatesOfDifferentOrders() {
+    messageResponseMatcher = coalescingMatcher();
+    Order order1 = orderUpdate(0);
+    Order order2 = new Order("order2", 0L, List.of(), List.of());
+    Order order3 = new Order("order3", 0L, List.of(), List.of());
+
+    messageResponseMatcher.enqueueCommand(order1, dummyCommand);
+    messageResponseMatcher.enqueueCommand(order2, dummyCommand);
+    messageResponseMatcher.enqueueCommand(order3, dummyCommand);
+    messageResponseMatcher.onStateMessage(stateAcceptingOrder(order1));
+    messageResponseMatcher.onStateMessage(stateAcceptingOrder(order2));
+
+    verify(sendOrderCallback, times(1)).accept(order2);
+    verify(sendOrderCallback, times(1)).accept(order3);
+  }
+
+  @Test
+  public void doNotResendOnStateMessagesWithResendTimer() {
+    ResendTimer resendTimer = mock(ResendTimer.class);
+    messageResponseMatcher = resendTimerMatcher(resendTimer);
+    Order orderNone = new Order("", 0L, List.of(), List.of());
+    Order order1 = new Order("order1", 0L, List.of(), List.of());
+
+    messageResponseMatcher.enqueueCommand(order1, dummyCommand);
+    messageResponseMatcher.onStateMessage(stateAcceptingOrder(orderNone));
+    messageResponseMatcher.onStateMessage(stateAcceptingOrder(orderNone));
+
+    verify(sendOrderCallback, times(1)).accept(order1);
+    verify(resendTimer, times(1)).schedule(any());
+  }
+
+  @Test
+  public void resendWhenResendTimerExpires() {
+    ResendTimer resendTimer = mock(ResendTimer.class);
+    List<Runnable> resendActions = new ArrayList<>();
+    doAnswer(invocation -> resendActions.add(invocation.getArgument(0)))
+        .when(resendTimer).schedule(any());
+    messageResponseMatcher = resendTimerMatcher(resendTimer);
+    Order order1 = new Order("order1", 0L, List.of(), List.of());
+
+    messageResponseMatcher.enqueueCommand(order1, dummyCommand);
+    resendActions.get(0).run();
+    resendActions.get(0).run();
+
+    verify(sendOrderCallback, times(3)).accept(order1);
+    assertThat(messageResponseMatcher.getResendCount(), is(2L));
+  }
+
+  @Test
+  public void cancelResendsWhenRequestAcknowledged() {
+    ResendTimer resendTimer = mock(ResendTimer.class);
+    messageResponseMatcher = resendTimerMatcher(resendTimer);
+    Order order1 = new Order("order1", 0L, List.of(), List.of());
+    Order order2 = new Order("order2", 0L, List.of(), List.of());
+
+    messageResponseMatcher.enqueueCommand(order1, dummyCommand);
+    messageResponseMatcher.enqueueCommand(order2, dummyCommand);
+    messageResponseMatcher.onStateMessage(stateAcceptingOrder(order1));
+
+    // The timer is restarted for the next request.
+    verify(resendTimer, times(1)).cancel();
+    verify(resendTimer, times(2)).schedule(any());
+    assertThat(messageResponseMatcher.getAcknowledgementLatencies().getCount(), is(1L));
+
+    messageResponseMatcher.onStateMessage(stateAcceptingOrder(order2));
+
+    verify(resendTimer, times(2)).cancel();
+    verify(resendTimer, times(2)).schedule(any());
+  }
+
+  @Test
+  public void cancelResendsWhenRequestRejected() {
+    ResendTimer resendTimer = mock(ResendTimer.class);
+    messageResponseMatcher = resendTimerMatcher(resendTimer);
+    Order order1 = new Order("order1", 0L, List.of(), List.of());
+
+    messageResponseMatcher.enqueueCommand(order1, dummyCommand);
+    State state = stateAcceptingOrder(order1);
+    state.setErrors(List.of(new ErrorEntry(ORDER_ERROR, ErrorLevel.WARNING)));
+    messageResponseMatcher.onStateMessage(state);
+
+    verify(resendTimer, times(1)).cancel();
+  }
+
+  @Test
+  public void mergePendingInstantActions() {
+    messageResponseMatcher = mergingMatcher(0, null);
+    Order order1 = new Order("order1", 0L, List.of(), List.of());
+    Order order2 = new Order("order2", 0L, List.of(), List.of());
+
+    messageResponseMatcher.enqueueCommand(order1, dummyCommand);
+    messageResponseMatcher.enqueueAction(instantActions(Pick.ACTION_TYPE, "action1"));
+    messageResponseMatcher.enqueueAction(instantActions(Drop.ACTION_TYPE, "action2"));
+    messageResponseMatcher.onStateMessage(stateAcceptingOrder(order1));
+
+    ArgumentCaptor<InstantActions> actionsCapture = ArgumentCaptor.forClass(InstantActions.class);
+    verify(sendInstantActionsCallback, times(1)).accept(actionsCapture.capture());
+    InstantActions mergedActions = actionsCapture.getValue();
+    assertThat(
+        mergedActions.getInstantActions().stream().map(Action::getActionId).toList(),
+        is(List.of("action1", "action2"))
+    );
+
+    // The merged message is acknowledged once the vehicle reflects all of its actions.
+    messageResponseMatcher.enqueueCommand(order2, dummyCommand);
+    State state = newState();
+    state.getActionStates().add(new ActionState("action1", ActionStatus.WAITING));
+    messageResponseMatcher.onStateMessage(state);
+
+    verify(sendOrderCallback, never()).accept(order2);
+
+    messageResponseMatcher.onStateMessage(stateAcceptingInstantAction(mergedActions));
+
+    verify(sendOrderCallback, times(1)).accept(order2);
+  }
+
+  @Test
+  public void doNotMergeInstantActionsInFlight() {
+    messageResponseMatcher = mergingMatcher(0, null);
+    InstantActions action1 = instantActions(Pick.ACTION_TYPE, "action1");
+    InstantActions action2 = instantActions(Drop.ACTION_TYPE, "action2");
+
+    messageResponseMatcher.enqueueAction(action1);
+    messageResponseMatcher.enqueueAction(action2);
+    messageResponseMatcher.onStateMessage(stateAcceptingInstantAction(action1));
+
+    verify(sendInstantActionsCallback, times(1)).accept(action1);
+    verify(sendInstantActionsCallback, times(1)).accept(action2);
+  }
+
+  @Test
+  public void doNotMergeInstantActionsWithPendingCancelOrder() {
+    messageResponseMatcher = mergingMatcher(0, null);
+    Order order1 = new Order("order1", 0L, List.of(), List.of());
+    InstantActions cancel = instantActions(CancelOrder.ACTION_TYPE, "cancel1");
+    InstantActions action1 = instantActions(Pick.ACTION_TYPE, "action1");
+
+    messageResponseMatcher.enqueueCommand(order1, dummyCommand);
+    messageResponseMatcher.enqueueAction(cancel);
+    messageResponseMatcher.enqueueAction(action1);
+    messageResponseMatcher.onStateMessage(stateAcceptingOrder(order1));
+
+    verify(sendInstantActionsCallback, times(1)).accept(cancel);
+    verify(sendInstantActionsCallback, never()).accept(action1);
+  }
+
+  @Test
+  public void holdBackInstantActionsForLingerTime() {
+    ScheduledExecutorService executor = mock(ScheduledExecutorService.class);
+    List<Runnable> scheduledTasks = new ArrayList<>();
+    when(executor.schedule(any(Runnable.class), eq(50L), eq(TimeUnit.MILLISECONDS)))
+        .thenAnswer(invocation -> {
+          scheduledTasks.add(invocation.getArgument(0));
+          return mock(ScheduledFuture.class);
+        });
+    messageResponseMatcher = mergingMatcher(50, executor);
+
+    messageResponseMatcher.enqueueAction(instantActions(Pick.ACTION_TYPE, "action1"));
+    messageResponseMatcher.enqueueAction(instantActions(Drop.ACTION_TYPE, "action2"));
+    messageResponseMatcher.onStateMessage(newState());
+
+    verify(sendInstantActionsCallback, never()).accept(any());
+
+    scheduledTasks.forEach(Runnable::run);
+
+    ArgumentCaptor<InstantActions> actionsCapture = ArgumentCaptor.forClass(InstantActions.class);
+    verify(sendInstantActionsCallback, times(1)).accept(actionsCapture.capture());
+    assertThat(
+        actionsCapture.getValue().getInstantActions().stream().map(Action::getActionId).toList(),
+        is(List.of("action1", "action2"))
+    );
+  }
+
   @ParameterizedTest
   @EnumSource(value = OperatingMode.class, names = {"TEACHIN", "MANUAL", "SERVICE"})
   public void shouldNotSendWhenNotInAutomaticModes(OperatingMode mode) {
@@ -426,6 +907,179 @@ public class MessageResponseMatcherTest {
     return state;
   }
 
+  private MessageResponseMatcher windowedMatcher(int maxOrderUpdatesInFlight) {
+    MessageResponseMatcher matcher = new MessageResponseMatcher(
+        "test",
+        sendOrderCallback,
+        sendInstantActionsCallback,
+        orderAcceptedCallback,
+        0,
+        maxOrderUpdatesInFlight,
+        false,
+        Set.of(),
+        null,
+        null,
+        false,
+        0,
+        null
+    );
+    matcher.onStateMessage(newState());
+    return matcher;
+  }
+
+  private MessageResponseMatcher coalescingMatcher() {
+    MessageResponseMatcher matcher = new MessageResponseMatcher(
+        "test",
+        sendOrderCallback,
+        sendInstantActionsCallback,
+        orderAcceptedCallback,
+        0,
+        1,
+        true,
+        Set.of(),
+        null,
+        null,
+        false,
+        0,
+        null
+    );
+    matcher.onStateMessage(newState());
+    return matcher;
+  }
+
+  /**
+   * Creates an update of "order1" releasing the step from point-{orderUpdateId} to
+   * point-{orderUpdateId + 1}.
+   */
+  private Order orderUpdate(long orderUpdateId) {
+    return new Order(
+        "order1",
+        orderUpdateId,
+        List.of(node(orderUpdateId, true), node(orderUpdateId + 1, true)),
+        List.of(edge(orderUpdateId, true))
+    );
+  }
+
+  /**
+   * Creates an update of "order1" like {@link #orderUpdate(long)}, with a horizon of one step.
+   */
+  private Order orderUpdateWithHorizon(long orderUpdateId) {
+    return new Order(
+        "order1",
+        orderUpdateId,
+        List.of(
+            node(orderUpdateId, true),
+            node(orderUpdateId + 1, true),
+            node(orderUpdateId + 2, false)
+        ),
+        List.of(edge(orderUpdateId, true), edge(orderUpdateId + 1, false))
+    );
+  }
+
+  private Node node(long index, boolean released) {
+    return new Node("point-" + index, index * 2, released, List.of());
+  }
+
+  private Edge edge(long startIndex, boolean released) {
+    return new Edge(
+        "point-" + startIndex + " --- point-" + (startIndex + 1),
+        startIndex * 2 + 1,
+        released,
+        "point-" + startIndex,
+        "point-" + (startIndex + 1),
+        List.of()
+    );
+  }
+
+  private MessageResponseMatcher priorityMatcher() {
+    MessageResponseMatcher matcher = new MessageResponseMatcher(
+        "test",
+        sendOrderCallback,
+        sendInstantActionsCallback,
+        orderAcceptedCallback,
+        0,
+        1,
+        false,
+        Set.of(StartPause.ACTION_TYPE, StopPause.ACTION_TYPE, CancelOrder.ACTION_TYPE),
+        null,
+        null,
+        false,
+        0,
+        null
+    );
+    matcher.onStateMessage(newState());
+    return matcher;
+  }
+
+  private MessageResponseMatcher priorityResendTimerMatcher(ResendTimer priorityResendTimer) {
+    MessageResponseMatcher matcher = new MessageResponseMatcher(
+        "test",
+        sendOrderCallback,
+        sendInstantActionsCallback,
+        orderAcceptedCallback,
+        0,
+        1,
+        false,
+        Set.of(StartPause.ACTION_TYPE, StopPause.ACTION_TYPE, CancelOrder.ACTION_TYPE),
+        null,
+        priorityResendTimer,
+        false,
+        0,
+        null
+    );
+    matcher.onStateMessage(newState());
+    return matcher;
+  }
+
+  private InstantActions instantActions(String actionType, String actionId) {
+    InstantActions instantActions = new InstantActions();
+    instantActions.setInstantActions(List.of(new Action(actionType, actionId, BlockingType.NONE)));
+    return instantActions;
+  }
+
+  private MessageResponseMatcher resendTimerMatcher(ResendTimer resendTimer) {
+    MessageResponseMatcher matcher = new MessageResponseMatcher(
+        "test",
+        sendOrderCallback,
+        sendInstantActionsCallback,
+        orderAcceptedCallback,
+        0,
+        1,
+        false,
+        Set.of(),
+        resendTimer,
+        null,
+        false,
+        0,
+        null
+    );
+    matcher.onStateMessage(newState());
+    return matcher;
+  }
+
+  private MessageResponseMatcher mergingMatcher(
+      long instantActionsLingerTime,
+      ScheduledExecutorService executor
+  ) {
+    MessageResponseMatcher matcher = new MessageResponseMatcher(
+        "test",
+        sendOrderCallback,
+        sendInstantActionsCallback,
+        orderAcceptedCallback,
+        0,
+        1,
+        false,
+        Set.of(),
+        null,
+        null,
+        true,
+        instantActionsLingerTime,
+        executor
+    );
+    matcher.onStateMessage(newState());
+    return matcher;
+  }
+
   private State newState() {
     return new State(
         "",
@@ -42,7 +42,7 @@ public class ConnectionTest {
 
   @Test
   public void jsonSample() {
-    Approvals.verify(jsonBinder.toJson(connection));
+    Approvals.verify(jsonBinder.toPrettyJson(connection));
   }
 
 }
@@ -60,12 +60,12 @@ public class OrderTest {
 
   @Test
   public void jsonSampleMinimal() {
-    Approvals.verify(jsonBinder.toJson(createOrderMinimal()));
+    Approvals.verify(jsonBinder.toPrettyJson(createOrderMinimal()));
   }
 
   @Test
   public void jsonSampleFull() {
-    Approvals.verify(jsonBinder.toJson(createOrderFull()));
+    Approvals.verify(jsonBinder.toPrettyJson(createOrderFull()));
   }
 
   private static Order createOrderMinimal() {
@@ -56,7 +56,7 @@ public class VisualizationTest {
   @Test
   public void deserializeJsonWithNullForOptionalFields() {
     Approvals.verify(
-        jsonBinder.toJson(
+        jsonBinder.toPrettyJson(
             jsonBinder.fromJson(
                 ResourceLoader.load(
                     RESOURCE_DIR + "visualizationMessageWithNullForOptionalFields.json"
@@ -80,7 +80,7 @@ public class VisualizationTest {
   @Test
   public void deserializeJsonWithNullForOptionalRootFields() {
     Approvals.verify(
-        jsonBinder.toJson(
+        jsonBinder.toPrettyJson(
             jsonBinder.fromJson(
                 ResourceLoader.load(
                     RESOURCE_DIR + "visualizationMessageWithNullForOptionalRootFields.json"
@@ -93,12 +93,12 @@ public class VisualizationTest {
 
   @Test
   public void jsonSampleMinimal() {
-    Approvals.verify(jsonBinder.toJson(createVisualizationMinimal()));
+    Approvals.verify(jsonBinder.toPrettyJson(createVisualizationMinimal()));
   }
 
   @Test
   public void jsonSampleFull() {
-    Approvals.verify(jsonBinder.toJson(createVisualizationFull()));
+    Approvals.verify(jsonBinder.toPrettyJson(createVisualizationFull()));
   }
 
   private Visualization createVisualizationMinimal() {
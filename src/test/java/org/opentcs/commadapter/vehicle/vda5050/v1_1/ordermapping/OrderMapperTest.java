@@ -7,20 +7,34 @@ import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opentcs.commadapter.vehicle.vda5050.v1_1.ObjectProperties.PROPKEY_CUSTOM_ACTION_PREFIX;
 import static org.opentcs.commadapter.vehicle.vda5050.v1_1.ObjectProperties.PROPKEY_CUSTOM_DEST_ACTION_PREFIX;
 import static org.opentcs.commadapter.vehicle.vda5050.v1_1.ObjectProperties.PROPKEY_EXECUTABLE_ACTIONS_TAGS;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.IntSummaryStatistics;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.opentcs.commadapter.vehicle.vda5050.common.JsonBinder;
+import org.opentcs.commadapter.vehicle.vda5050.common.KernelObjectCache;
 import org.opentcs.commadapter.vehicle.vda5050.v1_1.DeviationExtensionTrigger;
 import org.opentcs.commadapter.vehicle.vda5050.v1_1.ObjectProperties;
 import org.opentcs.commadapter.vehicle.vda5050.v1_1.message.order.Node;
@@ -39,6 +53,7 @@ import org.opentcs.data.order.Route;
 import org.opentcs.data.order.Route.Step;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.drivers.vehicle.MovementCommand;
+import org.opentcs.util.event.EventSource;
 
 /**
  * Unit tests for {@link OrderMapper}.
@@ -81,8 +96,9 @@ public class OrderMapperTest {
         vehicle.getReference(),
         s -> true,
         new DeviationExtensionTrigger(vehicle),
-        objectService,
-        new NodeMapping()
+        new KernelObjectCache(objectService, mock(EventSource.class)),
+        new NodeMapping(),
+        new PropertyActionsCache()
     );
   }
 
@@ -229,8 +245,9 @@ public class OrderMapperTest {
         vehicle.getReference(),
         new ExecutableActionsTagsPredicate(vehicle),
         new DeviationExtensionTrigger(vehicle),
-        objectService,
-        new NodeMapping()
+        new KernelObjectCache(objectService, mock(EventSource.class)),
+        new NodeMapping(),
+        new PropertyActionsCache()
     );
 
     // setup a movement command
@@ -441,6 +458,257 @@ public class OrderMapperTest {
     assertThat(order.getEdges().get(1).isReleased(), is(false));
   }
 
+  @Test
+  public void takeHorizonOfSubsequentOrdersFromMappedRoute() {
+    Route route = createRoute(
+        new Point("Point-0001"),
+        new Point("Point-0002"),
+        new Point("Point-0003"),
+        new Point("Point-0004"),
+        new Point("Point-0005")
+    );
+
+    Order orderOne = mapper.toOrder(createMovementCommandWithRoute(route, 0));
+    Order orderTwo = mapper.toOrder(createMovementCommandWithRoute(route, 1));
+
+    assertThat(orderTwo.getNodes().size(), is(4));
+    assertThat(orderTwo.getEdges().size(), is(3));
+    assertThat(orderTwo.getNodes().get(2), is(sameInstance(orderOne.getNodes().get(3))));
+    assertThat(orderTwo.getEdges().get(1), is(sameInstance(orderOne.getEdges().get(2))));
+    assertThat(orderTwo.getEdges().get(2), is(sameInstance(orderOne.getEdges().get(3))));
+    // The base edge is a released copy of the edge previously sent as part of the horizon.
+    assertThat(orderTwo.getEdges().get(0).getEdgeId(), is("path-0002"));
+    assertThat(orderTwo.getEdges().get(0).isReleased(), is(true));
+    assertThat(orderOne.getEdges().get(1).isReleased(), is(false));
+  }
+
+  @Test
+  public void mapHorizonAgainIfRouteChanged() {
+    Point p1 = new Point("Point-0001");
+    Point p2 = new Point("Point-0002");
+    Route route = createRoute(p1, p2, new Point("Point-0003"), new Point("Point-0004"));
+    Route changedRoute = createRoute(p1, p2, new Point("Point-0005"), new Point("Point-0006"));
+
+    mapper.toOrder(createMovementCommandWithRoute(route, 0));
+    Order order = mapper.toOrder(createMovementCommandWithRoute(changedRoute, 1));
+
+    assertThat(order.getNodes().size(), is(3));
+    assertThat(order.getNodes().get(1).getNodeId(), is("Point-0005"));
+    assertThat(order.getNodes().get(2).getNodeId(), is("Point-0006"));
+    assertThat(order.getEdges().get(1).getEdgeId(), is("path-0003"));
+    assertThat(order.getEdges().get(1).getEndNodeId(), is("Point-0006"));
+  }
+
+  @Test
+  public void limitHorizonByDistance() {
+    setVehicleProperty(ObjectProperties.PROPKEY_VEHICLE_MAX_DISTANCE_HORIZON, "2500");
+
+    Order order = mapper.toOrder(createMovementCommandWithRoute(createRouteOfLength(6), 0));
+
+    // Steps are added until the distance is covered, so the horizon covers 3000 mm.
+    assertThat(order.getEdges(), hasSize(4));
+    assertThat(order.getNodes(), hasSize(5));
+    assertThat(order.getNodes().get(4).getNodeId(), is("Point-0005"));
+  }
+
+  @Test
+  public void limitHorizonByTravelTime() {
+    setVehicleProperty(ObjectProperties.PROPKEY_VEHICLE_MAX_TRAVEL_TIME_HORIZON, "1500");
+
+    // Every path takes 1000 ms at 1000 mm/s.
+    Order order = mapper.toOrder(createMovementCommandWithRoute(createRouteOfLength(6), 0));
+
+    assertThat(order.getEdges(), hasSize(3));
+    assertThat(order.getNodes(), hasSize(4));
+  }
+
+  @Test
+  public void limitHorizonByOrderSize() {
+    MovementCommand command = createMovementCommandWithRoute(createRouteOfLength(6), 0);
+    Order unlimitedOrder = mapper.toOrder(command);
+    int unlimitedOrderSize = new JsonBinder().toJson(unlimitedOrder).length();
+
+    // With the size reserved for the header, the complete horizon does not fit anymore.
+    setVehicleProperty(
+        ObjectProperties.PROPKEY_VEHICLE_MAX_ORDER_SIZE,
+        String.valueOf(unlimitedOrderSize)
+    );
+    Order limitedOrder = createMapper(new NodeMapping()).toOrder(command);
+
+    assertThat(limitedOrder.getEdges().size(), is(greaterThan(1)));
+    assertThat(limitedOrder.getEdges().size(), is(lessThan(unlimitedOrder.getEdges().size())));
+    assertThat(
+        new JsonBinder().toJson(limitedOrder).length(),
+        is(lessThanOrEqualTo(unlimitedOrderSize))
+    );
+  }
+
+  @Test
+  public void omitHorizonIfOrderSizeIsExceededWithoutIt() {
+    setVehicleProperty(ObjectProperties.PROPKEY_VEHICLE_MAX_ORDER_SIZE, "1");
+
+    Order order = mapper.toOrder(createMovementCommandWithRoute(createRouteOfLength(6), 0));
+
+    assertThat(order.getEdges(), hasSize(1));
+    assertThat(order.getNodes(), hasSize(2));
+  }
+
+  @Test
+  public void provideStatisticsAboutHorizonLengths() {
+    Route route = createRouteOfLength(4);
+
+    mapper.toOrder(createMovementCommandWithRoute(route, 0));
+    mapper.toOrder(createMovementCommandWithRoute(route, 1));
+
+    IntSummaryStatistics horizonLengths = mapper.getHorizonLengths();
+    assertThat(horizonLengths.getCount(), is(2L));
+    assertThat(horizonLengths.getMax(), is(2));
+    assertThat(horizonLengths.getMin(), is(1));
+  }
+
+  @Test
+  public void useOrdersMappedInAdvance() {
+    NodeMapping nodeMapping = spy(new NodeMapping());
+    mapper = createMapper(nodeMapping);
+    Route route = createRoute(
+        new Point("Point-0001"),
+        new Point("Point-0002"),
+        new Point("Point-0003"),
+        new Point("Point-0004")
+    );
+    MovementCommand commandOne = createMovementCommandWithRoute(route, 0);
+    MovementCommand commandTwo = createMovementCommandWithRoute(route, 1);
+    MovementCommand commandThree = createMovementCommandWithRoute(route, 2);
+
+    Order orderOne = mapper.toOrder(commandOne);
+    mapper.premap(List.of(commandOne, commandTwo, commandThree));
+    clearInvocations(nodeMapping);
+
+    Order orderTwo = mapper.toOrder(commandTwo);
+    Order orderThree = mapper.toOrder(commandThree);
+
+    verify(nodeMapping, never()).toBaseNode(any(), anyLong(), any(), any(), any(), anyBoolean());
+    assertThat(orderTwo.getNodes().get(0), is(sameInstance(orderOne.getNodes().get(1))));
+    assertThat(orderThree.getNodes().get(0), is(sameInstance(orderTwo.getNodes().get(1))));
+    assertThat(orderThree.getNodes().get(1).getNodeId(), is("Point-0004"));
+    assertThat(orderThree.getOrderUpdateId(), is(2L));
+  }
+
+  @Test
+  public void mapCommandAgainIfVehicleChangedSinceMappedInAdvance() {
+    NodeMapping nodeMapping = spy(new NodeMapping());
+    mapper = createMapper(nodeMapping);
+    Route route = createRoute(
+        new Point("Point-0001"),
+        new Point("Point-0002"),
+        new Point("Point-0003")
+    );
+    MovementCommand commandTwo = createMovementCommandWithRoute(route, 1);
+
+    mapper.toOrder(createMovementCommandWithRoute(route, 0));
+    mapper.premap(List.of(commandTwo));
+    when(objectService.fetch(Vehicle.class, vehicle.getReference()))
+        .thenReturn(
+            Optional.of(vehicle.withProperty(ObjectProperties.PROPKEY_VEHICLE_DEVIATION_XY, "1.0"))
+        );
+    clearInvocations(nodeMapping);
+
+    Order orderTwo = mapper.toOrder(commandTwo);
+
+    verify(nodeMapping).toBaseNode(any(), anyLong(), any(), any(), any(), anyBoolean());
+    assertThat(orderTwo.getNodes().get(1).getNodePosition().getAllowedDeviationXY(), is(1.0));
+  }
+
+  @Test
+  public void discardOrdersMappedInAdvanceIfCommandMappedMeanwhile() {
+    NodeMapping nodeMapping = spy(new NodeMapping());
+    mapper = createMapper(nodeMapping);
+    Route route = createRoute(
+        new Point("Point-0001"),
+        new Point("Point-0002"),
+        new Point("Point-0003"),
+        new Point("Point-0004")
+    );
+    MovementCommand commandOne = createMovementCommandWithRoute(route, 0);
+    MovementCommand commandTwo = createMovementCommandWithRoute(route, 1);
+    MovementCommand commandThree = createMovementCommandWithRoute(route, 2);
+    boolean[] mappedMeanwhile = {false};
+
+    mapper.toOrder(commandOne);
+    // Map the next command while the mapper is mapping in advance, based on command one.
+    when(objectService.fetch(TransportOrder.class, transportOrder.getReference()))
+        .thenAnswer(invocation -> {
+          if (!mappedMeanwhile[0]) {
+            mappedMeanwhile[0] = true;
+            mapper.toOrder(commandTwo);
+          }
+          return Optional.of(transportOrder);
+        });
+    mapper.premap(List.of(commandOne, commandTwo, commandThree));
+    clearInvocations(nodeMapping);
+
+    Order orderThree = mapper.toOrder(commandThree);
+
+    verify(nodeMapping).toBaseNode(any(), anyLong(), any(), any(), any(), anyBoolean());
+    assertThat(orderThree.getNodes().get(1).getNodeId(), is("Point-0004"));
+    assertThat(orderThree.getOrderUpdateId(), is(2L));
+  }
+
+  private OrderMapper createMapper(NodeMapping nodeMapping) {
+    return new OrderMapper(
+        vehicle.getReference(),
+        s -> true,
+        new DeviationExtensionTrigger(vehicle),
+        new KernelObjectCache(objectService, mock(EventSource.class)),
+        nodeMapping,
+        new PropertyActionsCache()
+    );
+  }
+
+  private void setVehicleProperty(String key, String value) {
+    vehicle = vehicle.withProperty(key, value);
+    when(objectService.fetch(Vehicle.class, vehicle.getReference()))
+        .thenReturn(Optional.of(vehicle));
+  }
+
+  private Route createRouteOfLength(int pointCount) {
+    List<Step> steps = new ArrayList<>();
+    for (Step step : createRoute(createPoints(pointCount)).getSteps()) {
+      steps.add(
+          new Step(
+              step.getPath().withLength(1000).withMaxVelocity(1000),
+              step.getSourcePoint(),
+              step.getDestinationPoint(),
+              step.getVehicleOrientation(),
+              step.getRouteIndex(),
+              1
+          )
+      );
+    }
+    return new Route(steps);
+  }
+
+  private Point[] createPoints(int count) {
+    Point[] points = new Point[count];
+    for (int i = 0; i < count; i++) {
+      points[i] = new Point(String.format("Point-%04d", i + 1));
+    }
+    return points;
+  }
+
+  private Route createRoute(Point... points) {
+    List<Step> steps = new ArrayList<>();
+    for (int i = 0; i < points.length - 1; i++) {
+      Path path = new Path(
+          String.format("path-%04d", i + 1),
+          points[i].getReference(),
+          points[i + 1].getReference()
+      );
+      steps.add(new Step(path, points[i], points[i + 1], Orientation.FORWARD, i, 1));
+    }
+    return new Route(steps);
+  }
+
   private MovementCommand createMovementCommandWithStep(Step step) {
     return createBasicMovementCommand(null, new Point("dest"), 1000, 500, 0, false)
         .withStep(step)
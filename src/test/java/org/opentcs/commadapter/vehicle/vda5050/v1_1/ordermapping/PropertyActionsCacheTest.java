@@ -0,0 +1,86 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.commadapter.vehicle.vda5050.v1_1.ordermapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.opentcs.commadapter.vehicle.vda5050.v1_1.ObjectProperties.PROPKEY_CUSTOM_ACTION_PREFIX;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.data.model.Point;
+
+/**
+ * Unit tests for {@link PropertyActionsCache}.
+ */
+class PropertyActionsCacheTest {
+
+  private PropertyActionsCache cache;
+
+  @BeforeEach
+  void setUp() {
+    cache = new PropertyActionsCache();
+  }
+
+  @Test
+  void returnPropertyActionsOfResource() {
+    Point point = new Point("point-001")
+        .withProperty(PROPKEY_CUSTOM_ACTION_PREFIX + ".b", "quack")
+        .withProperty(PROPKEY_CUSTOM_ACTION_PREFIX + ".a", "beep")
+        .withProperty(PROPKEY_CUSTOM_ACTION_PREFIX + ".a.parameter.volume", "integer:11");
+
+    List<PropertyAction> propertyActions = cache.getPropertyActions(point);
+
+    assertThat(propertyActions)
+        .extracting(PropertyAction::getActionType, PropertyAction::getActionId)
+        .containsExactly(
+            tuple("beep", "point-001_action_0"),
+            tuple("quack", "point-001_action_1")
+        );
+    assertThat(propertyActions.get(0).getActionParameters())
+        .singleElement()
+        .satisfies(parameter -> {
+          assertThat(parameter.getKey()).isEqualTo("volume");
+          assertThat(parameter.getValue()).isEqualTo(11L);
+        });
+  }
+
+  @Test
+  void parsePropertyActionsOnlyOnce() {
+    Point point = new Point("point-001")
+        .withProperty(PROPKEY_CUSTOM_ACTION_PREFIX + ".a", "beep");
+
+    List<PropertyAction> first = cache.getPropertyActions(point);
+    List<PropertyAction> second = cache.getPropertyActions(point);
+
+    assertThat(second).isSameAs(first);
+    assertThat(cache.size()).isEqualTo(1);
+  }
+
+  @Test
+  void parsePropertyActionsAgainIfPropertiesChanged() {
+    Point point = new Point("point-001")
+        .withProperty(PROPKEY_CUSTOM_ACTION_PREFIX + ".a", "beep");
+    cache.getPropertyActions(point);
+
+    List<PropertyAction> propertyActions = cache.getPropertyActions(
+        point.withProperty(PROPKEY_CUSTOM_ACTION_PREFIX + ".a", "honk")
+    );
+
+    assertThat(propertyActions)
+        .extracting(PropertyAction::getActionType)
+        .containsExactly("honk");
+    assertThat(cache.size()).isEqualTo(1);
+  }
+
+  @Test
+  void forgetAllEntriesWhenCleared() {
+    cache.getPropertyActions(new Point("point-001"));
+    cache.getPropertyActions(new Point("point-002"));
+
+    cache.clear();
+
+    assertThat(cache.size()).isZero();
+  }
+}
@@ -2,12 +2,16 @@
 // SPDX-License-Identifier: MIT
 package org.opentcs.commadapter.vehicle.vda5050.v2_0;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.opentcs.commadapter.vehicle.vda5050.v2_0.message.connection.Connection;
+import org.opentcs.commadapter.vehicle.vda5050.v2_0.message.state.State;
 
 /**
  * Unit tests for {@link MessageValidator}.
@@ -86,6 +90,71 @@ public class MessageValidatorTest {
     );
   }
 
+  @Test
+  public void handleUtf8EncodedMessage() {
+    assertDoesNotThrow(
+        () -> messageValidator.validate(
+            validConnectionMessage().getBytes(UTF_8),
+            Connection.class
+        )
+    );
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> messageValidator.validate(
+            connectionMessageWithNullConnectionState().getBytes(UTF_8),
+            Connection.class
+        )
+    );
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> messageValidator.validate(new byte[0], Connection.class)
+    );
+
+    assertDoesNotThrow(
+        () -> MessageValidator.ACCEPTING_ALL.validate(new byte[0], Connection.class)
+    );
+  }
+
+  @Test
+  public void validateEveryMessageByDefault() {
+    for (int i = 0; i < 5; i++) {
+      assertTrue(messageValidator.shouldValidate(Connection.class));
+    }
+  }
+
+  @Test
+  public void validateOnlySampledMessagesOfEachType() {
+    MessageValidator samplingValidator = MessageValidator.sampling(3);
+
+    assertTrue(samplingValidator.shouldValidate(State.class));
+    assertTrue(samplingValidator.shouldValidate(Connection.class));
+    assertFalse(samplingValidator.shouldValidate(State.class));
+    assertFalse(samplingValidator.shouldValidate(State.class));
+    assertFalse(samplingValidator.shouldValidate(Connection.class));
+    assertTrue(samplingValidator.shouldValidate(State.class));
+
+    // Sampled messages are still validated completely.
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> samplingValidator.validate(
+            connectionMessageWithNullConnectionState(),
+            Connection.class
+        )
+    );
+  }
+
+  @Test
+  public void rejectInvalidSampleInterval() {
+    assertThrows(IllegalArgumentException.class, () -> MessageValidator.sampling(0));
+  }
+
+  @Test
+  public void neverRequireValidationWhenAcceptingAll() {
+    assertFalse(MessageValidator.ACCEPTING_ALL.shouldValidate(Connection.class));
+  }
+
   private static String validConnectionMessage() {
     return """
         {
@@ -434,6 +434,35 @@ public class MovementCommandManagerTest {
     verify(callback, times(1)).accept(association.getCommand());
   }
 
+  @Test
+  public void finishFinalMovementWithProgressReportedAcrossStates() {
+    OrderAssociation association = new OrderBuilder(
+        "some-order-id",
+        "source-point",
+        "dest-point",
+        true
+    )
+        .withActionAtDestPoint("some-action-type", "some-action-id", BlockingType.NONE)
+        .build();
+    State stateWithActionFinished = new StateBuilder(association.getOrder().getOrderId())
+        .withNodeStatesFrom(association.getOrder())
+        .withActionStatesFrom(association.getOrder(), ActionStatus.FINISHED)
+        .build();
+    State stateWithNodesTraversed = new StateBuilder(association.getOrder().getOrderId())
+        .build();
+
+    // Elements reported as complete once stay complete, even if the vehicle no longer reports
+    // the finished action later on.
+    manager.enqueue(association);
+    manager.onStateMessage(stateWithActionFinished, callback);
+
+    verifyNoInteractions(callback);
+
+    manager.onStateMessage(stateWithNodesTraversed, callback);
+
+    verify(callback, times(1)).accept(association.getCommand());
+  }
+
   @ParameterizedTest
   @EnumSource(ActionStatus.class)
   public void finishFinalMovementWithUnrelatedAction(ActionStatus actionStatus) {
@@ -131,6 +131,62 @@ public class MqttSettingTest {
     );
   }
 
+  @Test
+  void deriveWildcardTopicFiltersFromInterface() {
+    Vehicle vehicle = new Vehicle("some-vehicle")
+        .withProperty(ObjectProperties.PROPKEY_VEHICLE_INTERFACE_NAME, "some-interface")
+        .withProperty(ObjectProperties.PROPKEY_VEHICLE_MANUFACTURER, "some-manufacturer")
+        .withProperty(ObjectProperties.PROPKEY_VEHICLE_SERIAL_NUMBER, "1234")
+        .withProperty(ObjectProperties.PROPKEY_VEHICLE_TOPIC_WILDCARD_SUBSCRIPTIONS, "true");
+
+    assertWith(
+        MqttSetting.forVehicle(vehicle),
+        optMqttSetting -> {
+          assertThat(optMqttSetting).isPresent();
+
+          MqttSetting mqttSetting = optMqttSetting.get();
+          assertThat(mqttSetting.usesWildcardSubscriptions()).isTrue();
+          assertThat(mqttSetting.toTopicFilter(mqttSetting.stateTopicName()))
+              .isEqualTo("some-interface/v2/+/+/state");
+        }
+    );
+  }
+
+  @Test
+  void useExactTopicFiltersByDefault() {
+    Vehicle vehicle = new Vehicle("some-vehicle")
+        .withProperty(ObjectProperties.PROPKEY_VEHICLE_INTERFACE_NAME, "some-interface")
+        .withProperty(ObjectProperties.PROPKEY_VEHICLE_MANUFACTURER, "some-manufacturer")
+        .withProperty(ObjectProperties.PROPKEY_VEHICLE_SERIAL_NUMBER, "1234");
+
+    assertWith(
+        MqttSetting.forVehicle(vehicle),
+        optMqttSetting -> {
+          assertThat(optMqttSetting).isPresent();
+
+          MqttSetting mqttSetting = optMqttSetting.get();
+          assertThat(mqttSetting.usesWildcardSubscriptions()).isFalse();
+          assertThat(mqttSetting.toTopicFilter(mqttSetting.stateTopicName()))
+              .isEqualTo(mqttSetting.stateTopicName());
+        }
+    );
+  }
+
+  @Test
+  void useExactTopicFiltersWithCustomPrefix() {
+    Vehicle vehicle = new Vehicle("some-vehicle")
+        .withProperty(ObjectProperties.PROPKEY_VEHICLE_TOPIC_PREFIX, "some-prefix")
+        .withProperty(ObjectProperties.PROPKEY_VEHICLE_MANUFACTURER, "some-manufacturer")
+        .withProperty(ObjectProperties.PROPKEY_VEHICLE_SERIAL_NUMBER, "1234")
+        .withProperty(ObjectProperties.PROPKEY_VEHICLE_TOPIC_WILDCARD_SUBSCRIPTIONS, "true");
+
+    assertThat(MqttSetting.forVehicle(vehicle))
+        .isPresent()
+        .get()
+        .extracting(MqttSetting::usesWildcardSubscriptions)
+        .isEqualTo(false);
+  }
+
   @Test
   void parseQualityOfService() {
     Vehicle vehicle = new Vehicle("some-vehicle")
@@ -0,0 +1,132 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.commadapter.vehicle.vda5050.v2_0;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.commadapter.vehicle.vda5050.common.JsonBinder;
+import org.opentcs.commadapter.vehicle.vda5050.common.OptionalParameterSupport;
+import org.opentcs.commadapter.vehicle.vda5050.common.UnsupportedPropertiesFilter;
+import org.opentcs.commadapter.vehicle.vda5050.v2_0.message.order.Edge;
+import org.opentcs.commadapter.vehicle.vda5050.v2_0.message.order.Node;
+import org.opentcs.commadapter.vehicle.vda5050.v2_0.message.order.Order;
+import org.opentcs.data.model.Vehicle;
+
+/**
+ * Unit tests for {@link OrderSerializer}.
+ */
+class OrderSerializerTest {
+
+  private JsonBinder jsonBinder;
+
+  private OrderSerializer serializer;
+
+  private Node node1;
+
+  private Node node2;
+
+  private Node node3;
+
+  private Edge edge1;
+
+  private Edge edge2;
+
+  @BeforeEach
+  void setUp() {
+    jsonBinder = spy(new JsonBinder());
+    serializer = new OrderSerializer(jsonBinder);
+
+    node1 = new Node("node-1", 0L, true, List.of()).setNodeDescription("first");
+    node2 = new Node("node-2", 2L, true, List.of()).setNodeDescription("second");
+    node3 = new Node("node-3", 4L, false, List.of()).setNodeDescription("third");
+    edge1 = new Edge("edge-1", 1L, true, "node-1", "node-2", List.of()).setMaxSpeed(1.0);
+    edge2 = new Edge("edge-2", 3L, false, "node-2", "node-3", List.of()).setMaxSpeed(2.0);
+  }
+
+  @Test
+  void produceSameJsonAsJsonBinder() {
+    Order order = createOrder(0L, List.of(node1, node2, node3), List.of(edge1, edge2));
+
+    assertThat(serializer.toJson(order)).isEqualTo(jsonBinder.toJson(order));
+  }
+
+  @Test
+  void produceSameJsonAsJsonBinderWithFilter() {
+    jsonBinder.setFilter(
+        new UnsupportedPropertiesFilter(
+            new Vehicle("vehicle"),
+            vehicle -> Map.of(
+                "zoneSetId", OptionalParameterSupport.NOT_SUPPORTED,
+                "nodes.nodeDescription", OptionalParameterSupport.NOT_SUPPORTED,
+                "edges.maxSpeed", OptionalParameterSupport.NOT_SUPPORTED
+            )
+        )
+    );
+    Order order = createOrder(0L, List.of(node1, node2, node3), List.of(edge1, edge2));
+
+    String json = serializer.toJson(order);
+
+    assertThat(json)
+        .isEqualTo(jsonBinder.toJson(order))
+        .doesNotContain("zoneSetId", "nodeDescription", "maxSpeed");
+  }
+
+  @Test
+  void produceSameJsonAsJsonBinderWithoutEdges() {
+    Order order = createOrder(0L, List.of(node1), List.of());
+
+    assertThat(serializer.toJson(order)).isEqualTo(jsonBinder.toJson(order));
+  }
+
+  @Test
+  void reuseFragmentsOfSameNodesAndEdges() {
+    serializer.toJson(createOrder(0L, List.of(node1, node2, node3), List.of(edge1, edge2)));
+    Order update = createOrder(1L, List.of(node2, node3), List.of(edge2));
+
+    assertThat(serializer.toJson(update)).isEqualTo(jsonBinder.toJson(update));
+    verify(jsonBinder, times(5)).toJsonFragment(any(), anyString());
+    assertThat(serializer.getCachedFragmentCount()).isEqualTo(5);
+  }
+
+  @Test
+  void serializeNodesAndEdgesMappedAgain() {
+    serializer.toJson(createOrder(0L, List.of(node1, node2, node3), List.of(edge1, edge2)));
+    Node releasedNode3 = new Node("node-3", 4L, true, List.of());
+    Edge releasedEdge2 = new Edge("edge-2", 3L, true, "node-2", "node-3", List.of());
+    Node otherNode2 = new Node("node-2", 2L, true, List.of()).setNodeDescription("other");
+    Order update = createOrder(
+        1L,
+        List.of(otherNode2, releasedNode3),
+        List.of(releasedEdge2)
+    );
+
+    String json = serializer.toJson(update);
+
+    assertThat(json)
+        .isEqualTo(jsonBinder.toJson(update))
+        .contains("other")
+        .doesNotContain("second");
+    verify(jsonBinder, times(8)).toJsonFragment(any(), anyString());
+  }
+
+  private Order createOrder(long orderUpdateId, List<Node> nodes, List<Edge> edges) {
+    Order order = new Order("order-1", orderUpdateId, nodes, edges)
+        .setZoneSetId("zone-set-1");
+    order.setHeaderId(orderUpdateId);
+    order.setTimestamp(Instant.EPOCH);
+    order.setVersion("2.0.0");
+    order.setManufacturer("manufacturer");
+    order.setSerialNumber("serial-number");
+    return order;
+  }
+}
@@ -3,6 +3,8 @@
 package org.opentcs.commadapter.vehicle.vda5050.v2_0;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.opentcs.commadapter.vehicle.vda5050.v2_0.ObjectProperties.PROPKEY_VEHICLE_DEVIATION_XY;
 import static org.opentcs.commadapter.vehicle.vda5050.v2_0.ObjectProperties.PROPKEY_VEHICLE_INTERFACE_NAME;
 import static org.opentcs.commadapter.vehicle.vda5050.v2_0.ObjectProperties.PROPKEY_VEHICLE_MANUFACTURER;
 import static org.opentcs.commadapter.vehicle.vda5050.v2_0.ObjectProperties.PROPKEY_VEHICLE_SERIAL_NUMBER;
@@ -10,7 +12,10 @@ import static org.opentcs.commadapter.vehicle.vda5050.v2_0.ObjectProperties.PROP
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.model.Point;
 import org.opentcs.data.model.Vehicle;
+import org.opentcs.util.event.EventSource;
 
 /**
  * Tests for {@link PositionDeviationPolicyImpl}.
@@ -29,7 +34,10 @@ class PositionDeviationPolicyFactoryImplTest {
         .withProperty(PROPKEY_VEHICLE_MANUFACTURER, "manufacturer")
         .withProperty(PROPKEY_VEHICLE_SERIAL_NUMBER, "serialno");
 
-    factory = new PositionDeviationPolicyFactoryImpl(new VehicleHasRequiredProperties());
+    factory = new PositionDeviationPolicyFactoryImpl(
+        new VehicleHasRequiredProperties(),
+        mock(EventSource.class)
+    );
   }
 
   @Test
@@ -52,4 +60,50 @@ class PositionDeviationPolicyFactoryImplTest {
     )
         .isEmpty();
   }
+
+  @Test
+  void providePolicyWithCurrentPropertiesOfVehicle() {
+    Point point = new Point("point-1");
+
+    assertThat(
+        factory.createPolicyFor(
+            vehicleWithRequiredProperties.withProperty(PROPKEY_VEHICLE_DEVIATION_XY, "0.5")
+        )
+    )
+        .hasValueSatisfying(
+            policy -> assertThat(policy.allowedDeviationDistance(point)).isEqualTo(500L)
+        );
+    assertThat(
+        factory.createPolicyFor(
+            vehicleWithRequiredProperties.withProperty(PROPKEY_VEHICLE_DEVIATION_XY, "0.7")
+        )
+    )
+        .hasValueSatisfying(
+            policy -> assertThat(policy.allowedDeviationDistance(point)).isEqualTo(700L)
+        );
+  }
+
+  @Test
+  void discardProfileOfRemovedVehicle() {
+    factory.createPolicyFor(vehicleWithRequiredProperties);
+    assertThat(factory.getVehicleProfileCount()).isEqualTo(1);
+
+    factory.onEvent(
+        new TCSObjectEvent(null, vehicleWithRequiredProperties, TCSObjectEvent.Type.OBJECT_REMOVED)
+    );
+
+    assertThat(factory.getVehicleProfileCount()).isZero();
+  }
+
+  @Test
+  void discardProfileOfVehicleWithoutRequiredProperties() {
+    factory.createPolicyFor(vehicleWithRequiredProperties);
+    assertThat(factory.getVehicleProfileCount()).isEqualTo(1);
+
+    factory.createPolicyFor(
+        vehicleWithRequiredProperties.withProperty(PROPKEY_VEHICLE_SERIAL_NUMBER, null)
+    );
+
+    assertThat(factory.getVehicleProfileCount()).isZero();
+  }
 }
@@ -0,0 +1,144 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.commadapter.vehicle.vda5050.v2_0;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.opentcs.commadapter.vehicle.vda5050.v2_0.ObjectProperties.PROPKEY_POINT_DEVIATION_XY;
+import static org.opentcs.commadapter.vehicle.vda5050.v2_0.ObjectProperties.PROPKEY_POINT_MAP_ID;
+import static org.opentcs.commadapter.vehicle.vda5050.v2_0.ObjectProperties.PROPKEY_VEHICLE_DEVIATION_THETA;
+import static org.opentcs.commadapter.vehicle.vda5050.v2_0.ObjectProperties.PROPKEY_VEHICLE_DEVIATION_XY;
+import static org.opentcs.commadapter.vehicle.vda5050.v2_0.ObjectProperties.PROPKEY_VEHICLE_EXTENDED_DEVIATION_RANGE_PADDING;
+import static org.opentcs.commadapter.vehicle.vda5050.v2_0.ObjectProperties.PROPKEY_VEHICLE_MAP_ID;
+import static org.opentcs.commadapter.vehicle.vda5050.v2_0.ObjectProperties.PROPKEY_VEHICLE_MAX_DISTANCE_HORIZON;
+import static org.opentcs.commadapter.vehicle.vda5050.v2_0.ObjectProperties.PROPKEY_VEHICLE_MAX_ORDER_SIZE;
+import static org.opentcs.commadapter.vehicle.vda5050.v2_0.ObjectProperties.PROPKEY_VEHICLE_MAX_STEPS_HORIZON;
+import static org.opentcs.commadapter.vehicle.vda5050.v2_0.ObjectProperties.PROPKEY_VEHICLE_MAX_TRAVEL_TIME_HORIZON;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.commadapter.vehicle.vda5050.v2_0.ordermapping.NodeMapping;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+
+/**
+ * Unit tests for {@link VehicleProfile}.
+ */
+class VehicleProfileTest {
+
+  private Vehicle vehicle;
+
+  private Point point;
+
+  @BeforeEach
+  void setUp() {
+    vehicle = new Vehicle("vehicle-1")
+        .withProperty(PROPKEY_VEHICLE_MAP_ID, "map-1")
+        .withProperty(PROPKEY_VEHICLE_DEVIATION_XY, "0.5")
+        .withProperty(PROPKEY_VEHICLE_DEVIATION_THETA, "30.0")
+        .withProperty(PROPKEY_VEHICLE_MAX_STEPS_HORIZON, "3");
+    point = new Point("point-1");
+  }
+
+  @Test
+  void useValuesOfVehicle() {
+    VehicleProfile profile = VehicleProfile.of(vehicle);
+
+    assertThat(profile.getMapId(point)).contains("map-1");
+    assertThat(profile.getDeviationXY(point)).contains(0.5);
+    assertThat(profile.getDeviationTheta(point)).contains(30.0);
+    assertThat(profile.getMaxStepsHorizon()).contains(3);
+  }
+
+  @Test
+  void preferValuesOfPoint() {
+    Point pointWithValues = point
+        .withProperty(PROPKEY_POINT_MAP_ID, "map-2")
+        .withProperty(PROPKEY_POINT_DEVIATION_XY, "1.5");
+
+    VehicleProfile profile = VehicleProfile.of(vehicle);
+
+    assertThat(profile.getMapId(pointWithValues)).contains("map-2");
+    assertThat(profile.getDeviationXY(pointWithValues)).contains(1.5);
+    assertThat(profile.getDeviationTheta(pointWithValues)).contains(30.0);
+  }
+
+  @Test
+  void fallBackToValueOfVehicleIfValueOfPointIsInvalid() {
+    Point pointWithValues = point.withProperty(PROPKEY_POINT_DEVIATION_XY, "invalid");
+
+    VehicleProfile profile = VehicleProfile.of(vehicle);
+
+    assertThat(profile.getDeviationXY(pointWithValues)).contains(0.5);
+  }
+
+  @Test
+  void lookUpValuesOfPointAgainIfPropertiesChanged() {
+    VehicleProfile profile = VehicleProfile.of(vehicle);
+
+    assertThat(profile.getDeviationXY(point.withProperty(PROPKEY_POINT_DEVIATION_XY, "1.5")))
+        .contains(1.5);
+    assertThat(profile.getDeviationXY(point.withProperty(PROPKEY_POINT_DEVIATION_XY, "2.5")))
+        .contains(2.5);
+    assertThat(profile.getDeviationXY(point)).contains(0.5);
+  }
+
+  @Test
+  void returnEmptyValuesIfNotSet() {
+    VehicleProfile profile = VehicleProfile.of(new Vehicle("vehicle-2"));
+
+    assertThat(profile.getMapId(point)).isEmpty();
+    assertThat(profile.getDeviationXY(point)).isEmpty();
+    assertThat(profile.getDeviationTheta(point)).isEmpty();
+    assertThat(profile.getMaxStepsHorizon()).isEmpty();
+    assertThat(profile.getExtendedDeviationRangePadding())
+        .isEqualTo(NodeMapping.EXTENDED_DEVIATION_RANGE_PADDING_DEFAULT);
+  }
+
+  @Test
+  void ignoreNegativeExtendedDeviationRangePadding() {
+    VehicleProfile profile = VehicleProfile.of(
+        vehicle.withProperty(PROPKEY_VEHICLE_EXTENDED_DEVIATION_RANGE_PADDING, "-1.0")
+    );
+
+    assertThat(profile.getExtendedDeviationRangePadding()).isEqualTo(0.0);
+  }
+
+  @Test
+  void useHorizonBudgetsOfVehicle() {
+    VehicleProfile profile = VehicleProfile.of(
+        vehicle
+            .withProperty(PROPKEY_VEHICLE_MAX_DISTANCE_HORIZON, "10000")
+            .withProperty(PROPKEY_VEHICLE_MAX_TRAVEL_TIME_HORIZON, "-1")
+            .withProperty(PROPKEY_VEHICLE_MAX_ORDER_SIZE, "4096")
+    );
+
+    assertThat(profile.getMaxDistanceHorizon()).contains(10000L);
+    assertThat(profile.getMaxTravelTimeHorizon()).isEmpty();
+    assertThat(profile.getMaxOrderSize()).contains(4096);
+  }
+
+  @Test
+  void keepProfileIfPropertiesUnchanged() {
+    VehicleProfile profile = VehicleProfile.of(vehicle);
+
+    assertThat(VehicleProfile.refresh(profile, vehicle.withEnergyLevel(42))).isSameAs(profile);
+  }
+
+  @Test
+  void createNewProfileIfPropertiesChanged() {
+    VehicleProfile profile = VehicleProfile.of(vehicle);
+
+    VehicleProfile refreshedProfile = VehicleProfile.refresh(
+        profile,
+        vehicle.withProperty(PROPKEY_VEHICLE_DEVIATION_XY, "0.7")
+    );
+
+    assertThat(refreshedProfile).isNotSameAs(profile);
+    assertThat(refreshedProfile.getDeviationXY(point)).contains(0.7);
+  }
+
+  @Test
+  void createNewProfileIfNoneGiven() {
+    assertThat(VehicleProfile.refresh(null, vehicle).getMaxStepsHorizon()).contains(3);
+  }
+}
@@ -57,12 +57,12 @@ public class InstantActionsTest {
 
   @Test
   public void jsonSampleMinimal() {
-    Approvals.verify(jsonBinder.toJson(createInstantActionsMinimal()));
+    Approvals.verify(jsonBinder.toPrettyJson(createInstantActionsMinimal()));
   }
 
   @Test
   public void jsonSampleFull() {
-    Approvals.verify(jsonBinder.toJson(createInstantActionsFull()));
+    Approvals.verify(jsonBinder.toPrettyJson(createInstantActionsFull()));
   }
 
   private InstantActions createInstantActionsMinimal() {
@@ -60,7 +60,7 @@ public class StateTest {
   @Test
   public void deserializeJsonWithNullForOptionalFields() {
     Approvals.verify(
-        jsonBinder.toJson(
+        jsonBinder.toPrettyJson(
             jsonBinder.fromJson(
                 ResourceLoader.load(RESOURCE_DIR + "stateMessageWithNullForOptionalFields.json"),
                 State.class
@@ -80,7 +80,7 @@ public class StateTest {
   @Test
   public void deserializeJsonWithNullForOptionalRootFields() {
     Approvals.verify(
-        jsonBinder.toJson(
+        jsonBinder.toPrettyJson(
             jsonBinder.fromJson(
                 ResourceLoader.load(
                     RESOURCE_DIR + "stateMessageWithNullForOptionalRootFields.json"
@@ -93,12 +93,12 @@ public class StateTest {
 
   @Test
   public void jsonSampleMinimal() {
-    Approvals.verify(jsonBinder.toJson(createStateMinimal()));
+    Approvals.verify(jsonBinder.toPrettyJson(createStateMinimal()));
   }
 
   @Test
   public void jsonSampleFull() {
-    Approvals.verify(jsonBinder.toJson(createStateFull()));
+    Approvals.verify(jsonBinder.toPrettyJson(createStateFull()));
   }
 
   private static State createStateMinimal() {